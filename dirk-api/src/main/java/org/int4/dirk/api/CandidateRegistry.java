@@ -111,6 +111,44 @@ public interface CandidateRegistry {
    */
   void remove(Collection<Type> types) throws AutoDiscoveryException, DefinitionException, DependencyException;
 
+  /**
+   * Removes the given {@link Type}s and registers the other given {@link Type}s, including
+   * all their derived candidates if any, as a single operation. The invariants are only
+   * checked for the final result, which allows replacing types on which other registered
+   * types depend. Types which are part of both collections are left untouched.<p>
+   *
+   * If the result would have unresolvable or ambiguous dependencies, then neither
+   * the removal nor the registration takes place and an exception is thrown.<p>
+   *
+   * The default implementation removes the types and then registers the other types,
+   * restoring the removed types if the registration fails. Unlike an implementation
+   * which performs a single operation, it cannot replace types on which other registered
+   * types depend, and it removes and registers types which are part of both collections.
+   *
+   * @param removedTypes a collection of types to remove, cannot be {@code null} or contain {@code null}s
+   * @param addedTypes a collection of types to register, cannot be {@code null} or contain {@code null}s
+   * @throws AutoDiscoveryException when auto discovery fails to find all required types
+   * @throws DefinitionException when a definition problem was encountered
+   * @throws DependencyException when dependencies between registered types cannot be resolved
+   */
+  default void replace(Collection<Type> removedTypes, Collection<Type> addedTypes) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    remove(removedTypes);
+
+    try {
+      register(addedTypes);
+    }
+    catch(RuntimeException e) {
+      try {
+        register(removedTypes);
+      }
+      catch(RuntimeException e2) {
+        e.addSuppressed(e2);
+      }
+
+      throw e;
+    }
+  }
+
   /**
    * Removes an instance, and all its derived candidates if any, if doing so
    * would not result in broken dependencies in the remaining registered types.<p>
@@ -1,5 +1,13 @@
 package org.int4.dirk.api;
 
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.int4.dirk.api.metrics.Metric;
+
 /**
  * An injector is a combination of a {@link CandidateRegistry} and an {@link InstanceResolver},
  * providing the functionality of both interfaces in a single type.
@@ -24,6 +32,11 @@ package org.int4.dirk.api;
  * <li>Registering a class which either provides or produces instances of B (or a subclass); again
  *     this would make construction of A ambiguous.</li>
  * </ul>
+ *
+ * <p>Dependent instances which need to be destroyed, for example because they have a pre-destroy
+ * life cycle callback, and which are obtained directly from an injector with methods like
+ * {@link #getInstance(Class, Object...)}, are retained by the injector until they are released
+ * with {@link #release(Object)} or the injector is closed.
  */
 public interface Injector extends CandidateRegistry, InstanceResolver {
 
@@ -42,4 +55,73 @@ public interface Injector extends CandidateRegistry, InstanceResolver {
    * @return a {@link CandidateRegistry}, never {@code null}
    */
   CandidateRegistry getCandidateRegistry();
+
+  /**
+   * Returns the current values of the metrics of this injector. The metrics describe
+   * the registered candidates, the instances held in scopes, the dependent instances
+   * tracked for later destruction and the effectiveness of internal caches. They
+   * are intended to be exported to a monitoring system, for example to detect
+   * dependent instances which are never destroyed.
+   *
+   * <p>The names and tags of the metrics reported are:
+   *
+   * <ul>
+   * <li>{@code injectables} (gauge, {@code scope}): the number of registered candidates per scope</li>
+   * <li>{@code scope.lookups} (counter, {@code scope}, {@code result}): the number of times an existing instance was looked up in a scope, with result {@code hit} or {@code miss}</li>
+   * <li>{@code scope.instances} (gauge, {@code scope}): the number of instances held in all active scopes of a scope annotation</li>
+   * <li>{@code dependents} (gauge): the number of dependent instances tracked by instance providers until they are destroyed</li>
+   * <li>{@code proxy.classes} (gauge): the number of classes for which proxies were created</li>
+   * <li>{@code discovery.cache.size} (gauge): the number of types of which the derived candidates are cached</li>
+   * </ul>
+   *
+   * <p>Injectors may only collect metrics when this was requested during their construction,
+   * as collecting them adds a small cost to obtaining instances. The default implementation
+   * returns an empty list.
+   *
+   * @return a list of {@link Metric}s, never {@code null} or contains {@code null}s
+   */
+  default List<Metric> getMetrics() {
+    return List.of();
+  }
+
+  /**
+   * Destroys the given dependent instance, which was obtained directly from this
+   * injector, and stops retaining it. Instances which are not retained by this
+   * injector, like scoped instances or instances which need not be destroyed,
+   * are ignored.
+   *
+   * <p>The default implementation does nothing.
+   *
+   * @param instance an instance obtained from this injector, can be {@code null}
+   */
+  default void release(Object instance) {
+  }
+
+  /**
+   * Destroys all instances of scoped types which currently exist in an active
+   * scope. Instances are destroyed in reverse dependency order: an instance is only
+   * destroyed after all instances which depend on it were destroyed. Instances which
+   * do not depend on each other are destroyed concurrently using the given {@link Executor}.
+   *
+   * <p>This method waits at most the given timeout for all instances to be destroyed.
+   * The types of any instances which were not destroyed before the timeout expired
+   * are returned; these instances are still destroyed once their dependents finish.
+   *
+   * <p>Before the scoped instances are destroyed, the dependent instances which were
+   * obtained directly from this injector, and which need to be destroyed, are destroyed
+   * on the calling thread. Dependent instances obtained from providers, or similar
+   * indirections, are destroyed when the instance they were injected into is destroyed.
+   *
+   * <p>The injector should not be used to obtain further instances after it was closed.
+   *
+   * <p>The default implementation does not destroy anything and returns an empty set.
+   *
+   * @param timeout the maximum time to wait, cannot be {@code null}
+   * @param executor an {@link Executor} used to destroy instances, cannot be {@code null}
+   * @return a set of {@link Type}s of which instances were not destroyed before the timeout expired, never {@code null} but can be empty
+   * @throws InterruptedException when the calling thread was interrupted while waiting
+   */
+  default Set<Type> close(Duration timeout, Executor executor) throws InterruptedException {
+    return Set.of();
+  }
 }
@@ -2,6 +2,9 @@ package org.int4.dirk.api;
 
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.int4.dirk.api.instantiation.AmbiguousResolutionException;
 import org.int4.dirk.api.instantiation.CreationException;
@@ -75,6 +78,58 @@ public interface InstanceResolver {
    */
   <T> T getInstance(Class<T> cls, Object... qualifiers) throws UnsatisfiedResolutionException, AmbiguousResolutionException, CreationException, ScopeNotActiveException;
 
+  /**
+   * Finds an instance of the type specified by the given {@link TypeLiteral} matching the given
+   * criteria (if any) in which all dependencies are injected. The instance returned can either
+   * be an existing instance or newly created depending on its scope. Unlike {@link #getInstance(TypeLiteral, Object...)},
+   * an empty {@link Optional} is returned when there is no matching instance or when the scope
+   * for the produced type is not active.
+   *
+   * <p>The default implementation calls {@link #getInstance(TypeLiteral, Object...)}, and returns an empty
+   * {@link Optional} when it reports there is no match or the scope is not active.
+   *
+   * @param <T> the type of the instance
+   * @param typeLiteral specifies the type of the instance required, cannot be {@code null}
+   * @param qualifiers optional list of qualifier annotations, either {@link java.lang.annotation.Annotation} or {@link Class}&lt;? extends Annotation&gt;
+   * @return an {@link Optional} containing an instance of the given type matching the given criteria, never {@code null}
+   * @throws AmbiguousResolutionException when multiple matching instances were available
+   * @throws CreationException when an error occurred during creation of a matching instance
+   */
+  default <T> Optional<T> findInstance(TypeLiteral<T> typeLiteral, Object... qualifiers) throws AmbiguousResolutionException, CreationException {
+    try {
+      return Optional.ofNullable(getInstance(typeLiteral, qualifiers));
+    }
+    catch(UnsatisfiedResolutionException | ScopeNotActiveException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Finds an instance of the given class matching the given criteria (if any) in
+   * which all dependencies are injected. The instance returned can either
+   * be an existing instance or newly created depending on its scope. Unlike {@link #getInstance(Class, Object...)},
+   * an empty {@link Optional} is returned when there is no matching instance or when the scope
+   * for the produced type is not active.
+   *
+   * <p>The default implementation calls {@link #getInstance(Class, Object...)}, and returns an empty
+   * {@link Optional} when it reports there is no match or the scope is not active.
+   *
+   * @param <T> the type of the instance
+   * @param cls the class of the instance required, cannot be {@code null}
+   * @param qualifiers optional list of qualifier annotations, either {@link java.lang.annotation.Annotation} or {@link Class}&lt;? extends Annotation&gt;
+   * @return an {@link Optional} containing an instance of the given class matching the given criteria, never {@code null}
+   * @throws AmbiguousResolutionException when multiple matching instances were available
+   * @throws CreationException when an error occurred during creation of a matching instance
+   */
+  default <T> Optional<T> findInstance(Class<T> cls, Object... qualifiers) throws AmbiguousResolutionException, CreationException {
+    try {
+      return Optional.ofNullable(getInstance(cls, qualifiers));
+    }
+    catch(UnsatisfiedResolutionException | ScopeNotActiveException e) {
+      return Optional.empty();
+    }
+  }
+
   /**
    * Returns all instances of the type specified by the given {@link TypeLiteral} matching the given
    * criteria (if any) in which all dependencies are injected.  When there are no matches, an empty
@@ -102,4 +157,92 @@ public interface InstanceResolver {
    * @throws CreationException when an error occurred during creation of a matching instance
    */
   <T> List<T> getInstances(Class<T> cls, Object... qualifiers) throws CreationException;
+
+  /**
+   * Asynchronously creates an instance of the type specified by the given {@link TypeLiteral} matching
+   * the given criteria (if any) in which all dependencies are injected. The instance is obtained
+   * on the given {@link Executor}. Singleton dependencies of the instance which do not exist yet
+   * are created beforehand, concurrently if they do not depend on each other.
+   *
+   * <p>The returned future completes exceptionally with the exceptions documented for
+   * {@link #getInstance(TypeLiteral, Object...)}.
+   *
+   * <p>The default implementation calls {@link #getInstance(TypeLiteral, Object...)} on the given {@link Executor},
+   * without creating any dependencies beforehand.
+   *
+   * @param <T> the type of the instance
+   * @param executor an {@link Executor} used to create instances, cannot be {@code null}
+   * @param typeLiteral specifies the type of the instance required, cannot be {@code null}
+   * @param qualifiers optional list of qualifier annotations, either {@link java.lang.annotation.Annotation} or {@link Class}&lt;? extends Annotation&gt;
+   * @return a {@link CompletableFuture} which completes with an instance of the given type matching the given criteria, never {@code null}
+   */
+  default <T> CompletableFuture<T> getInstanceAsync(Executor executor, TypeLiteral<T> typeLiteral, Object... qualifiers) {
+    return CompletableFuture.supplyAsync(() -> getInstance(typeLiteral, qualifiers), executor);
+  }
+
+  /**
+   * Asynchronously creates an instance of the given class matching the given criteria (if any)
+   * in which all dependencies are injected. The instance is obtained on the given {@link Executor}.
+   * Singleton dependencies of the instance which do not exist yet are created beforehand,
+   * concurrently if they do not depend on each other.
+   *
+   * <p>The returned future completes exceptionally with the exceptions documented for
+   * {@link #getInstance(Class, Object...)}.
+   *
+   * <p>The default implementation calls {@link #getInstance(Class, Object...)} on the given {@link Executor},
+   * without creating any dependencies beforehand.
+   *
+   * @param <T> the type of the instance
+   * @param executor an {@link Executor} used to create instances, cannot be {@code null}
+   * @param cls the class of the instance required, cannot be {@code null}
+   * @param qualifiers optional list of qualifier annotations, either {@link java.lang.annotation.Annotation} or {@link Class}&lt;? extends Annotation&gt;
+   * @return a {@link CompletableFuture} which completes with an instance of the given class matching the given criteria, never {@code null}
+   */
+  default <T> CompletableFuture<T> getInstanceAsync(Executor executor, Class<T> cls, Object... qualifiers) {
+    return CompletableFuture.supplyAsync(() -> getInstance(cls, qualifiers), executor);
+  }
+
+  /**
+   * Asynchronously creates all instances of the type specified by the given {@link TypeLiteral}
+   * matching the given criteria (if any) in which all dependencies are injected. The instances
+   * are obtained on the given {@link Executor}. Singleton dependencies of the instances which
+   * do not exist yet are created beforehand, concurrently if they do not depend on each other.
+   *
+   * <p>The returned future completes exceptionally with the exceptions documented for
+   * {@link #getInstances(TypeLiteral, Object...)}.
+   *
+   * <p>The default implementation calls {@link #getInstances(TypeLiteral, Object...)} on the given {@link Executor},
+   * without creating any dependencies beforehand.
+   *
+   * @param <T> the type of the instances
+   * @param executor an {@link Executor} used to create instances, cannot be {@code null}
+   * @param typeLiteral specifies the type of the instances required, cannot be {@code null}
+   * @param qualifiers optional list of qualifier annotations, either {@link java.lang.annotation.Annotation} or {@link Class}&lt;? extends Annotation&gt;
+   * @return a {@link CompletableFuture} which completes with all instances of the given {@link Type} matching the given criteria (if any), never {@code null}
+   */
+  default <T> CompletableFuture<List<T>> getInstancesAsync(Executor executor, TypeLiteral<T> typeLiteral, Object... qualifiers) {
+    return CompletableFuture.supplyAsync(() -> getInstances(typeLiteral, qualifiers), executor);
+  }
+
+  /**
+   * Asynchronously creates all instances of the given class matching the given criteria (if any)
+   * in which all dependencies are injected. The instances are obtained on the given {@link Executor}.
+   * Singleton dependencies of the instances which do not exist yet are created beforehand,
+   * concurrently if they do not depend on each other.
+   *
+   * <p>The returned future completes exceptionally with the exceptions documented for
+   * {@link #getInstances(Class, Object...)}.
+   *
+   * <p>The default implementation calls {@link #getInstances(Class, Object...)} on the given {@link Executor},
+   * without creating any dependencies beforehand.
+   *
+   * @param <T> the type of the instances
+   * @param executor an {@link Executor} used to create instances, cannot be {@code null}
+   * @param cls the class of the instances required, cannot be {@code null}
+   * @param qualifiers optional list of qualifier annotations, either {@link java.lang.annotation.Annotation} or {@link Class}&lt;? extends Annotation&gt;
+   * @return a {@link CompletableFuture} which completes with all instances of the given class matching the given criteria (if any), never {@code null}
+   */
+  default <T> CompletableFuture<List<T>> getInstancesAsync(Executor executor, Class<T> cls, Object... qualifiers) {
+    return CompletableFuture.supplyAsync(() -> getInstances(cls, qualifiers), executor);
+  }
 }
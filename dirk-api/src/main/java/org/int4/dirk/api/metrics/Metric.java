@@ -0,0 +1,127 @@
+package org.int4.dirk.api.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A measurement reported by an injector, consisting of a name, a set of tags
+ * which distinguish measurements with the same name, and a value.
+ *
+ * <p>Counters only ever increase over the lifetime of an injector, and are suitable
+ * for calculating rates. Gauges reflect the current value of a quantity, which can
+ * increase and decrease.
+ */
+public final class Metric {
+
+  /**
+   * The kinds of metrics.
+   */
+  public enum Kind {
+
+    /**
+     * A value which only increases.
+     */
+    COUNTER,
+
+    /**
+     * A value which can increase and decrease.
+     */
+    GAUGE
+  }
+
+  private final String name;
+  private final Map<String, String> tags;
+  private final Kind kind;
+  private final long value;
+
+  /**
+   * Creates a new counter.
+   *
+   * @param name a name, cannot be {@code null}
+   * @param tags a map of tags, cannot be {@code null} or contain {@code null}s but can be empty
+   * @param value a value
+   * @return a {@link Metric}, never {@code null}
+   */
+  public static Metric counter(String name, Map<String, String> tags, long value) {
+    return new Metric(name, tags, Kind.COUNTER, value);
+  }
+
+  /**
+   * Creates a new gauge.
+   *
+   * @param name a name, cannot be {@code null}
+   * @param tags a map of tags, cannot be {@code null} or contain {@code null}s but can be empty
+   * @param value a value
+   * @return a {@link Metric}, never {@code null}
+   */
+  public static Metric gauge(String name, Map<String, String> tags, long value) {
+    return new Metric(name, tags, Kind.GAUGE, value);
+  }
+
+  private Metric(String name, Map<String, String> tags, Kind kind, long value) {
+    this.name = Objects.requireNonNull(name, "name cannot be null");
+    this.tags = Map.copyOf(Objects.requireNonNull(tags, "tags cannot be null"));
+    this.kind = kind;
+    this.value = value;
+  }
+
+  /**
+   * Returns the name of this metric.
+   *
+   * @return the name of this metric, never {@code null}
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the tags of this metric.
+   *
+   * @return an immutable map of tags, never {@code null} but can be empty
+   */
+  public Map<String, String> getTags() {
+    return tags;
+  }
+
+  /**
+   * Returns the {@link Kind} of this metric.
+   *
+   * @return the {@link Kind} of this metric, never {@code null}
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Returns the value of this metric.
+   *
+   * @return the value of this metric
+   */
+  public long getValue() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(this == obj) {
+      return true;
+    }
+    if(obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+
+    Metric other = (Metric)obj;
+
+    return name.equals(other.name) && tags.equals(other.tags) && kind == other.kind && value == other.value;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, tags, kind, value);
+  }
+
+  @Override
+  public String toString() {
+    return kind + "[" + name + tags + " = " + value + "]";
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the metrics an injector reports about itself.
+ */
+package org.int4.dirk.api.metrics;
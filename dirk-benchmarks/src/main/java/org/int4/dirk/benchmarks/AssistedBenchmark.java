@@ -0,0 +1,84 @@
+package org.int4.dirk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.annotations.Argument;
+import org.int4.dirk.annotations.Assisted;
+import org.int4.dirk.api.Injector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures calls to a generated assisted injection factory. The CDI flavour does
+ * not support assisted injection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssistedBenchmark {
+
+  @Param({"JSR330", "JAKARTA", "DI"})
+  public Flavour flavour;
+
+  private ProductFactory factory;
+  private int argument;
+
+  /**
+   * Creates an injector and obtains the generated factory.
+   *
+   * @throws Exception when registration or resolution fails
+   */
+  @Setup
+  public void setup() throws Exception {
+    Injector injector = flavour.create(false);
+
+    injector.register(Service.class);
+    injector.register(ProductFactory.class);
+
+    factory = injector.getInstance(ProductFactory.class);
+  }
+
+  /**
+   * Creates a product with the factory.
+   *
+   * @return the product, never {@code null}
+   */
+  @Benchmark
+  public Object create() {
+    return factory.create(argument++);
+  }
+
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class Service {
+  }
+
+  @Assisted
+  public static class Product {
+    final Service service;
+    final int value;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Product(Service service, @Argument("value") int value) {
+      this.service = service;
+      this.value = value;
+    }
+  }
+
+  public interface ProductFactory {
+    Product create(@Argument("value") int value);
+  }
+}
@@ -0,0 +1,152 @@
+package org.int4.dirk.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code getInstance} of a singleton and a dependent type from many threads
+ * at once, using platform threads and virtual threads. The virtual thread benchmarks
+ * require a Java 21 or later runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentGetInstanceBenchmark {
+  private static final int TASKS = 100_000;  // enough tasks for virtual threads to contend, which a few thousand do not
+
+  @Param({"JSR330", "JAKARTA", "CDI", "DI"})
+  public Flavour flavour;
+
+  private Injector injector;
+  private ExecutorService virtualThreadExecutor;
+
+  /**
+   * Creates an injector, and an executor which starts a virtual thread per task
+   * when the runtime supports virtual threads.
+   *
+   * @throws Exception when registration fails
+   */
+  @Setup
+  public void setup() throws Exception {
+    injector = flavour.create(false);
+
+    injector.register(SingletonService.class);
+    injector.register(DependentService.class);
+
+    try {
+      // Created reflectively as the benchmarks are compiled for Java 11:
+      virtualThreadExecutor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+    catch(NoSuchMethodException e) {
+      virtualThreadExecutor = null;
+    }
+  }
+
+  /**
+   * Shuts down the virtual thread executor.
+   */
+  @TearDown
+  public void tearDown() {
+    if(virtualThreadExecutor != null) {
+      virtualThreadExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Gets a singleton from many platform threads.
+   *
+   * @return the singleton, never {@code null}
+   * @throws Exception when resolution fails
+   */
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object singletonOnPlatformThreads() throws Exception {
+    return injector.getInstance(SingletonService.class);
+  }
+
+  /**
+   * Gets a new dependent instance from many platform threads.
+   *
+   * @return the instance, never {@code null}
+   * @throws Exception when resolution fails
+   */
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Object dependentOnPlatformThreads() throws Exception {
+    return injector.getInstance(DependentService.class);
+  }
+
+  /**
+   * Gets a singleton from many virtual threads.
+   *
+   * @return the singletons, never {@code null}
+   * @throws Exception when resolution fails
+   */
+  @Benchmark
+  @OperationsPerInvocation(TASKS)
+  public Object singletonOnVirtualThreads() throws Exception {
+    return getOnVirtualThreads(SingletonService.class);
+  }
+
+  /**
+   * Gets new dependent instances from many virtual threads.
+   *
+   * @return the instances, never {@code null}
+   * @throws Exception when resolution fails
+   */
+  @Benchmark
+  @OperationsPerInvocation(TASKS)
+  public Object dependentOnVirtualThreads() throws Exception {
+    return getOnVirtualThreads(DependentService.class);
+  }
+
+  private List<Object> getOnVirtualThreads(Class<?> cls) throws Exception {
+    if(virtualThreadExecutor == null) {
+      throw new IllegalStateException("Virtual threads require Java 21 or later");
+    }
+
+    List<Future<?>> futures = new ArrayList<>(TASKS);
+    List<Object> instances = new ArrayList<>(TASKS);
+
+    for(int i = 0; i < TASKS; i++) {
+      futures.add(virtualThreadExecutor.submit(() -> injector.getInstance(cls)));
+    }
+
+    for(Future<?> future : futures) {
+      instances.add(future.get());
+    }
+
+    return instances;
+  }
+
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class SingletonService {
+  }
+
+  public static class DependentService {
+  }
+}
@@ -0,0 +1,59 @@
+package org.int4.dirk.benchmarks;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.spi.scope.ScopeResolver;
+
+/**
+ * The injector flavours the benchmarks can be run against.
+ */
+public enum Flavour {
+
+  /**
+   * Injectors created by {@link org.int4.dirk.jsr330.Injectors}.
+   */
+  JSR330 {
+    @Override
+    Injector create(boolean autoDiscovering, ScopeResolver... scopeResolvers) {
+      return autoDiscovering ? org.int4.dirk.jsr330.Injectors.autoDiscovering(scopeResolvers) : org.int4.dirk.jsr330.Injectors.manual(scopeResolvers);
+    }
+  },
+
+  /**
+   * Injectors created by {@link org.int4.dirk.jakarta.Injectors}.
+   */
+  JAKARTA {
+    @Override
+    Injector create(boolean autoDiscovering, ScopeResolver... scopeResolvers) {
+      return autoDiscovering ? org.int4.dirk.jakarta.Injectors.autoDiscovering(scopeResolvers) : org.int4.dirk.jakarta.Injectors.manual(scopeResolvers);
+    }
+  },
+
+  /**
+   * Injectors created by {@link org.int4.dirk.cdi.Injectors}.
+   */
+  CDI {
+    @Override
+    Injector create(boolean autoDiscovering, ScopeResolver... scopeResolvers) {
+      return autoDiscovering ? org.int4.dirk.cdi.Injectors.autoDiscovering(scopeResolvers) : org.int4.dirk.cdi.Injectors.manual(scopeResolvers);
+    }
+  },
+
+  /**
+   * Injectors created by {@link org.int4.dirk.di.Injectors}.
+   */
+  DI {
+    @Override
+    Injector create(boolean autoDiscovering, ScopeResolver... scopeResolvers) {
+      return autoDiscovering ? org.int4.dirk.di.Injectors.autoDiscovering(scopeResolvers) : org.int4.dirk.di.Injectors.manual(scopeResolvers);
+    }
+  };
+
+  /**
+   * Creates a new {@link Injector} of this flavour.
+   *
+   * @param autoDiscovering whether the injector should auto discover dependencies
+   * @param scopeResolvers an optional array of {@link ScopeResolver}s
+   * @return an {@link Injector}, never {@code null}
+   */
+  abstract Injector create(boolean autoDiscovering, ScopeResolver... scopeResolvers);
+}
@@ -0,0 +1,127 @@
+package org.int4.dirk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.benchmarks.qualifiers.Blue;
+import org.int4.dirk.benchmarks.qualifiers.Green;
+import org.int4.dirk.benchmarks.qualifiers.Red;
+import org.int4.dirk.util.Annotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code getInstance} of singleton and dependent types annotated with zero
+ * up to three qualifiers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetInstanceBenchmark {
+  private static final Object[][] QUALIFIERS = {
+    {},
+    {Annotations.of(Red.class)},
+    {Annotations.of(Red.class), Annotations.of(Green.class)},
+    {Annotations.of(Red.class), Annotations.of(Green.class), Annotations.of(Blue.class)}
+  };
+
+  private static final Class<?>[] SINGLETONS = {Singleton0.class, Singleton1.class, Singleton2.class, Singleton3.class};
+  private static final Class<?>[] DEPENDENTS = {Dependent0.class, Dependent1.class, Dependent2.class, Dependent3.class};
+
+  @Param({"JSR330", "JAKARTA", "CDI", "DI"})
+  public Flavour flavour;
+
+  @Param({"0", "1", "2", "3"})
+  public int qualifierCount;
+
+  private Injector injector;
+  private Object[] qualifiers;
+
+  /**
+   * Creates an injector with all the types registered.
+   *
+   * @throws Exception when registration fails
+   */
+  @Setup
+  public void setup() throws Exception {
+    injector = flavour.create(false);
+    qualifiers = QUALIFIERS[qualifierCount];
+
+    for(int i = 0; i < SINGLETONS.length; i++) {
+      injector.register(SINGLETONS[i]);
+      injector.register(DEPENDENTS[i]);
+    }
+  }
+
+  /**
+   * Gets a singleton.
+   *
+   * @return the singleton, never {@code null}
+   * @throws Exception when resolution fails
+   */
+  @Benchmark
+  public Object singleton() throws Exception {
+    return injector.getInstance(SINGLETONS[qualifierCount], qualifiers);
+  }
+
+  /**
+   * Gets a new dependent instance.
+   *
+   * @return the instance, never {@code null}
+   * @throws Exception when resolution fails
+   */
+  @Benchmark
+  public Object dependent() throws Exception {
+    return injector.getInstance(DEPENDENTS[qualifierCount], qualifiers);
+  }
+
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class Singleton0 {
+  }
+
+  @Red
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class Singleton1 {
+  }
+
+  @Red @Green
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class Singleton2 {
+  }
+
+  @Red @Green @Blue
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class Singleton3 {
+  }
+
+  public static class Dependent0 {
+  }
+
+  @Red
+  public static class Dependent1 {
+  }
+
+  @Red @Green
+  public static class Dependent2 {
+  }
+
+  @Red @Green @Blue
+  public static class Dependent3 {
+  }
+}
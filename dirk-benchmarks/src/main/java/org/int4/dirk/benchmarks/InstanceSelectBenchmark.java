@@ -0,0 +1,87 @@
+package org.int4.dirk.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.benchmarks.qualifiers.Green;
+import org.int4.dirk.benchmarks.qualifiers.Red;
+import org.int4.dirk.util.Annotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Measures {@code Instance.select().get()}. Only the CDI flavour supports injection
+ * of {@link Instance}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceSelectBenchmark {
+  private static final Annotation RED = Annotations.of(Red.class);
+
+  @Param({"CDI"})
+  public Flavour flavour;
+
+  private Instance<Service> instance;
+
+  /**
+   * Creates an injector and obtains the {@link Instance} to select from.
+   *
+   * @throws Exception when registration or resolution fails
+   */
+  @Setup
+  public void setup() throws Exception {
+    Injector injector = flavour.create(false);
+
+    injector.register(RedService.class);
+    injector.register(GreenService.class);
+    injector.register(Holder.class);
+
+    instance = injector.getInstance(Holder.class).instance;
+  }
+
+  /**
+   * Selects a qualified singleton and gets it.
+   *
+   * @return the singleton, never {@code null}
+   */
+  @Benchmark
+  public Object select() {
+    return instance.select(RED).get();
+  }
+
+  public interface Service {
+  }
+
+  @Red
+  @Singleton
+  public static class RedService implements Service {
+  }
+
+  @Green
+  @Singleton
+  public static class GreenService implements Service {
+  }
+
+  public static class Holder {
+    @Inject @Any Instance<Service> instance;
+  }
+}
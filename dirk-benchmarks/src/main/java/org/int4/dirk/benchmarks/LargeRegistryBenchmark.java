@@ -0,0 +1,222 @@
+package org.int4.dirk.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.benchmarks.qualifiers.Blue;
+import org.int4.dirk.benchmarks.qualifiers.Green;
+import org.int4.dirk.benchmarks.qualifiers.Red;
+import org.int4.dirk.benchmarks.synthetic.Shape;
+import org.int4.dirk.benchmarks.synthetic.SyntheticTypeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how registration, removal, discovery and lookups scale with the size of
+ * the registry, using types generated by the {@link SyntheticTypeGenerator}.
+ *
+ * <p>The shape of the generated types is controlled with parameters, for example:
+ * {@code java -jar benchmarks.jar LargeRegistry -p typeCount=50000 -p genericDepth=3}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LargeRegistryBenchmark {
+
+  /**
+   * Generates the types once per trial.
+   */
+  @State(Scope.Benchmark)
+  public static class Types {
+    private static final Set<Class<?>> QUALIFIERS = Set.of(Red.class, Green.class, Blue.class);
+
+    @Param({"JSR330"})
+    public Flavour flavour;
+
+    @Param({"1000", "10000", "50000"})
+    public int typeCount;
+
+    @Param({"2"})
+    public int fanOut;
+
+    @Param({"4"})
+    public int fanIn;
+
+    @Param({"0", "2"})
+    public int genericDepth;
+
+    @Param({"0.25"})
+    public double qualifiedRatio;
+
+    @Param({"0.5"})
+    public double singletonRatio;
+
+    List<Class<?>> classes;
+    List<Type> types;
+    Object[][] qualifiers;
+
+    /**
+     * Generates the types.
+     */
+    @Setup
+    public void setup() {
+      Shape shape = Shape.of(typeCount)
+        .withFanOut(fanOut)
+        .withFanIn(fanIn)
+        .withGenericDepth(genericDepth)
+        .withQualifiedRatio(qualifiedRatio)
+        .withSingletonRatio(singletonRatio);
+
+      classes = new SyntheticTypeGenerator().generate(shape);
+      types = List.copyOf(classes);
+      qualifiers = classes.stream()
+        .map(cls -> Arrays.stream(cls.getAnnotations()).filter(a -> QUALIFIERS.contains(a.annotationType())).toArray())
+        .toArray(Object[][]::new);
+    }
+
+    Type last() {
+      return types.get(types.size() - 1);
+    }
+  }
+
+  /**
+   * Provides an empty injector for each invocation.
+   */
+  @State(Scope.Thread)
+  public static class EmptyInjector {
+    Injector injector;
+
+    /**
+     * Creates an empty injector.
+     *
+     * @param types the {@link Types}, cannot be {@code null}
+     */
+    @Setup(Level.Invocation)
+    public void setup(Types types) {
+      injector = types.flavour.create(false);
+    }
+  }
+
+  /**
+   * Provides an empty auto discovering injector for each invocation.
+   */
+  @State(Scope.Thread)
+  public static class EmptyDiscoveringInjector {
+    Injector injector;
+
+    /**
+     * Creates an empty auto discovering injector.
+     *
+     * @param types the {@link Types}, cannot be {@code null}
+     */
+    @Setup(Level.Invocation)
+    public void setup(Types types) {
+      injector = types.flavour.create(true);
+    }
+  }
+
+  /**
+   * Provides an injector with all types except the last one registered.
+   */
+  @State(Scope.Benchmark)
+  public static class FilledInjector {
+    Injector injector;
+    int index;
+
+    /**
+     * Creates the injector and registers the types.
+     *
+     * @param types the {@link Types}, cannot be {@code null}
+     * @throws Exception when registration fails
+     */
+    @Setup
+    public void setup(Types types) throws Exception {
+      injector = types.flavour.create(false);
+      injector.register(types.types.subList(0, types.types.size() - 1));
+    }
+  }
+
+  /**
+   * Registers all types at once in an empty injector.
+   *
+   * @param types the {@link Types}, cannot be {@code null}
+   * @param state an {@link EmptyInjector}, cannot be {@code null}
+   * @return the injector, never {@code null}
+   * @throws Exception when registration fails
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 3)
+  @Measurement(iterations = 5)
+  public Object registerAll(Types types, EmptyInjector state) throws Exception {
+    state.injector.register(types.types);
+
+    return state.injector;
+  }
+
+  /**
+   * Registers the last type in an empty auto discovering injector, which
+   * discovers all the types it depends on, directly or indirectly.
+   *
+   * @param types the {@link Types}, cannot be {@code null}
+   * @param state an {@link EmptyDiscoveringInjector}, cannot be {@code null}
+   * @return the injector, never {@code null}
+   * @throws Exception when registration fails
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 3)
+  @Measurement(iterations = 5)
+  public Object discover(Types types, EmptyDiscoveringInjector state) throws Exception {
+    state.injector.register(types.last());
+
+    return state.injector;
+  }
+
+  /**
+   * Registers and then removes the last type in an injector with all other types registered.
+   *
+   * @param types the {@link Types}, cannot be {@code null}
+   * @param state a {@link FilledInjector}, cannot be {@code null}
+   * @throws Exception when registration or removal fails
+   */
+  @Benchmark
+  public void registerAndRemove(Types types, FilledInjector state) throws Exception {
+    state.injector.register(types.last());
+    state.injector.remove(types.last());
+  }
+
+  /**
+   * Gets an instance of each registered type in turn.
+   *
+   * @param types the {@link Types}, cannot be {@code null}
+   * @param state a {@link FilledInjector}, cannot be {@code null}
+   * @return the instance, never {@code null}
+   * @throws Exception when resolution fails
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Object lookup(Types types, FilledInjector state) throws Exception {
+    int index = state.index++ % (types.classes.size() - 1);
+
+    return state.injector.getInstance(types.classes.get(index), types.qualifiers[index]);
+  }
+}
@@ -0,0 +1,93 @@
+package org.int4.dirk.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.benchmarks.qualifiers.Blue;
+import org.int4.dirk.benchmarks.qualifiers.Green;
+import org.int4.dirk.benchmarks.qualifiers.Red;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creating a dependent instance which has a {@code List<T>} injected. The CDI
+ * flavour does not support {@link List} injection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListInjectionBenchmark {
+
+  @Param({"JSR330", "JAKARTA", "DI"})
+  public Flavour flavour;
+
+  private Injector injector;
+
+  /**
+   * Creates an injector with three elements registered.
+   *
+   * @throws Exception when registration fails
+   */
+  @Setup
+  public void setup() throws Exception {
+    injector = flavour.create(false);
+
+    injector.register(RedElement.class);
+    injector.register(GreenElement.class);
+    injector.register(BlueElement.class);
+    injector.register(Holder.class);
+  }
+
+  /**
+   * Creates a new instance with a list of all elements injected.
+   *
+   * @return the instance, never {@code null}
+   * @throws Exception when resolution fails
+   */
+  @Benchmark
+  public Object list() throws Exception {
+    return injector.getInstance(Holder.class);
+  }
+
+  public interface Element {
+  }
+
+  @Red
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class RedElement implements Element {
+  }
+
+  @Green
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class GreenElement implements Element {
+  }
+
+  @Blue
+  public static class BlueElement implements Element {
+  }
+
+  public static class Holder {
+    final List<Element> elements;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Holder(List<Element> elements) {
+      this.elements = elements;
+    }
+  }
+}
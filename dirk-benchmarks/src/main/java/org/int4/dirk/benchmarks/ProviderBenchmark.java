@@ -0,0 +1,90 @@
+package org.int4.dirk.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.int4.dirk.api.Injector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code Provider.get()} on injected providers of singleton and dependent types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProviderBenchmark {
+
+  @Param({"JSR330", "JAKARTA", "CDI", "DI"})
+  public Flavour flavour;
+
+  private Supplier<SingletonService> singletonProvider;
+  private Supplier<DependentService> dependentProvider;
+
+  /**
+   * Creates an injector and obtains the providers to call.
+   *
+   * @throws Exception when registration or resolution fails
+   */
+  @Setup
+  public void setup() throws Exception {
+    Injector injector = flavour.create(false);
+
+    injector.register(SingletonService.class);
+    injector.register(DependentService.class);
+    injector.register(Holder.class);
+
+    Holder holder = injector.getInstance(Holder.class);
+
+    // Only the provider fields annotated with the inject annotation of the flavour are injected:
+    singletonProvider = flavour == Flavour.JSR330 ? holder.javaxSingletonProvider::get : holder.jakartaSingletonProvider::get;
+    dependentProvider = flavour == Flavour.JSR330 ? holder.javaxDependentProvider::get : holder.jakartaDependentProvider::get;
+  }
+
+  /**
+   * Gets a singleton from a provider.
+   *
+   * @return the singleton, never {@code null}
+   */
+  @Benchmark
+  public Object singleton() {
+    return singletonProvider.get();
+  }
+
+  /**
+   * Gets a new dependent instance from a provider.
+   *
+   * @return the instance, never {@code null}
+   */
+  @Benchmark
+  public Object dependent() {
+    return dependentProvider.get();
+  }
+
+  @javax.inject.Singleton
+  @jakarta.inject.Singleton
+  public static class SingletonService {
+  }
+
+  public static class DependentService {
+  }
+
+  public static class Holder {
+    @javax.inject.Inject javax.inject.Provider<SingletonService> javaxSingletonProvider;
+    @javax.inject.Inject javax.inject.Provider<DependentService> javaxDependentProvider;
+    @jakarta.inject.Inject jakarta.inject.Provider<SingletonService> jakartaSingletonProvider;
+    @jakarta.inject.Inject jakarta.inject.Provider<DependentService> jakartaDependentProvider;
+  }
+}
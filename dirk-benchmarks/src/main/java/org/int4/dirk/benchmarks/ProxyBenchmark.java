@@ -0,0 +1,100 @@
+package org.int4.dirk.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.spi.scope.AbstractScopeResolver;
+import org.int4.dirk.util.Annotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Measures method calls on a proxy of a normal scoped type. Only the CDI and DI flavours
+ * support normal scopes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyBenchmark {
+
+  @Param({"CDI", "DI"})
+  public Flavour flavour;
+
+  private Counter proxy;
+
+  /**
+   * Creates an injector with an always active normal scope, and obtains a proxy of
+   * the normal scoped type.
+   *
+   * @throws Exception when registration or resolution fails
+   */
+  @Setup
+  public void setup() throws Exception {
+    Injector injector = flavour.create(false, new AbstractScopeResolver<String>() {
+      @Override
+      public Annotation getAnnotation() {
+        return Annotations.of(BenchmarkScoped.class);
+      }
+
+      @Override
+      protected String getCurrentScope() {
+        return "benchmark";
+      }
+    });
+
+    injector.register(Counter.class);
+    injector.register(Holder.class);
+
+    proxy = injector.getInstance(Holder.class).counter;
+  }
+
+  /**
+   * Calls a method through the proxy.
+   *
+   * @return the result of the call
+   */
+  @Benchmark
+  public long call() {
+    return proxy.increment();
+  }
+
+  @Documented
+  @Retention(RetentionPolicy.RUNTIME)
+  @jakarta.enterprise.context.NormalScope
+  @org.int4.dirk.annotations.NormalScope
+  public @interface BenchmarkScoped {
+  }
+
+  @BenchmarkScoped
+  public static class Counter {
+    private long count;
+
+    public long increment() {
+      return ++count;
+    }
+  }
+
+  @Singleton
+  public static class Holder {
+    @Inject Counter counter;
+  }
+}
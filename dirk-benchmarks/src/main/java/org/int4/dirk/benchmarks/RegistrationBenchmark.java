@@ -0,0 +1,226 @@
+package org.int4.dirk.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures registration of a chain of N types, where each type depends on the
+ * previous one. Without auto discovery all N types are registered at once; with
+ * auto discovery only the last type is registered and the others are discovered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistrationBenchmark {
+  static final List<Class<?>> CHAIN = List.of(
+    Node01.class, Node02.class, Node03.class, Node04.class,
+    Node05.class, Node06.class, Node07.class, Node08.class,
+    Node09.class, Node10.class, Node11.class, Node12.class,
+    Node13.class, Node14.class, Node15.class, Node16.class
+  );
+
+  @Param({"JSR330", "JAKARTA", "CDI", "DI"})
+  public Flavour flavour;
+
+  @Param({"1", "4", "16"})
+  public int n;
+
+  @Param({"false", "true"})
+  public boolean autoDiscovery;
+
+  private Injector injector;
+  private List<Type> types;
+
+  /**
+   * Creates a new empty injector for each registration.
+   */
+  @Setup(Level.Invocation)
+  public void setup() {
+    injector = flavour.create(autoDiscovery);
+    types = autoDiscovery ? List.of(CHAIN.get(n - 1)) : List.copyOf(CHAIN.subList(0, n));
+  }
+
+  /**
+   * Registers the types.
+   *
+   * @return the injector, never {@code null}
+   * @throws Exception when registration fails
+   */
+  @Benchmark
+  public Object register() throws Exception {
+    injector.register(types);
+
+    return injector;
+  }
+
+  public static class Node01 {
+  }
+
+  public static class Node02 {
+    final Node01 node01;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node02(Node01 node01) {
+      this.node01 = node01;
+    }
+  }
+
+  public static class Node03 {
+    final Node02 node02;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node03(Node02 node02) {
+      this.node02 = node02;
+    }
+  }
+
+  public static class Node04 {
+    final Node03 node03;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node04(Node03 node03) {
+      this.node03 = node03;
+    }
+  }
+
+  public static class Node05 {
+    final Node04 node04;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node05(Node04 node04) {
+      this.node04 = node04;
+    }
+  }
+
+  public static class Node06 {
+    final Node05 node05;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node06(Node05 node05) {
+      this.node05 = node05;
+    }
+  }
+
+  public static class Node07 {
+    final Node06 node06;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node07(Node06 node06) {
+      this.node06 = node06;
+    }
+  }
+
+  public static class Node08 {
+    final Node07 node07;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node08(Node07 node07) {
+      this.node07 = node07;
+    }
+  }
+
+  public static class Node09 {
+    final Node08 node08;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node09(Node08 node08) {
+      this.node08 = node08;
+    }
+  }
+
+  public static class Node10 {
+    final Node09 node09;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node10(Node09 node09) {
+      this.node09 = node09;
+    }
+  }
+
+  public static class Node11 {
+    final Node10 node10;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node11(Node10 node10) {
+      this.node10 = node10;
+    }
+  }
+
+  public static class Node12 {
+    final Node11 node11;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node12(Node11 node11) {
+      this.node11 = node11;
+    }
+  }
+
+  public static class Node13 {
+    final Node12 node12;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node13(Node12 node12) {
+      this.node12 = node12;
+    }
+  }
+
+  public static class Node14 {
+    final Node13 node13;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node14(Node13 node13) {
+      this.node13 = node13;
+    }
+  }
+
+  public static class Node15 {
+    final Node14 node14;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node15(Node14 node14) {
+      this.node14 = node14;
+    }
+  }
+
+  public static class Node16 {
+    final Node15 node15;
+
+    @javax.inject.Inject
+    @jakarta.inject.Inject
+    public Node16(Node15 node15) {
+      this.node15 = node15;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package org.int4.dirk.benchmarks;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.core.InjectorSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a cold start, which registers the types with all the usual checks and
+ * writes an {@link InjectorSnapshot}, with a warm start which registers the types
+ * from the snapshot. The types are the chain of the {@link RegistrationBenchmark}.
+ * With auto discovery only the last type of the chain is supplied, and the others
+ * are discovered on a cold start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+  @Param({"JSR330", "JAKARTA", "CDI", "DI"})
+  public Flavour flavour;
+
+  @Param({"false", "true"})
+  public boolean autoDiscovery;
+
+  private Path directory;
+  private Path file;
+  private InjectorSnapshot snapshot;
+  private Supplier<Collection<Type>> types;
+  private Injector injector;
+
+  /**
+   * Creates the snapshot file.
+   *
+   * @throws IOException when the snapshot directory could not be created
+   * @throws URISyntaxException when the location of the benchmark classes is unavailable
+   */
+  @Setup
+  public void setup() throws IOException, URISyntaxException {
+    List<Type> chain = List.copyOf(RegistrationBenchmark.CHAIN);
+
+    directory = Files.createTempDirectory("snapshot-benchmark");
+    file = directory.resolve("injector.snapshot");
+    snapshot = new InjectorSnapshot(file, getClass().getClassLoader(), List.of(Path.of(getClass().getProtectionDomain().getCodeSource().getLocation().toURI())));
+    types = () -> autoDiscovery ? List.of(chain.get(chain.size() - 1)) : chain;
+
+    snapshot.register(flavour.create(autoDiscovery), types);
+  }
+
+  /**
+   * Creates a new empty injector for each registration.
+   */
+  @Setup(Level.Invocation)
+  public void setupInvocation() {
+    injector = flavour.create(autoDiscovery);
+  }
+
+  /**
+   * Deletes the snapshot file.
+   *
+   * @throws IOException when the snapshot file could not be deleted
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Registers the types without a snapshot, and writes a new snapshot.
+   *
+   * @return the injector, never {@code null}
+   * @throws IOException when the snapshot file could not be deleted
+   */
+  @Benchmark
+  public Object cold() throws IOException {
+    Files.deleteIfExists(file);
+
+    if(snapshot.register(injector, types)) {
+      throw new IllegalStateException("Snapshot should not have been used");
+    }
+
+    return injector;
+  }
+
+  /**
+   * Registers the types from the snapshot.
+   *
+   * @return the injector, never {@code null}
+   */
+  @Benchmark
+  public Object warm() {
+    if(!snapshot.register(injector, types)) {
+      throw new IllegalStateException("Snapshot should have been used");
+    }
+
+    return injector;
+  }
+}
@@ -0,0 +1,11 @@
+/**
+ * JMH benchmarks for the hot paths of the injector.
+ *
+ * <p>Each benchmark is parameterized with the {@link org.int4.dirk.benchmarks.Flavour}s
+ * it applies to. The types used in the benchmarks carry both the {@code javax.inject}
+ * and {@code jakarta.inject} annotations so the same types can be registered with
+ * every flavour.
+ *
+ * <p>Build with {@code mvn package} and run with {@code java -jar target/benchmarks.jar}.
+ */
+package org.int4.dirk.benchmarks;
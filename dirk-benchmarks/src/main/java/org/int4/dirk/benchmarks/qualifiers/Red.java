@@ -0,0 +1,12 @@
+package org.int4.dirk.benchmarks.qualifiers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@javax.inject.Qualifier
+@jakarta.inject.Qualifier
+public @interface Red {
+}
@@ -0,0 +1,4 @@
+/**
+ * Qualifiers used by the benchmarks, recognized by all injector flavours.
+ */
+package org.int4.dirk.benchmarks.qualifiers;
@@ -0,0 +1,9 @@
+package org.int4.dirk.benchmarks.synthetic;
+
+/**
+ * Generic super type implemented by synthetic types, see {@link Shape#getGenericDepth()}.
+ *
+ * @param <T> the wrapped type
+ */
+public interface Layer<T> {
+}
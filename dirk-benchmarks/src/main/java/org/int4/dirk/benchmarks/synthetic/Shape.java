@@ -0,0 +1,195 @@
+package org.int4.dirk.benchmarks.synthetic;
+
+/**
+ * Describes the shape of a synthetic type graph produced by the {@link SyntheticTypeGenerator}.
+ * Instances are immutable; each of the {@code with} methods returns a modified copy.
+ */
+public final class Shape {
+  private final int typeCount;
+  private final int fanOut;
+  private final int fanIn;
+  private final int genericDepth;
+  private final double qualifiedRatio;
+  private final double singletonRatio;
+  private final long seed;
+
+  private Shape(int typeCount, int fanOut, int fanIn, int genericDepth, double qualifiedRatio, double singletonRatio, long seed) {
+    if(typeCount < 1) {
+      throw new IllegalArgumentException("typeCount must be positive: " + typeCount);
+    }
+    if(fanOut < 0) {
+      throw new IllegalArgumentException("fanOut cannot be negative: " + fanOut);
+    }
+    if(fanIn < 1) {
+      throw new IllegalArgumentException("fanIn must be positive: " + fanIn);
+    }
+    if(genericDepth < 0) {
+      throw new IllegalArgumentException("genericDepth cannot be negative: " + genericDepth);
+    }
+    if(qualifiedRatio < 0 || qualifiedRatio > 1) {
+      throw new IllegalArgumentException("qualifiedRatio must be between 0 and 1: " + qualifiedRatio);
+    }
+    if(singletonRatio < 0 || singletonRatio > 1) {
+      throw new IllegalArgumentException("singletonRatio must be between 0 and 1: " + singletonRatio);
+    }
+
+    this.typeCount = typeCount;
+    this.fanOut = fanOut;
+    this.fanIn = fanIn;
+    this.genericDepth = genericDepth;
+    this.qualifiedRatio = qualifiedRatio;
+    this.singletonRatio = singletonRatio;
+    this.seed = seed;
+  }
+
+  /**
+   * Creates a new {@link Shape} with the given number of types, each depending
+   * on up to two other types, without qualifiers, generic super types or singletons.
+   *
+   * @param typeCount the number of types to generate, must be positive
+   * @return a {@link Shape}, never {@code null}
+   * @throws IllegalArgumentException when the type count is not positive
+   */
+  public static Shape of(int typeCount) {
+    return new Shape(typeCount, 2, 2, 0, 0, 0, 0);
+  }
+
+  /**
+   * Returns a copy of this shape with the given fan-out.
+   *
+   * @param fanOut the number of dependencies of each type, cannot be negative
+   * @return a {@link Shape}, never {@code null}
+   * @throws IllegalArgumentException when the fan-out is negative
+   */
+  public Shape withFanOut(int fanOut) {
+    return new Shape(typeCount, fanOut, fanIn, genericDepth, qualifiedRatio, singletonRatio, seed);
+  }
+
+  /**
+   * Returns a copy of this shape with the given fan-in.
+   *
+   * @param fanIn the average number of dependents of types which are depended upon, must be positive
+   * @return a {@link Shape}, never {@code null}
+   * @throws IllegalArgumentException when the fan-in is not positive
+   */
+  public Shape withFanIn(int fanIn) {
+    return new Shape(typeCount, fanOut, fanIn, genericDepth, qualifiedRatio, singletonRatio, seed);
+  }
+
+  /**
+   * Returns a copy of this shape with the given generic depth.
+   *
+   * @param genericDepth the nesting depth of the generic super type of each type, cannot be negative
+   * @return a {@link Shape}, never {@code null}
+   * @throws IllegalArgumentException when the generic depth is negative
+   */
+  public Shape withGenericDepth(int genericDepth) {
+    return new Shape(typeCount, fanOut, fanIn, genericDepth, qualifiedRatio, singletonRatio, seed);
+  }
+
+  /**
+   * Returns a copy of this shape with the given ratio of qualified types.
+   *
+   * @param qualifiedRatio the ratio of types which have a qualifier, between 0 and 1
+   * @return a {@link Shape}, never {@code null}
+   * @throws IllegalArgumentException when the ratio is out of range
+   */
+  public Shape withQualifiedRatio(double qualifiedRatio) {
+    return new Shape(typeCount, fanOut, fanIn, genericDepth, qualifiedRatio, singletonRatio, seed);
+  }
+
+  /**
+   * Returns a copy of this shape with the given ratio of singleton types.
+   *
+   * @param singletonRatio the ratio of types which are singletons, between 0 and 1
+   * @return a {@link Shape}, never {@code null}
+   * @throws IllegalArgumentException when the ratio is out of range
+   */
+  public Shape withSingletonRatio(double singletonRatio) {
+    return new Shape(typeCount, fanOut, fanIn, genericDepth, qualifiedRatio, singletonRatio, seed);
+  }
+
+  /**
+   * Returns a copy of this shape with the given random seed.
+   *
+   * @param seed a seed for the random choices made while generating
+   * @return a {@link Shape}, never {@code null}
+   */
+  public Shape withSeed(long seed) {
+    return new Shape(typeCount, fanOut, fanIn, genericDepth, qualifiedRatio, singletonRatio, seed);
+  }
+
+  /**
+   * Returns the number of types to generate.
+   *
+   * @return the number of types to generate, always positive
+   */
+  public int getTypeCount() {
+    return typeCount;
+  }
+
+  /**
+   * Returns the number of dependencies of each type. Types generated early may
+   * have fewer dependencies when there are not enough types to depend on.
+   *
+   * @return the number of dependencies of each type, never negative
+   */
+  public int getFanOut() {
+    return fanOut;
+  }
+
+  /**
+   * Returns the average number of dependents of types which are depended upon.
+   * Only one in every {@code fanIn / fanOut} types is depended upon, so the
+   * effective fan-in is never lower than the fan-out.
+   *
+   * @return the average number of dependents, always positive
+   */
+  public int getFanIn() {
+    return fanIn;
+  }
+
+  /**
+   * Returns the nesting depth of the generic super type of each type. For a depth
+   * of two, a type {@code T} implements {@code Layer<Layer<T>>}. For a depth of
+   * zero, types only extend {@link Object}.
+   *
+   * @return the nesting depth of the generic super type of each type, never negative
+   */
+  public int getGenericDepth() {
+    return genericDepth;
+  }
+
+  /**
+   * Returns the ratio of types which have a qualifier.
+   *
+   * @return the ratio of types which have a qualifier, between 0 and 1
+   */
+  public double getQualifiedRatio() {
+    return qualifiedRatio;
+  }
+
+  /**
+   * Returns the ratio of types which are singletons. All other types are dependent.
+   *
+   * @return the ratio of types which are singletons, between 0 and 1
+   */
+  public double getSingletonRatio() {
+    return singletonRatio;
+  }
+
+  /**
+   * Returns the seed for the random choices made while generating.
+   *
+   * @return the seed for the random choices made while generating
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public String toString() {
+    return "Shape[types=" + typeCount + ", fanOut=" + fanOut + ", fanIn=" + fanIn + ", genericDepth=" + genericDepth
+      + ", qualifiedRatio=" + qualifiedRatio + ", singletonRatio=" + singletonRatio + ", seed=" + seed + "]";
+  }
+}
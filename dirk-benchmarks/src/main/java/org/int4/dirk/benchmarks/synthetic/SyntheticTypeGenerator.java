@@ -0,0 +1,170 @@
+package org.int4.dirk.benchmarks.synthetic;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import org.int4.dirk.benchmarks.qualifiers.Blue;
+import org.int4.dirk.benchmarks.qualifiers.Green;
+import org.int4.dirk.benchmarks.qualifiers.Red;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.TargetType;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+
+/**
+ * Generates synthetic injectable types with ByteBuddy in a shape described by
+ * a {@link Shape}. The types are annotated with both the {@code javax.inject} and
+ * {@code jakarta.inject} annotations, so they can be registered with all injector
+ * flavours.
+ *
+ * <p>Each type has a public no argument constructor, and a public field annotated
+ * with an inject annotation for each of its dependencies. Types only depend on types
+ * generated before them, so the generated types never form a cycle. To keep the number
+ * of instances created linear in the number of types, dependent types only depend on
+ * singletons.
+ */
+public class SyntheticTypeGenerator {
+  private static final String PACKAGE_NAME = SyntheticTypeGenerator.class.getPackageName() + ".generated";
+  private static final List<Class<? extends Annotation>> QUALIFIERS = List.of(Red.class, Green.class, Blue.class);
+  private static final List<AnnotationDescription> INJECT = List.of(
+    AnnotationDescription.Builder.ofType(javax.inject.Inject.class).build(),
+    AnnotationDescription.Builder.ofType(jakarta.inject.Inject.class).build()
+  );
+  private static final List<AnnotationDescription> SINGLETON = List.of(
+    AnnotationDescription.Builder.ofType(javax.inject.Singleton.class).build(),
+    AnnotationDescription.Builder.ofType(jakarta.inject.Singleton.class).build()
+  );
+
+  private final ByteBuddy byteBuddy = new ByteBuddy();
+
+  /**
+   * Generates types in the given {@link Shape}, and loads them in a new {@link ClassLoader}.
+   *
+   * @param shape a {@link Shape}, cannot be {@code null}
+   * @return a list of generated types, ordered such that dependencies precede their dependents, never {@code null}
+   */
+  public List<Class<?>> generate(Shape shape) {
+    Objects.requireNonNull(shape, "shape cannot be null");
+
+    Random random = new Random(shape.getSeed());
+    int stride = shape.getFanOut() == 0 ? 1 : Math.max(1, shape.getFanIn() / shape.getFanOut());
+    List<Generated> targets = new ArrayList<>();
+    List<Generated> singletonTargets = new ArrayList<>();
+    List<String> names = new ArrayList<>(shape.getTypeCount());
+    Map<String, byte[]> typeDefinitions = new HashMap<>();
+
+    for(int i = 0; i < shape.getTypeCount(); i++) {
+      Class<? extends Annotation> qualifier = random.nextDouble() < shape.getQualifiedRatio() ? QUALIFIERS.get(random.nextInt(QUALIFIERS.size())) : null;
+      boolean singleton = random.nextDouble() < shape.getSingletonRatio();
+      Set<Generated> dependencies = pick(random, singleton ? targets : singletonTargets, shape.getFanOut());
+      String name = PACKAGE_NAME + ".Synthetic" + i;
+
+      DynamicType.Builder<?> builder = byteBuddy.subclass(Object.class, ConstructorStrategy.Default.DEFAULT_CONSTRUCTOR)
+        .name(name)
+        .modifiers(Visibility.PUBLIC);
+
+      if(shape.getGenericDepth() > 0) {
+        builder = builder.implement(layer(shape.getGenericDepth()));
+      }
+
+      if(singleton) {
+        builder = builder.annotateType(SINGLETON);
+      }
+
+      if(qualifier != null) {
+        builder = builder.annotateType(AnnotationDescription.Builder.ofType(qualifier).build());
+      }
+
+      int fieldIndex = 0;
+
+      for(Generated dependency : dependencies) {
+        List<AnnotationDescription> annotations = new ArrayList<>(INJECT);
+
+        if(dependency.qualifier != null) {
+          annotations.add(AnnotationDescription.Builder.ofType(dependency.qualifier).build());
+        }
+
+        builder = builder.defineField("dependency" + fieldIndex++, dependency.type, Visibility.PUBLIC).annotateField(annotations);
+      }
+
+      DynamicType.Unloaded<?> unloaded = builder.make();
+      Generated generated = new Generated(unloaded.getTypeDescription(), qualifier);
+
+      typeDefinitions.put(name, unloaded.getBytes());
+      names.add(name);
+
+      if(i % stride == 0) {
+        targets.add(generated);
+
+        if(singleton) {
+          singletonTargets.add(generated);
+        }
+      }
+    }
+
+    return load(names, typeDefinitions);
+  }
+
+  private static List<Class<?>> load(List<String> names, Map<String, byte[]> typeDefinitions) {
+    ClassLoader classLoader = new ByteArrayClassLoader(SyntheticTypeGenerator.class.getClassLoader(), typeDefinitions);
+    List<Class<?>> types = new ArrayList<>(names.size());
+
+    try {
+      for(String name : names) {
+        types.add(Class.forName(name, false, classLoader));
+      }
+    }
+    catch(ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return types;
+  }
+
+  private static TypeDescription.Generic layer(int depth) {
+    TypeDefinition type = TargetType.DESCRIPTION;
+
+    for(int i = 0; i < depth; i++) {
+      type = TypeDescription.Generic.Builder.parameterizedType(TypeDescription.ForLoadedType.of(Layer.class), type).build();
+    }
+
+    return type.asGenericType();
+  }
+
+  private static Set<Generated> pick(Random random, List<Generated> candidates, int count) {
+    if(candidates.size() <= count) {
+      return new LinkedHashSet<>(candidates);
+    }
+
+    Set<Generated> picked = new LinkedHashSet<>();
+
+    while(picked.size() < count) {
+      picked.add(candidates.get(random.nextInt(candidates.size())));
+    }
+
+    return picked;
+  }
+
+  private static class Generated {
+    final TypeDescription type;
+    final Class<? extends Annotation> qualifier;
+
+    Generated(TypeDescription type, Class<? extends Annotation> qualifier) {
+      this.type = type;
+      this.qualifier = qualifier;
+    }
+  }
+}
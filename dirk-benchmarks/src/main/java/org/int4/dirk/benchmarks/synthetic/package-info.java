@@ -0,0 +1,5 @@
+/**
+ * Generates large registries of synthetic types to measure how the injector scales
+ * with the number of registered types.
+ */
+package org.int4.dirk.benchmarks.synthetic;
@@ -43,7 +43,8 @@ class DefaultDiscovererFactory implements DiscovererFactory {
   /**
    * Contains a cache of injectables derived with the given {@link TypeRegistrationExtension}s.
    * This must not be static as then it would be shared among multiple injectors which
-   * may have a different set of extensions configured.
+   * may have a different set of extensions configured. Access is synchronized on the
+   * map itself.
    */
   private final Map<Type, List<WeakReference<Injectable<?>>>> derivedInjectables = new WeakHashMap<>();
 
@@ -70,9 +71,25 @@ class DefaultDiscovererFactory implements DiscovererFactory {
     this.fieldInjectableFactory = fieldInjectableFactory;
   }
 
+  /**
+   * Returns the number of types of which the derived injectables are cached.
+   *
+   * @return the number of types of which the derived injectables are cached
+   */
+  int getCacheSize() {
+    synchronized(derivedInjectables) {
+      return derivedInjectables.size();
+    }
+  }
+
   @Override
   public Discoverer create(Resolver<Injectable<?>> resolver, Collection<Type> types) {  // used during normal registration
-    return new SimpleDiscoverer(resolver, types);
+    return new SimpleDiscoverer(resolver, types, autoDiscovery);
+  }
+
+  @Override
+  public Discoverer createWithoutAutoDiscovery(Resolver<Injectable<?>> resolver, Collection<Type> types) {  // used for registering types of which the discovered types are known
+    return new SimpleDiscoverer(resolver, types, false);
   }
 
   @Override
@@ -101,13 +118,16 @@ class DefaultDiscovererFactory implements DiscovererFactory {
     private final Set<Type> visitedTypes = new HashSet<>();
     private final Set<Type> visitTypes = new HashSet<>();
     private final List<String> encounteredProblems = new ArrayList<>();
+    private final List<Type> discoveredTypes = new ArrayList<>();
 
     private final IncludingResolver includingResolver;
+    private final boolean autoDiscovering;
 
     private boolean discoveryCompleted;
 
-    SimpleDiscoverer(Resolver<Injectable<?>> resolver, Collection<Type> types) {
+    SimpleDiscoverer(Resolver<Injectable<?>> resolver, Collection<Type> types, boolean autoDiscovering) {
       this.includingResolver = new IncludingResolver(resolver::resolve, tempStore);
+      this.autoDiscovering = autoDiscovering;
 
       for(Key key : types.stream().map(Key::new).collect(Collectors.toList())) {
         visitTypes.add(key.getType());
@@ -118,6 +138,7 @@ class DefaultDiscovererFactory implements DiscovererFactory {
     SimpleDiscoverer(Resolver<Injectable<?>> resolver, Injectable<?> injectable) {
       try {
         this.includingResolver = new IncludingResolver(resolver::resolve, tempStore);
+        this.autoDiscovering = autoDiscovery;
 
         tempStore.put(injectable);
         visitTypes.add(injectable.getType());
@@ -136,6 +157,15 @@ class DefaultDiscovererFactory implements DiscovererFactory {
       return encounteredProblems;
     }
 
+    @Override
+    public List<Type> getDiscoveredTypes() {
+      if(!discoveryCompleted) {
+        throw new IllegalStateException("Call discover first");
+      }
+
+      return discoveredTypes;
+    }
+
     @Override
     public Set<Injectable<?>> discover() throws DefinitionException {
 
@@ -205,7 +235,7 @@ class DefaultDiscovererFactory implements DiscovererFactory {
             via.put(elementKey, injectableKey);
             visitTypes.add(elementKey.getType());
 
-            if(autoDiscovery) {
+            if(autoDiscovering) {
               unresolvedBindings.put(elementKey, binding);
             }
           }
@@ -283,7 +313,11 @@ class DefaultDiscovererFactory implements DiscovererFactory {
 
         if(includingResolver.resolve(key).isEmpty()) {
           try {
-            return addInjectables(List.of(attemptCreateInjectable(key)));
+            Injectable<?> injectable = attemptCreateInjectable(key);
+
+            discoveredTypes.add(key.getType());
+
+            return addInjectables(List.of(injectable));
           }
           catch(Exception e) {
             encounteredProblems.add(toChain(key) + ", via " + entry.getValue() + ", is not registered and cannot be discovered (reason: " + e.getMessage() + (e.getCause() != null ? " because " + e.getCause().getMessage() : "") + ")");
@@ -314,7 +348,11 @@ class DefaultDiscovererFactory implements DiscovererFactory {
     }
 
     private List<Injectable<?>> getFromCache(Type type) {
-      List<WeakReference<Injectable<?>>> list = derivedInjectables.get(type);
+      List<WeakReference<Injectable<?>>> list;
+
+      synchronized(derivedInjectables) {
+        list = derivedInjectables.get(type);
+      }
 
       if(list == null) {
         return null;
@@ -342,7 +380,9 @@ class DefaultDiscovererFactory implements DiscovererFactory {
         list.add(new WeakReference<>(injectable));
       }
 
-      derivedInjectables.put(type, list);
+      synchronized(derivedInjectables) {
+        derivedInjectables.put(type, list);
+      }
     }
   }
 
@@ -1,6 +1,10 @@
 package org.int4.dirk.core;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.int4.dirk.api.InstanceResolver;
 import org.int4.dirk.api.TypeLiteral;
@@ -39,6 +43,16 @@ class DefaultInstanceResolver implements InstanceResolver {
     return getInstance(KeyFactory.of(cls, qualifiers));
   }
 
+  @Override
+  public <T> Optional<T> findInstance(TypeLiteral<T> typeLiteral, Object... qualifiers) throws AmbiguousResolutionException, CreationException {
+    return findInstance(KeyFactory.of(typeLiteral.getType(), qualifiers));
+  }
+
+  @Override
+  public <T> Optional<T> findInstance(Class<T> cls, Object... qualifiers) throws AmbiguousResolutionException, CreationException {
+    return findInstance(KeyFactory.of(cls, qualifiers));
+  }
+
   @Override
   public <T> List<T> getInstances(TypeLiteral<T> typeLiteral, Object... qualifiers) throws CreationException {
     return getInstances(KeyFactory.of(typeLiteral.getType(), qualifiers));
@@ -49,10 +63,42 @@ class DefaultInstanceResolver implements InstanceResolver {
     return getInstances(KeyFactory.of(cls, qualifiers));
   }
 
+  @Override
+  public <T> CompletableFuture<T> getInstanceAsync(Executor executor, TypeLiteral<T> typeLiteral, Object... qualifiers) {
+    return getInstanceAsync(executor, KeyFactory.of(typeLiteral.getType(), qualifiers));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> getInstanceAsync(Executor executor, Class<T> cls, Object... qualifiers) {
+    return getInstanceAsync(executor, KeyFactory.of(cls, qualifiers));
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> getInstancesAsync(Executor executor, TypeLiteral<T> typeLiteral, Object... qualifiers) {
+    return getInstancesAsync(executor, KeyFactory.of(typeLiteral.getType(), qualifiers));
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> getInstancesAsync(Executor executor, Class<T> cls, Object... qualifiers) {
+    return getInstancesAsync(executor, KeyFactory.of(cls, qualifiers));
+  }
+
+  private <T> CompletableFuture<T> getInstanceAsync(Executor executor, Key key) {
+    return ScopedInstanceCreator.createAsync(resolver, instanceFactory, key, Objects.requireNonNull(executor, "executor cannot be null"), () -> getInstance(key));
+  }
+
+  private <T> CompletableFuture<List<T>> getInstancesAsync(Executor executor, Key key) {
+    return ScopedInstanceCreator.createAsync(resolver, instanceFactory, key, Objects.requireNonNull(executor, "executor cannot be null"), () -> getInstances(key));
+  }
+
   private <T> T getInstance(Key key) throws UnsatisfiedResolutionException, AmbiguousResolutionException, CreationException, ScopeNotActiveException {
     return instanceFactory.<T>createInstance(resolver, key, false).get();
   }
 
+  private <T> Optional<T> findInstance(Key key) throws AmbiguousResolutionException, CreationException {
+    return instanceFactory.<T>createInstance(resolver, key, false).find();
+  }
+
   private <T> List<T> getInstances(Key key) throws CreationException {
     return instanceFactory.<T>createInstance(resolver, key, false).getAll();
   }
@@ -2,18 +2,24 @@ package org.int4.dirk.core;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 import org.int4.dirk.api.CandidateRegistry;
 import org.int4.dirk.api.definition.AutoDiscoveryException;
 import org.int4.dirk.api.definition.DefinitionException;
 import org.int4.dirk.api.definition.DependencyException;
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.definition.InjectionTarget;
 import org.int4.dirk.core.definition.InstanceInjectableFactory;
 import org.int4.dirk.core.discovery.Discoverer;
 import org.int4.dirk.core.discovery.DiscovererFactory;
 import org.int4.dirk.core.store.InjectableStore;
+import org.int4.dirk.spi.instrumentation.InjectorListener;
 
 /**
  * An implementation of a {@link CandidateRegistry} backed by an {@link InjectableStore}.
@@ -22,6 +28,7 @@ class InjectableStoreCandidateRegistry implements CandidateRegistry {
   private final InjectableStore store;
   private final DiscovererFactory discovererFactory;
   private final InstanceInjectableFactory instanceInjectableFactory;
+  private final InjectorListener listener;
 
   /**
    * Constructs a new instance.
@@ -31,9 +38,22 @@ class InjectableStoreCandidateRegistry implements CandidateRegistry {
    * @param instanceInjectableFactory an {@link InstanceInjectableFactory}, cannot be {@code null}
    */
   public InjectableStoreCandidateRegistry(InjectableStore store, DiscovererFactory discovererFactory, InstanceInjectableFactory instanceInjectableFactory) {
+    this(store, discovererFactory, instanceInjectableFactory, null);
+  }
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param store an {@link InjectableStore}, cannot be {@code null}
+   * @param discovererFactory a {@link DiscovererFactory}, cannot be {@code null}
+   * @param instanceInjectableFactory an {@link InstanceInjectableFactory}, cannot be {@code null}
+   * @param listener an {@link InjectorListener} informed about registrations, can be {@code null}
+   */
+  public InjectableStoreCandidateRegistry(InjectableStore store, DiscovererFactory discovererFactory, InstanceInjectableFactory instanceInjectableFactory, InjectorListener listener) {
     this.store = store;
     this.discovererFactory = discovererFactory;
     this.instanceInjectableFactory = instanceInjectableFactory;
+    this.listener = listener;
   }
 
   @Override
@@ -43,12 +63,12 @@ class InjectableStoreCandidateRegistry implements CandidateRegistry {
 
   @Override
   public void register(Type type) throws AutoDiscoveryException, DefinitionException, DependencyException {
-    registerInternal(List.of(type));
+    registerInternal(List.of(type), ValidationManifest.find(List.of(type)));
   }
 
   @Override
   public void register(Collection<Type> types) throws AutoDiscoveryException, DefinitionException, DependencyException {
-    registerInternal(types);
+    registerInternal(types, ValidationManifest.find(types));
   }
 
   @Override
@@ -66,16 +86,127 @@ class InjectableStoreCandidateRegistry implements CandidateRegistry {
     removeInternal(types);
   }
 
+  @Override
+  public void replace(Collection<Type> removedTypes, Collection<Type> addedTypes) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    Discoverer removalDiscoverer = discovererFactory.create(store, removedTypes);
+    Set<Injectable<?>> removedInjectables;
+
+    try {
+      removedInjectables = removalDiscoverer.discover();
+    }
+    catch(Exception e) {
+      if(removalDiscoverer.getProblems().isEmpty()) {
+        throw e;
+      }
+
+      throw new AutoDiscoveryException("Unable to remove " + removedTypes + removalDiscoverer.getProblems().stream().collect(Collectors.joining("\n    -> ", "\n    -> ", "")), e);
+    }
+
+    // discovery must not consider the candidates which are about to be removed:
+    Discoverer discoverer = discovererFactory.create(key -> store.resolve(key).stream().filter(i -> !removedInjectables.contains(i)).collect(Collectors.toSet()), addedTypes);
+
+    try {
+      store.replaceAll(removedInjectables, discoverer.discover());
+    }
+    catch(Exception e) {
+      if(discoverer.getProblems().isEmpty()) {
+        throw e;
+      }
+
+      throw new AutoDiscoveryException("Unable to register " + addedTypes + discoverer.getProblems().stream().collect(Collectors.joining("\n    -> ", "\n    -> ", "")), e);
+    }
+  }
+
   @Override
   public void removeInstance(Object instance, Annotation... qualifiers) throws DefinitionException, DependencyException {
     store.removeAll(discovererFactory.create(store, instanceInjectableFactory.create(instance, qualifiers)).discover());
   }
 
-  private void registerInternal(Collection<Type> types) throws AutoDiscoveryException, DefinitionException, DependencyException {
+  /**
+   * Registers the given types and returns a {@link ValidationManifest} describing
+   * the registered injectables. When {@code includeDiscoveredTypes} is {@code true}, the
+   * types of the manifest include the types which were found through auto discovery, so
+   * the manifest can be used to register the same injectables without auto discovery.
+   *
+   * @param types a collection of {@link Type}s, cannot be {@code null} or contain {@code null}s
+   * @param includeDiscoveredTypes whether the manifest should include the discovered types
+   * @return a {@link ValidationManifest}, never {@code null}
+   * @throws AutoDiscoveryException when the registration failed due to problems during auto discovery
+   * @throws DefinitionException when a type is not a valid definition
+   * @throws DependencyException when the registration would violate the rules of the injector
+   */
+  ValidationManifest registerAndDescribe(Collection<Type> types, boolean includeDiscoveredTypes) throws AutoDiscoveryException, DefinitionException, DependencyException {
     Discoverer discoverer = discovererFactory.create(store, types);
+    Set<Injectable<?>> injectables = registerInternal(types, discoverer, null);
+
+    if(!includeDiscoveredTypes) {
+      return ValidationManifest.of(types, injectables, store);
+    }
+
+    List<Type> allTypes = new ArrayList<>(types);
+
+    allTypes.addAll(discoverer.getDiscoveredTypes());
+
+    return ValidationManifest.of(allTypes, injectables, store);
+  }
+
+  /**
+   * Registers the given types trusting the given {@link ValidationManifest} instead
+   * of looking up a manifest for these types. The given types must include any types
+   * which were discovered when the manifest was created, as no auto discovery is done.
+   *
+   * @param types a collection of {@link Type}s, cannot be {@code null} or contain {@code null}s
+   * @param manifest a {@link ValidationManifest}, cannot be {@code null}
+   * @throws AutoDiscoveryException when the registration failed due to problems during auto discovery
+   * @throws DefinitionException when a type is not a valid definition
+   * @throws DependencyException when the registration would violate the rules of the injector
+   */
+  void register(Collection<Type> types, ValidationManifest manifest) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    registerInternal(types, discovererFactory.createWithoutAutoDiscovery(store, types), manifest);
+  }
+
+  private void registerInternal(Collection<Type> types, ValidationManifest manifest) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    registerInternal(types, discovererFactory.create(store, types), manifest);
+  }
 
+  private Set<Injectable<?>> registerInternal(Collection<Type> types, Discoverer discoverer, ValidationManifest manifest) throws AutoDiscoveryException, DefinitionException, DependencyException {
     try {
-      store.putAll(discoverer.discover());
+      InjectorRegistrationEvent event = new InjectorRegistrationEvent();
+      boolean timed = listener != null || event.isEnabled();
+
+      event.begin();
+
+      long startNanos = timed ? System.nanoTime() : 0;
+      Set<Injectable<?>> injectables = discoverer.discover();
+      BiPredicate<Injectable<?>, InjectionTarget> validatedTargets = manifest == null ? null : manifest.validatedTargets(injectables);
+
+      if(!timed) {
+        store.putAll(injectables, validatedTargets);
+
+        return injectables;
+      }
+
+      long discoveredNanos = System.nanoTime();
+      long[] validatedNanos = new long[1];
+
+      store.putAll(injectables, validatedTargets, () -> validatedNanos[0] = System.nanoTime());
+
+      long endNanos = System.nanoTime();
+
+      event.end();
+
+      if(listener != null) {
+        listener.typesRegistered(types, injectables.size(), discoveredNanos - startNanos, validatedNanos[0] - discoveredNanos, endNanos - validatedNanos[0]);
+      }
+
+      if(event.shouldCommit()) {
+        event.types = types.toString();
+        event.discoveredCount = injectables.size();
+        event.validationTime = validatedNanos[0] - discoveredNanos;
+        event.commit();
+      }
+
+      return injectables;
     }
     catch(Exception e) {
       if(discoverer.getProblems().isEmpty()) {
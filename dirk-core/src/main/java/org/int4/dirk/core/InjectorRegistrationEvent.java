@@ -0,0 +1,30 @@
+package org.int4.dirk.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event emitted when a batch of types was registered with
+ * the injector.
+ */
+@Name("org.int4.dirk.InjectorRegistration")
+@Label("Injector Registration")
+@Category({"Dirk", "Injector"})
+@Description("Registration of types with the injector")
+class InjectorRegistrationEvent extends Event {
+
+  @Label("Types")
+  String types;
+
+  @Label("Discovered Count")
+  @Description("Number of candidates registered, including those discovered")
+  int discoveredCount;
+
+  @Label("Validation Time")
+  @Timespan(Timespan.NANOSECONDS)
+  long validationTime;
+}
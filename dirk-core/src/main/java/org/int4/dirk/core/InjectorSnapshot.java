@@ -0,0 +1,305 @@
+package org.int4.dirk.core;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.int4.dirk.api.CandidateRegistry;
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.api.definition.AutoDiscoveryException;
+import org.int4.dirk.api.definition.DefinitionException;
+import org.int4.dirk.api.definition.DependencyException;
+
+/**
+ * Stores the outcome of a registration in a file, so the same registration can be
+ * repeated quickly on a later start of the application. The file records the types
+ * which were registered, a {@link ValidationManifest} describing the validated
+ * dependencies between them and a hash of the class path they were loaded from.
+ *
+ * <p>When the snapshot file exists, the class path hash still matches and the class
+ * files of the recorded types are unchanged, the types are
+ * registered directly from the snapshot. The supplier of the types, which typically
+ * scans the class path, is not called, auto discovery is skipped as the snapshot also
+ * records the types which were discovered, and the checks described by the manifest
+ * are skipped. Otherwise the types are obtained from the supplier, registered with all
+ * the usual checks and a new snapshot is written.
+ *
+ * <p>Instances registered with {@link CandidateRegistry#registerInstance(Object, java.lang.annotation.Annotation...)}
+ * are not part of a snapshot and must be registered before registering a snapshot.
+ */
+public final class InjectorSnapshot {
+  private static final Logger LOGGER = Logger.getLogger(InjectorSnapshot.class.getName());
+  private static final int MAGIC = 0x4449524B;  // "DIRK"
+  private static final int VERSION = 1;
+
+  private final Path file;
+  private final ClassLoader classLoader;
+  private final List<Path> classPath;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param file a {@link Path} to the snapshot file, cannot be {@code null}
+   * @param classLoader a {@link ClassLoader} to load the types of the snapshot, cannot be {@code null}
+   * @param classPath a list of jars and directories containing the types, cannot be {@code null}
+   */
+  public InjectorSnapshot(Path file, ClassLoader classLoader, List<Path> classPath) {
+    this.file = Objects.requireNonNull(file, "file cannot be null");
+    this.classLoader = Objects.requireNonNull(classLoader, "classLoader cannot be null");
+    this.classPath = List.copyOf(Objects.requireNonNull(classPath, "classPath cannot be null"));
+  }
+
+  /**
+   * Constructs a new instance which loads the types of the snapshot with the system
+   * class loader and which uses the class path of the application.
+   *
+   * @param file a {@link Path} to the snapshot file, cannot be {@code null}
+   */
+  public InjectorSnapshot(Path file) {
+    this(file, ClassLoader.getSystemClassLoader(), Stream.of(System.getProperty("java.class.path", "").split(File.pathSeparator)).filter(s -> !s.isEmpty()).map(Path::of).collect(Collectors.toList()));
+  }
+
+  /**
+   * Registers the types recorded in the snapshot file with the given registry as a
+   * single batch. If there is no usable snapshot, registers the types provided by the
+   * given supplier instead and writes a new snapshot.
+   *
+   * @param registry a {@link CandidateRegistry} of a {@link StandardInjector}, cannot be {@code null}
+   * @param types a {@link Supplier} of a collection of {@link Class}es, cannot be {@code null}
+   * @return {@code true} if the types were registered from the snapshot, otherwise {@code false}
+   * @throws AutoDiscoveryException when the registration failed due to problems during auto discovery
+   * @throws DefinitionException when a type is not a valid definition
+   * @throws DependencyException when the registration would violate the rules of the injector
+   */
+  public boolean register(CandidateRegistry registry, Supplier<Collection<Type>> types) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    CandidateRegistry candidateRegistry = registry instanceof Injector ? ((Injector)registry).getCandidateRegistry() : registry;
+
+    if(!(candidateRegistry instanceof InjectableStoreCandidateRegistry)) {
+      throw new IllegalArgumentException("registry must be provided by a StandardInjector: " + registry);
+    }
+
+    InjectableStoreCandidateRegistry storeRegistry = (InjectableStoreCandidateRegistry)candidateRegistry;
+    String classPathHash = hashClassPath();
+    Snapshot snapshot = read(classPathHash);
+
+    if(snapshot != null && !isCoveredByClassPath(snapshot.types) && !snapshot.manifest.verify(snapshot.types)) {
+      LOGGER.warning("Snapshot " + file + " is outdated, class files changed, registering types again");
+    }
+    else if(snapshot != null) {
+      try {
+        storeRegistry.register(snapshot.types, snapshot.manifest);
+
+        return true;
+      }
+      catch(AutoDiscoveryException | DefinitionException | DependencyException e) {
+        LOGGER.warning("Snapshot " + file + " is outdated, registering types again: " + e.getMessage());
+      }
+    }
+
+    Collection<Type> suppliedTypes = types.get();
+
+    for(Type type : suppliedTypes) {
+      if(!(type instanceof Class)) {
+        throw new IllegalArgumentException("types must be classes: " + type);
+      }
+    }
+
+    ValidationManifest manifest = storeRegistry.registerAndDescribe(suppliedTypes, true);
+
+    try {
+      write(classPathHash, manifest);
+    }
+    catch(IOException e) {
+      LOGGER.warning("Unable to write snapshot " + file + ": " + e);
+    }
+
+    return false;
+  }
+
+  private Snapshot read(String classPathHash) {
+    if(!Files.isRegularFile(file)) {
+      return null;
+    }
+
+    try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !readString(buffer).equals(classPathHash)) {
+        return null;
+      }
+
+      int count = buffer.getInt();
+      List<Type> types = new ArrayList<>(count);
+
+      for(int i = 0; i < count; i++) {
+        types.add(Class.forName(readString(buffer), false, classLoader));
+      }
+
+      return new Snapshot(types, ValidationManifest.read(new ByteArrayInputStream(readBytes(buffer))));
+    }
+    catch(IOException | ClassNotFoundException | BufferUnderflowException | IllegalArgumentException e) {
+      LOGGER.warning("Ignoring unusable snapshot " + file + ": " + e);
+
+      return null;
+    }
+  }
+
+  private void write(String classPathHash, ValidationManifest manifest) throws IOException {
+    List<String> typeNames = manifest.getTypeNames();
+
+    for(String typeName : typeNames) {
+      try {
+        Class.forName(typeName, false, classLoader);
+      }
+      catch(ClassNotFoundException e) {
+        throw new IOException("Type cannot be loaded by name: " + typeName, e);  // can happen for generic types found by auto discovery
+      }
+    }
+
+    ByteArrayOutputStream manifestBytes = new ByteArrayOutputStream();
+    Path parent = file.toAbsolutePath().getParent();
+    Path temporaryFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+    manifest.write(manifestBytes);
+
+    try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      writeString(out, classPathHash);
+      out.writeInt(typeNames.size());
+
+      for(String typeName : typeNames) {
+        writeString(out, typeName);
+      }
+
+      out.writeInt(manifestBytes.size());
+      manifestBytes.writeTo(out);
+    }
+
+    Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /*
+   * Types loaded from an entry of the class path are covered by the class path hash, so
+   * their class files are known to be unchanged without checking them against the manifest.
+   */
+  private boolean isCoveredByClassPath(List<Type> types) {
+    Set<Path> entries = classPath.stream().map(path -> path.toAbsolutePath().normalize()).collect(Collectors.toSet());
+
+    for(Type type : types) {
+      CodeSource codeSource = ((Class<?>)type).getProtectionDomain().getCodeSource();
+
+      if(codeSource == null || codeSource.getLocation() == null) {
+        return false;
+      }
+
+      try {
+        if(!entries.contains(Path.of(codeSource.getLocation().toURI()).toAbsolutePath().normalize())) {
+          return false;
+        }
+      }
+      catch(URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /*
+   * The hash covers the name, size and modification time of each class path entry,
+   * and of each file in directory entries, which is far cheaper than reading their
+   * contents.
+   */
+  private String hashClassPath() {
+    StringBuilder builder = new StringBuilder();
+
+    for(Path path : classPath) {
+      builder.append(path.toAbsolutePath()).append('\n');
+
+      try {
+        if(Files.isDirectory(path)) {
+          try(Stream<Path> stream = Files.walk(path)) {
+            for(Path entry : (Iterable<Path>)stream.filter(Files::isRegularFile).sorted()::iterator) {
+              appendAttributes(builder.append(path.relativize(entry)), entry);
+            }
+          }
+        }
+        else if(Files.exists(path)) {
+          appendAttributes(builder, path);
+        }
+      }
+      catch(IOException e) {
+        builder.append("unreadable\n");
+      }
+    }
+
+    return ValidationManifest.digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void appendAttributes(StringBuilder builder, Path path) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+
+    builder.append('\t').append(attributes.size()).append('\t').append(attributes.lastModifiedTime().toMillis()).append('\n');
+  }
+
+  private static String readString(ByteBuffer buffer) throws IOException {
+    return new String(readBytes(buffer), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] readBytes(ByteBuffer buffer) throws IOException {
+    int length = buffer.getInt();
+
+    if(length < 0 || length > buffer.remaining()) {
+      throw new IOException("Snapshot is corrupt");
+    }
+
+    byte[] bytes = new byte[length];
+
+    buffer.get(bytes);
+
+    return bytes;
+  }
+
+  private static void writeString(DataOutputStream out, String text) throws IOException {
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static class Snapshot {
+    final List<Type> types;
+    final ValidationManifest manifest;
+
+    Snapshot(List<Type> types, ValidationManifest manifest) {
+      this.types = types;
+      this.manifest = manifest;
+    }
+  }
+}
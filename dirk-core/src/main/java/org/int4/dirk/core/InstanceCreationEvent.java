@@ -0,0 +1,29 @@
+package org.int4.dirk.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted when the injector created a new instance. The
+ * duration of the event includes the creation of any dependencies which did not
+ * exist yet.
+ */
+@Name("org.int4.dirk.InstanceCreation")
+@Label("Instance Creation")
+@Category({"Dirk", "Injector"})
+@Description("Creation of an instance by the injector")
+class InstanceCreationEvent extends Event {
+
+  @Label("Type")
+  String type;
+
+  @Label("Scope")
+  String scope;
+
+  @Label("Depth")
+  @Description("Number of instances under construction which required this instance")
+  int depth;
+}
@@ -1,14 +1,16 @@
 package org.int4.dirk.core;
 
 import java.lang.annotation.Annotation;
-import java.util.ArrayDeque;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -19,11 +21,13 @@ import org.int4.dirk.api.scope.ScopeException;
 import org.int4.dirk.api.scope.ScopeNotActiveException;
 import org.int4.dirk.core.RootInstanceFactory.RootInstance;
 import org.int4.dirk.core.definition.Binding;
+import org.int4.dirk.core.definition.CreationContext;
 import org.int4.dirk.core.definition.ExtendedScopeResolver;
 import org.int4.dirk.core.definition.Injectable;
 import org.int4.dirk.core.definition.InjectionTarget;
 import org.int4.dirk.core.definition.InjectionTargetExtensionStore;
 import org.int4.dirk.core.definition.Instantiator;
+import org.int4.dirk.core.definition.factory.PendingPostConstructs;
 import org.int4.dirk.core.definition.injection.Injection;
 import org.int4.dirk.core.util.Key;
 import org.int4.dirk.core.util.Resolver;
@@ -33,23 +37,31 @@ import org.int4.dirk.spi.instantiation.InjectionTargetExtension;
 import org.int4.dirk.spi.instantiation.Instance;
 import org.int4.dirk.spi.instantiation.InstanceProvider;
 import org.int4.dirk.spi.instantiation.Resolution;
+import org.int4.dirk.spi.instrumentation.InjectorListener;
 import org.int4.dirk.spi.scope.CreationalContext;
 import org.int4.dirk.spi.scope.ScopeResolver;
 import org.int4.dirk.util.Types;
 
+import jdk.jfr.EventType;
+
 /**
  * Factory for {@link Instance}s.
  */
 class InstanceFactory {
   private static final Logger LOGGER = Logger.getLogger(InstanceFactory.class.getName());
   private static final ExtendedCreationalContext<?> NULL_CONTEXT = new FixedCreationalContext<>(null);
+  private static final EventType SCOPE_LOOKUP_EVENT_TYPE = EventType.getEventType(ScopeLookupEvent.class);
+  private static final EventType INSTANCE_CREATION_EVENT_TYPE = EventType.getEventType(InstanceCreationEvent.class);
 
   private static boolean strictOrder;
 
   private final ProxyStrategy proxyStrategy;
   private final InjectionTargetExtensionStore injectionTargetExtensionStore;
   private final RootInstanceFactory rootInstanceFactory;
-  private final ThreadLocal<Deque<ExtendedCreationalContext<?>>> stack = ThreadLocal.withInitial(ArrayDeque::new);
+  private final InjectorListener listener;
+  private final MetricsCollector metrics;
+  private final PendingPostConstructs pendingPostConstructs;
+  private final RootsCreationalContext roots = new RootsCreationalContext();
 
   /**
    * Constructs a new instance.
@@ -59,13 +71,64 @@ class InstanceFactory {
    * @param injectionTargetExtensionStore an {@link InjectionTargetExtensionStore}, cannot be {@code null}
    */
   InstanceFactory(AnnotationStrategy annotationStrategy, ProxyStrategy proxyStrategy, InjectionTargetExtensionStore injectionTargetExtensionStore) {
+    this(annotationStrategy, proxyStrategy, injectionTargetExtensionStore, null, null, new PendingPostConstructs());
+  }
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param annotationStrategy an {@link AnnotationStrategy}, cannot be {@code null}
+   * @param proxyStrategy a {@link ProxyStrategy}, cannot be {@code null}
+   * @param injectionTargetExtensionStore an {@link InjectionTargetExtensionStore}, cannot be {@code null}
+   * @param listener an {@link InjectorListener} informed about scope lookups and created instances, can be {@code null}
+   * @param metrics a {@link MetricsCollector} which records scope lookups, proxies and dependents, can be {@code null}
+   * @param pendingPostConstructs the {@link PendingPostConstructs} of the injector, cannot be {@code null}
+   */
+  InstanceFactory(AnnotationStrategy annotationStrategy, ProxyStrategy proxyStrategy, InjectionTargetExtensionStore injectionTargetExtensionStore, InjectorListener listener, MetricsCollector metrics, PendingPostConstructs pendingPostConstructs) {
     this.proxyStrategy = Objects.requireNonNull(proxyStrategy, "proxyStrategy");
     this.injectionTargetExtensionStore = Objects.requireNonNull(injectionTargetExtensionStore, "injectionTargetExtensionStore");
-    this.rootInstanceFactory = new RootInstanceFactory(annotationStrategy);
+    this.metrics = metrics;
+    this.pendingPostConstructs = Objects.requireNonNull(pendingPostConstructs, "pendingPostConstructs");
+    this.rootInstanceFactory = new RootInstanceFactory(annotationStrategy, metrics, pendingPostConstructs);
+    this.listener = listener;
   }
 
   <T> Instance<T> createInstance(Resolver<Injectable<?>> resolver, Key key, boolean optional) {
-    return rootInstanceFactory.create(resolver, createInstantiatorInternal(key, optional, null));
+    return rootInstanceFactory.create(resolver, createInstantiatorInternal(key, optional, null), null);
+  }
+
+  /**
+   * Destroys the dependent instances tracked by the {@link Instance}s created with
+   * {@link #createInstance(Resolver, Key, boolean)}, which are not destroyed otherwise.
+   */
+  void releaseDependents() {
+    rootInstanceFactory.releaseAll();
+  }
+
+  /**
+   * Destroys the given dependent instance if it is tracked by an {@link Instance}
+   * created with {@link #createInstance(Resolver, Key, boolean)}.
+   *
+   * @param instance an instance, can be {@code null}
+   */
+  void releaseDependent(Object instance) {
+    rootInstanceFactory.release(instance);
+  }
+
+  /**
+   * Creates an instance of the given scoped {@link Injectable} in its scope, unless
+   * the scope already contains one.
+   *
+   * @param <T> the type of the instance
+   * @param resolver a {@link Resolver}, cannot be {@code null}
+   * @param injectable an {@link Injectable} which is not dependent scoped, cannot be {@code null}
+   * @throws CreationException when an error occurred during creation of the instance
+   * @throws ScopeNotActiveException when the scope of the injectable is not active
+   */
+  <T> void createScopedInstance(Resolver<Injectable<?>> resolver, Injectable<T> injectable) throws CreationException, ScopeNotActiveException {
+    DefaultInstantiator<T, ?> instantiator = createInstantiatorInternal(new Key(injectable.getType(), injectable.getQualifiers()), false, null);
+
+    instantiator.createContext(resolver, injectable, null);
   }
 
   <T> Instantiator<T> createInstantiator(Key key, boolean optional, Annotation parentScope) {
@@ -134,7 +197,9 @@ class InstanceFactory {
     }
 
     @Override
-    public ExtendedCreationalContext<T> create(Resolver<Injectable<?>> resolver) throws CreationException, UnsatisfiedResolutionException, AmbiguousResolutionException, ScopeNotActiveException {
+    public ExtendedCreationalContext<T> create(Resolver<Injectable<?>> resolver, CreationContext parent) throws CreationException, UnsatisfiedResolutionException, AmbiguousResolutionException, ScopeNotActiveException {
+      ExtendedCreationalContext<?> parentContext = (ExtendedCreationalContext<?>)parent;  // all creation contexts originate from this factory
+
       if(elementInstantiator == null) {
         @SuppressWarnings("unchecked")
         Set<Injectable<T>> injectables = (Set<Injectable<T>>)(Set<?>)resolver.resolve(key);
@@ -143,7 +208,7 @@ class InstanceFactory {
           throw new AmbiguousResolutionException("Multiple matching instances: [" + key + "]: " + injectables);
         }
 
-        ExtendedCreationalContext<T> creationalContext = injectables.size() == 0 ? null : createContext(resolver, injectables.iterator().next());
+        ExtendedCreationalContext<T> creationalContext = injectables.size() == 0 ? null : createContext(resolver, injectables.iterator().next(), parentContext);
 
         // TODO This should probably throw an IllegalProductException in the second null case
         if((creationalContext == null || creationalContext.get() == null) && !optional) {
@@ -156,35 +221,47 @@ class InstanceFactory {
         return castContext;
       }
 
-      RootInstance<E, ?> instance = rootInstanceFactory.create(resolver, elementInstantiator);
-      InjectionTargetExtensionCreationalContext<T, E> creationalContext = new InjectionTargetExtensionCreationalContext<>(stack.get().isEmpty() ? null : stack.get().getLast(), resolution == Resolution.LAZY ? instance : null);
+      if(resolution == Resolution.LAZY) {
+
+        /*
+         * Instances created lazily are tracked by the root instance and are not
+         * attached to the parent. The parent is only consulted for loop detection.
+         */
 
-      open(resolution == Resolution.LAZY ? NULL_CONTEXT : creationalContext);
+        DetachedCreationalContext detachedContext = new DetachedCreationalContext(parentContext);
+        RootInstance<E, ?> instance = rootInstanceFactory.create(resolver, elementInstantiator, detachedContext);
+        InjectionTargetExtensionCreationalContext<T, E> creationalContext = new InjectionTargetExtensionCreationalContext<>(parentContext, instance);
 
-      try {
-        creationalContext.initialize(instanceProvider.getInstance(instance), resolution == Resolution.LAZY);
+        creationalContext.initialize(instanceProvider.getInstance(instance), true);
+        detachedContext.enable();
 
         return creationalContext;
       }
-      finally {
-        close();
-      }
-    }
 
-    void open(ExtendedCreationalContext<?> creationalContext) {
-      stack.get().addLast(creationalContext);
+      InjectionTargetExtensionCreationalContext<T, E> creationalContext = new InjectionTargetExtensionCreationalContext<>(parentContext, null);
+      RootInstance<E, ?> instance = rootInstanceFactory.create(resolver, elementInstantiator, creationalContext);
+
+      creationalContext.initialize(instanceProvider.getInstance(instance), false);
+
+      return creationalContext;
     }
 
-    void close() {
-      if(stack.get().size() == 1) {
-        stack.remove();
+    ExtendedCreationalContext<T> find(Resolver<Injectable<?>> resolver, ExtendedCreationalContext<?> parent) throws CreationException, AmbiguousResolutionException {
+      if(elementInstantiator != null) {
+        return create(resolver, parent);
       }
-      else {
-        stack.get().removeLast();
+
+      @SuppressWarnings("unchecked")
+      Set<Injectable<T>> injectables = (Set<Injectable<T>>)(Set<?>)resolver.resolve(key);
+
+      if(injectables.size() > 1) {
+        throw new AmbiguousResolutionException("Multiple matching instances: [" + key + "]: " + injectables);
       }
+
+      return injectables.isEmpty() ? null : createContextInScope(resolver, injectables.iterator().next(), parent);
     }
 
-    List<ExtendedCreationalContext<T>> createAll(Resolver<Injectable<?>> resolver) throws CreationException {
+    List<ExtendedCreationalContext<T>> createAll(Resolver<Injectable<?>> resolver, ExtendedCreationalContext<?> parent) throws CreationException {
       if(elementInstantiator == null) {
         List<ExtendedCreationalContext<T>> creationalContexts = new ArrayList<>();
 
@@ -196,7 +273,7 @@ class InstanceFactory {
         }
 
         for(Injectable<T> injectable : injectables) {
-          ExtendedCreationalContext<T> creationalContext = createContextInScope(resolver, injectable);
+          ExtendedCreationalContext<T> creationalContext = createContextInScope(resolver, injectable, parent);
 
           if(creationalContext != null) {
             creationalContexts.add(creationalContext);
@@ -224,13 +301,13 @@ class InstanceFactory {
       return List.of();
     }
 
-    private ExtendedCreationalContext<T> createContextInScope(Resolver<Injectable<?>> resolver, Injectable<T> injectable) throws CreationException {
+    private ExtendedCreationalContext<T> createContextInScope(Resolver<Injectable<?>> resolver, Injectable<T> injectable, ExtendedCreationalContext<?> parent) throws CreationException {
       try {
         if(!injectable.getScopeResolver().isDependentScope() && !injectable.getScopeResolver().isActive()) {
           return null;
         }
 
-        return createContext(resolver, injectable);
+        return createContext(resolver, injectable, parent);
       }
       catch(ScopeNotActiveException e) {
 
@@ -244,14 +321,28 @@ class InstanceFactory {
       }
     }
 
-    private ExtendedCreationalContext<T> createContext(Resolver<Injectable<?>> resolver, Injectable<T> injectable) throws CreationException, ScopeNotActiveException {
+    private ExtendedCreationalContext<T> createContext(Resolver<Injectable<?>> resolver, Injectable<T> injectable, ExtendedCreationalContext<?> parent) throws CreationException, ScopeNotActiveException {
       try {
         ExtendedScopeResolver scopeResolver = injectable.getScopeResolver();
         boolean needsProxy = parentScope != null && !scopeResolver.isPseudoScope() && !scopeResolver.getAnnotation().equals(parentScope);
 
         if(needsProxy) {
           try {
-            T instance = proxyStrategy.<T>createProxyFactory(Types.raw(injectable.getType())).apply(() -> createContext(resolver, scopeResolver, injectable).get());
+            T instance = proxyStrategy.<T>createProxyFactory(Types.raw(injectable.getType())).apply(() -> {
+              T target = createContext(resolver, scopeResolver, injectable, null).get();
+
+              pendingPostConstructs.await(target);
+
+              return target;
+            });
+
+            if(metrics != null) {
+              metrics.proxyCreated(Types.raw(injectable.getType()));
+            }
+
+            if(listener != null) {
+              listener.proxyCreated(injectable.getType(), injectable.getQualifiers(), scopeResolver.getAnnotation());
+            }
 
             return new FixedCreationalContext<>(instance);
           }
@@ -260,7 +351,7 @@ class InstanceFactory {
           }
         }
 
-        return createContext(resolver, scopeResolver, injectable);
+        return createContext(resolver, scopeResolver, injectable, parent);
       }
       catch(ScopeNotActiveException | CreationException e) {  // Avoid wrapping these exceptions in another layer
         throw e;
@@ -270,42 +361,102 @@ class InstanceFactory {
       }
     }
 
-    private ExtendedCreationalContext<T> createContext(Resolver<Injectable<?>> resolver, ExtendedScopeResolver scopeResolver, Injectable<T> injectable) throws ScopeNotActiveException, Exception {
+    private ExtendedCreationalContext<T> createContext(Resolver<Injectable<?>> resolver, ExtendedScopeResolver scopeResolver, Injectable<T> injectable, ExtendedCreationalContext<?> parent) throws ScopeNotActiveException, Exception {
       @SuppressWarnings("unchecked")
       ExtendedCreationalContext<T> existingCreationalContext = (ExtendedCreationalContext<T>)scopeResolver.find(injectable);
 
+      if(!scopeResolver.isDependentScope()) {
+        if(metrics != null) {
+          metrics.scopeLookup(scopeResolver.getAnnotation(), existingCreationalContext != null);
+        }
+
+        if(listener != null) {
+          listener.scopeLookup(injectable.getType(), injectable.getQualifiers(), scopeResolver.getAnnotation(), existingCreationalContext != null);
+        }
+
+        if(SCOPE_LOOKUP_EVENT_TYPE.isEnabled()) {  // avoids allocating an event for every lookup when not recording
+          ScopeLookupEvent event = new ScopeLookupEvent();
+
+          if(event.shouldCommit()) {
+            event.type = injectable.getType().getTypeName();
+            event.scope = scopeResolver.getAnnotation().toString();
+            event.hit = existingCreationalContext != null;
+            event.commit();
+          }
+        }
+      }
+
       if(existingCreationalContext != null) {
         return existingCreationalContext;
       }
 
-      LazyCreationalContext<T> creationalContext = new LazyCreationalContext<>(stack.get().isEmpty() ? null : stack.get().getLast(), injectable);
+      if((parent == null ? roots : parent).isConstructing(injectable)) {
+        throw new CreationException("[" + injectable.getType() + "] already under construction (dependency creation loop in setter, initializer or post-construct method?)");
+      }
 
-      open(creationalContext);
+      LazyCreationalContext<T> creationalContext = parent == null ? new RootCreationalContext<>(injectable) : new LazyCreationalContext<>(parent, injectable);
 
-      try {
-        creationalContext.initialize(createInstance(resolver, injectable));
+      InstanceCreationEvent event = INSTANCE_CREATION_EVENT_TYPE.isEnabled() ? new InstanceCreationEvent() : null;
+      long startNanos = listener == null ? 0 : System.nanoTime();
 
-        scopeResolver.put(injectable, creationalContext);
+      if(event != null) {
+        event.begin();
+      }
 
-        return creationalContext;
+      if(parent == null) {
+        creationalContext.initialize(createRootInstance(resolver, (RootCreationalContext<T>)creationalContext));
       }
-      finally {
-        close();
+      else {
+        creationalContext.initialize(createInstance(resolver, injectable, creationalContext));
       }
+
+      if(event != null) {
+        event.end();
+      }
+
+      if(listener != null) {
+        listener.instanceCreated(injectable.getType(), injectable.getQualifiers(), scopeResolver.getAnnotation(), System.nanoTime() - startNanos);
+      }
+
+      if(event != null && event.shouldCommit()) {
+        event.type = injectable.getType().getTypeName();
+        event.scope = scopeResolver.getAnnotation().toString();
+        event.depth = parent == null ? 0 : parent.getDepth();
+        event.commit();
+      }
+
+      scopeResolver.put(injectable, creationalContext);
+
+      return creationalContext;
     }
 
     void destroy(CreationalContext<T> creationalContext) {
       creationalContext.release();
     }
 
-    private T createInstance(Resolver<Injectable<?>> resolver, Injectable<T> injectable) throws CreationException, AmbiguousResolutionException, UnsatisfiedResolutionException {
+    private T createRootInstance(Resolver<Injectable<?>> resolver, RootCreationalContext<T> creationalContext) throws CreationException, AmbiguousResolutionException, UnsatisfiedResolutionException {
+      roots.add(creationalContext);
+
+      try {
+        return createInstance(resolver, creationalContext.getInjectable(), creationalContext);
+      }
+      finally {
+        roots.remove(creationalContext);
+      }
+    }
+
+    private T createInstance(Resolver<Injectable<?>> resolver, Injectable<T> injectable, ExtendedCreationalContext<?> creationalContext) throws CreationException, AmbiguousResolutionException, UnsatisfiedResolutionException {
       try {
         List<Injection> injections = new ArrayList<>();
 
         for(InjectionTarget injectionTarget : injectable.getInjectionTargets()) {
           Binding binding = injectionTarget.getBinding();
 
-          injections.add(new Injection(binding.getAccessibleObject(), injectionTarget.getInstantiator().create(resolver).get()));
+          injections.add(new Injection(binding.getAccessibleObject(), injectionTarget.getInstantiator().create(resolver, creationalContext).get()));
+        }
+
+        for(Injection injection : injections) {
+          pendingPostConstructs.await(injection.getValue());  // dependencies are only injected once fully initialized
         }
 
         return injectable.create(injections);
@@ -316,9 +467,10 @@ class InstanceFactory {
     }
   }
 
-  interface ExtendedCreationalContext<T> extends CreationalContext<T> {
+  interface ExtendedCreationalContext<T> extends CreationalContext<T>, CreationContext {
     void attach(ExtendedCreationalContext<?> creationalContext);
     boolean needsDestroy();
+    int getDepth();  // the number of instances in this context and its parents
   }
 
   private static final class FixedCreationalContext<T> implements ExtendedCreationalContext<T> {
@@ -346,6 +498,162 @@ class InstanceFactory {
     public void attach(ExtendedCreationalContext<?> creationalContext) {
       throw new IllegalStateException("Incorrectly implemented extension. Lazy extensions are not allowed to access the creational context during instance creation!");
     }
+
+    @Override
+    public boolean isConstructing(Injectable<?> injectable) {
+      return false;
+    }
+
+    @Override
+    public int getDepth() {
+      return 0;
+    }
+  }
+
+  /**
+   * A {@link CreationalContext} which serves as the parent of instances created lazily,
+   * like by a provider. Lazily created instances are not attached to it, but it allows
+   * detecting whether such an instance is still under construction in the context the
+   * provider was created in.
+   *
+   * <p>Until enabled, any attempt by the creating thread to create an instance in this
+   * context is rejected, as lazy extensions are not allowed to create instances while the
+   * provider is created. Other threads, like those used by an extension which creates
+   * its instances asynchronously, are allowed to do so.
+   */
+  private static final class DetachedCreationalContext implements ExtendedCreationalContext<Object> {
+    private final WeakReference<ExtendedCreationalContext<?>> parent;  // weak, as the parent is only relevant while it is under construction
+    private final WeakReference<Thread> creatingThread = new WeakReference<>(Thread.currentThread());  // weak, as providers can outlive the thread which created them
+
+    private volatile boolean enabled;
+
+    DetachedCreationalContext(ExtendedCreationalContext<?> parent) {
+      this.parent = parent == null ? null : new WeakReference<>(parent);
+    }
+
+    void enable() {
+      this.enabled = true;
+    }
+
+    @Override
+    public Object get() {
+      return null;
+    }
+
+    @Override
+    public void release() {
+    }
+
+    @Override
+    public boolean needsDestroy() {
+      return false;
+    }
+
+    @Override
+    public void attach(ExtendedCreationalContext<?> creationalContext) {
+      if(!enabled && Thread.currentThread() == creatingThread.get()) {
+        throw new IllegalStateException("Incorrectly implemented extension. Lazy extensions are not allowed to access the creational context during instance creation!");
+      }
+    }
+
+    @Override
+    public boolean isConstructing(Injectable<?> injectable) {
+      ExtendedCreationalContext<?> parentContext = parent == null ? null : parent.get();
+
+      return parentContext != null && parentContext.isConstructing(injectable);
+    }
+
+    @Override
+    public int getDepth() {
+      ExtendedCreationalContext<?> parentContext = parent == null ? null : parent.get();
+
+      return parentContext == null ? 0 : parentContext.getDepth();
+    }
+  }
+
+  /**
+   * A {@link CreationalContext} which serves as the parent of all {@link RootCreationalContext}s.
+   * Root contexts are not attached to it, but it knows which of them are under construction,
+   * and by which thread, so an instance which obtains its own type without a parent context,
+   * like from a post construct method through an injected {@code InstanceResolver}, is
+   * rejected instead of recursing endlessly.
+   *
+   * <p>Only the thread which constructs a root counts it as being under construction, as
+   * unrelated threads are allowed to create instances of the same injectable concurrently.
+   */
+  private static final class RootsCreationalContext implements ExtendedCreationalContext<Object> {
+    private final Map<Injectable<?>, RootCreationalContext<?>> constructing = new ConcurrentHashMap<>();  // roots under construction, chained per injectable
+
+    void add(RootCreationalContext<?> creationalContext) {
+      constructing.compute(creationalContext.getInjectable(), (k, head) -> {
+        creationalContext.next = head;
+
+        return creationalContext;
+      });
+    }
+
+    void remove(RootCreationalContext<?> creationalContext) {
+      constructing.computeIfPresent(creationalContext.getInjectable(), (k, head) -> {
+        if(head == creationalContext) {
+          return creationalContext.next;
+        }
+
+        for(RootCreationalContext<?> context = head; context.next != null; context = context.next) {
+          if(context.next == creationalContext) {
+            context.next = creationalContext.next;
+
+            break;
+          }
+        }
+
+        return head;
+      });
+
+      /*
+       * A concurrent reader positioned on this context now misses the rest of the chain.
+       * This is harmless as only roots of other threads can be removed while reading, and
+       * a missed loop is detected one level deeper.
+       */
+
+      creationalContext.next = null;
+      creationalContext.thread = null;
+    }
+
+    @Override
+    public Object get() {
+      return null;
+    }
+
+    @Override
+    public void release() {
+    }
+
+    @Override
+    public boolean needsDestroy() {
+      return false;
+    }
+
+    @Override
+    public void attach(ExtendedCreationalContext<?> creationalContext) {
+    }
+
+    @Override
+    public boolean isConstructing(Injectable<?> injectable) {
+      Thread currentThread = Thread.currentThread();
+
+      for(RootCreationalContext<?> context = constructing.get(injectable); context != null; context = context.next) {
+        if(context.thread == currentThread) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    @Override
+    public int getDepth() {
+      return 0;
+    }
   }
 
   private static final class InjectionTargetExtensionCreationalContext<T, E> implements ExtendedCreationalContext<T> {
@@ -410,6 +718,16 @@ class InstanceFactory {
     public boolean needsDestroy() {
       return needsDestroy;
     }
+
+    @Override
+    public boolean isConstructing(Injectable<?> injectable) {
+      return parent != null && parent.isConstructing(injectable);
+    }
+
+    @Override
+    public int getDepth() {
+      return parent == null ? 0 : parent.getDepth();
+    }
   }
 
   /*
@@ -449,9 +767,10 @@ class InstanceFactory {
     private final ExtendedCreationalContext<?> parent;
     private final Injectable<T> injectable;
 
-    private T instance;
-    private boolean initialized;
-    private boolean released;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private volatile T instance;
+    private volatile boolean initialized;
     private List<CreationalContext<?>> children;
 
     LazyCreationalContext(ExtendedCreationalContext<?> parent, Injectable<T> injectable) {
@@ -459,6 +778,10 @@ class InstanceFactory {
       this.injectable = injectable;
     }
 
+    Injectable<T> getInjectable() {
+      return injectable;
+    }
+
     void initialize(T instance) {
       this.instance = instance;
       this.initialized = true;
@@ -489,8 +812,20 @@ class InstanceFactory {
     }
 
     @Override
-    public synchronized T get() {
-      if(released) {
+    public boolean isConstructing(Injectable<?> injectable) {
+      return (!initialized && this.injectable.equals(injectable)) || (parent != null && parent.isConstructing(injectable));
+    }
+
+    @Override
+    public int getDepth() {
+      return (parent == null ? 0 : parent.getDepth()) + 1;
+    }
+
+    @Override
+    public T get() {
+      T instance = this.instance;  // read before checking released, as release clears it
+
+      if(released.get()) {
         throw new IllegalStateException("context was already released");
       }
 
@@ -502,12 +837,13 @@ class InstanceFactory {
     }
 
     @Override
-    public synchronized void release() {
-      if(!released) {
-        injectable.destroy(instance);
+    public void release() {
+      if(released.compareAndSet(false, true)) {
+        T instance = this.instance;
+
+        this.instance = null;
 
-        released = true;
-        instance = null;
+        injectable.destroy(instance);
 
         if(children != null) {
           for(CreationalContext<?> child : children) {
@@ -517,4 +853,18 @@ class InstanceFactory {
       }
     }
   }
+
+  /**
+   * A {@link LazyCreationalContext} for an instance created without a parent, like one
+   * obtained directly from the injector. While under construction, it is known to the
+   * {@link RootsCreationalContext} which is its parent.
+   */
+  private class RootCreationalContext<T> extends LazyCreationalContext<T> {
+    volatile RootCreationalContext<?> next;  // next root under construction for the same injectable
+    Thread thread = Thread.currentThread();  // cleared once constructed, as contexts can outlive their thread
+
+    RootCreationalContext(Injectable<T> injectable) {
+      super(roots, injectable);
+    }
+  }
 }
@@ -0,0 +1,39 @@
+package org.int4.dirk.core;
+
+import java.util.Set;
+
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.util.Key;
+import org.int4.dirk.core.util.Resolver;
+import org.int4.dirk.spi.instrumentation.InjectorListener;
+
+/**
+ * A {@link Resolver} which informs an {@link InjectorListener} about each resolution
+ * it delegates.
+ */
+class ListeningResolver implements Resolver<Injectable<?>> {
+  private final Resolver<Injectable<?>> delegate;
+  private final InjectorListener listener;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param delegate a {@link Resolver} which does the actual resolving, cannot be {@code null}
+   * @param listener an {@link InjectorListener}, cannot be {@code null}
+   */
+  ListeningResolver(Resolver<Injectable<?>> delegate, InjectorListener listener) {
+    this.delegate = delegate;
+    this.listener = listener;
+  }
+
+  @Override
+  public Set<Injectable<?>> resolve(Key key) {
+    listener.resolveStarted(key.getType(), key.getQualifiers());
+
+    Set<Injectable<?>> injectables = delegate.resolve(key);
+
+    listener.resolveEnded(key.getType(), key.getQualifiers(), injectables.size());
+
+    return injectables;
+  }
+}
@@ -0,0 +1,110 @@
+package org.int4.dirk.core;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.int4.dirk.api.metrics.Metric;
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.util.Key;
+import org.int4.dirk.core.util.Resolver;
+import org.int4.dirk.spi.scope.ScopeResolver;
+
+/**
+ * Keeps the counters of an injector, and reports these together with gauges derived
+ * from the current state of the injector as {@link Metric}s. An injector only uses
+ * a collector when metrics were requested, so injectors without metrics do not pay
+ * for counting on their hot paths.
+ */
+class MetricsCollector {
+  private static final Key ALL = new Key(Object.class);
+
+  private final Map<Annotation, LongAdder> hitsByScope = new ConcurrentHashMap<>();
+  private final Map<Annotation, LongAdder> missesByScope = new ConcurrentHashMap<>();
+  private final LongAdder dependents = new LongAdder();
+  private final LongAdder proxyClassCount = new LongAdder();
+  private final ClassValue<Boolean> proxyClasses = new ClassValue<>() {  // lock free after the first proxy of a class, and does not prevent unloading
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      proxyClassCount.increment();
+
+      return Boolean.TRUE;
+    }
+  };
+
+  /**
+   * Records a lookup of an existing instance in a scope.
+   *
+   * @param scope a scope {@link Annotation}, cannot be {@code null}
+   * @param hit {@code true} if an existing instance was found, otherwise {@code false}
+   */
+  void scopeLookup(Annotation scope, boolean hit) {
+    (hit ? hitsByScope : missesByScope).computeIfAbsent(scope, k -> new LongAdder()).increment();
+  }
+
+  /**
+   * Records the creation of a proxy.
+   *
+   * @param proxiedClass the {@link Class} which was proxied, cannot be {@code null}
+   */
+  void proxyCreated(Class<?> proxiedClass) {
+    proxyClasses.get(proxiedClass);
+  }
+
+  /**
+   * Records a change in the number of tracked dependent instances.
+   *
+   * @param delta the change in the number of dependent instances
+   */
+  void dependentsChanged(int delta) {
+    dependents.add(delta);
+  }
+
+  /**
+   * Returns the current values of all metrics.
+   *
+   * @param resolver a {@link Resolver} for all registered {@link Injectable}s, cannot be {@code null}
+   * @param scopeResolvers a collection of {@link ScopeResolver}s, cannot be {@code null} or contain {@code null}s but can be empty
+   * @param discoveryCacheSize the number of entries in the discovery cache
+   * @return a list of {@link Metric}s, never {@code null}
+   */
+  List<Metric> snapshot(Resolver<Injectable<?>> resolver, Collection<ScopeResolver> scopeResolvers, int discoveryCacheSize) {
+    List<Metric> metrics = new ArrayList<>();
+    Map<String, Long> injectablesByScope = new TreeMap<>();
+
+    for(Injectable<?> injectable : resolver.resolve(ALL)) {
+      injectablesByScope.merge(toTag(injectable.getScopeResolver().getAnnotation()), 1L, Long::sum);
+    }
+
+    injectablesByScope.forEach((scope, count) -> metrics.add(Metric.gauge("injectables", Map.of("scope", scope), count)));
+    hitsByScope.forEach((scope, count) -> metrics.add(Metric.counter("scope.lookups", Map.of("scope", toTag(scope), "result", "hit"), count.sum())));
+    missesByScope.forEach((scope, count) -> metrics.add(Metric.counter("scope.lookups", Map.of("scope", toTag(scope), "result", "miss"), count.sum())));
+
+    for(ScopeResolver scopeResolver : scopeResolvers) {  // totals per scope annotation, as the scopes themselves can be unbounded
+      String scope = toTag(scopeResolver.getAnnotation());
+
+      long instances = 0;
+
+      for(int count : scopeResolver.getInstanceCounts().values()) {
+        instances += count;
+      }
+
+      metrics.add(Metric.gauge("scope.instances", Map.of("scope", scope), instances));
+    }
+
+    metrics.add(Metric.gauge("dependents", Map.of(), dependents.sum()));
+    metrics.add(Metric.gauge("proxy.classes", Map.of(), proxyClassCount.sum()));
+    metrics.add(Metric.gauge("discovery.cache.size", Map.of(), discoveryCacheSize));
+
+    return metrics;
+  }
+
+  private static String toTag(Annotation scope) {
+    return scope.annotationType().getName();
+  }
+}
@@ -4,11 +4,16 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -20,6 +25,7 @@ import org.int4.dirk.api.scope.ScopeNotActiveException;
 import org.int4.dirk.core.InstanceFactory.DefaultInstantiator;
 import org.int4.dirk.core.InstanceFactory.ExtendedCreationalContext;
 import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.definition.factory.PendingPostConstructs;
 import org.int4.dirk.core.util.Key;
 import org.int4.dirk.core.util.Resolver;
 import org.int4.dirk.spi.config.AnnotationStrategy;
@@ -28,14 +34,22 @@ import org.int4.dirk.spi.scope.CreationalContext;
 
 class RootInstanceFactory {
   private final AnnotationStrategy annotationStrategy;
+  private final MetricsCollector metrics;
+  private final PendingPostConstructs pendingPostConstructs;
+  private final Set<RootInstance<?, ?>> trackingRootInstances = new LinkedHashSet<>();  // root instances without a parent which track dependents
+  private final Lock lock = new ReentrantLock();  // not synchronized, as monitors pin virtual threads
 
   /**
    * Constructs a new instance.
    *
    * @param annotationStrategy an {@link AnnotationStrategy}, cannot be {@code null}
+   * @param metrics a {@link MetricsCollector} which records the number of tracked dependents, can be {@code null}
+   * @param pendingPostConstructs the {@link PendingPostConstructs} of the injector, cannot be {@code null}
    */
-  RootInstanceFactory(AnnotationStrategy annotationStrategy) {
+  RootInstanceFactory(AnnotationStrategy annotationStrategy, MetricsCollector metrics, PendingPostConstructs pendingPostConstructs) {
     this.annotationStrategy = Objects.requireNonNull(annotationStrategy, "annotationStrategy");
+    this.metrics = metrics;
+    this.pendingPostConstructs = Objects.requireNonNull(pendingPostConstructs, "pendingPostConstructs");
   }
 
   /**
@@ -47,35 +61,134 @@ class RootInstanceFactory {
    * @param <T> the type of instances the context creates
    * @param <E> the element type of instances the context creates
    * @param instantiator a {@link DefaultInstantiator}, cannot be {@code null}
+   * @param creationContext the {@link ExtendedCreationalContext} in which the instances are created, can be {@code null}
    * @return a {@link RootInstance}, never {@code null}
    */
-  <T, E> RootInstance<T, E> create(Resolver<Injectable<?>> resolver, DefaultInstantiator<T, E> instantiator) {
-    return new RootInstance<>(resolver, instantiator);
+  <T, E> RootInstance<T, E> create(Resolver<Injectable<?>> resolver, DefaultInstantiator<T, E> instantiator, ExtendedCreationalContext<?> creationContext) {
+    return new RootInstance<>(resolver, instantiator, creationContext);
+  }
+
+  /**
+   * Destroys the dependents tracked by all root instances which are not part of
+   * another instance, like the root instances used by the injector itself to obtain
+   * instances. The dependents tracked by other root instances are destroyed when
+   * the instance they are part of is destroyed.
+   */
+  void releaseAll() {
+    List<RootInstance<?, ?>> rootInstances;
+
+    lock.lock();
+
+    try {
+      rootInstances = new ArrayList<>(trackingRootInstances);
+    }
+    finally {
+      lock.unlock();
+    }
+
+    Collections.reverse(rootInstances);
+
+    for(RootInstance<?, ?> rootInstance : rootInstances) {
+      rootInstance.release();
+    }
+  }
+
+  /**
+   * Destroys the given instance if it is a dependent tracked by a root instance which
+   * is not part of another instance. Does nothing if the instance is not tracked.
+   *
+   * @param instance an instance, can be {@code null}
+   * @return {@code true} if the instance was destroyed, otherwise {@code false}
+   */
+  boolean release(Object instance) {
+    List<RootInstance<?, ?>> rootInstances;
+
+    lock.lock();
+
+    try {
+      rootInstances = new ArrayList<>(trackingRootInstances);
+    }
+    finally {
+      lock.unlock();
+    }
+
+    for(int i = rootInstances.size() - 1; i >= 0; i--) {  // recently obtained instances are the most likely to be released
+      if(rootInstances.get(i).releaseInstance(instance)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /*
+   * Called without holding the lock of the given root instance, so the tracking
+   * state is read again here; of concurrent changes, the last call sees the final state.
+   */
+  private void trackingChanged(RootInstance<?, ?> rootInstance) {
+    lock.lock();
+
+    try {
+      if(rootInstance.tracking) {
+        trackingRootInstances.add(rootInstance);
+      }
+      else {
+        trackingRootInstances.remove(rootInstance);
+      }
+    }
+    finally {
+      lock.unlock();
+    }
   }
 
   abstract class AbstractRootInstance<T, E> implements Instance<T> {
     protected final Resolver<Injectable<?>> resolver;
     protected final DefaultInstantiator<T, E> instantiator;
+    protected final ExtendedCreationalContext<?> creationContext;
 
-    protected AbstractRootInstance(Resolver<Injectable<?>> resolver, DefaultInstantiator<T, E> instantiator) {
+    protected AbstractRootInstance(Resolver<Injectable<?>> resolver, DefaultInstantiator<T, E> instantiator, ExtendedCreationalContext<?> creationContext) {
       this.resolver = resolver;
       this.instantiator = instantiator;
+      this.creationContext = creationContext;
     }
 
     @Override
     public final T get() throws CreationException, UnsatisfiedResolutionException, AmbiguousResolutionException, ScopeNotActiveException {
-      ExtendedCreationalContext<T> creationalContext = instantiator.create(resolver);
+      ExtendedCreationalContext<T> creationalContext = instantiator.create(resolver, creationContext);
 
       if(creationalContext.needsDestroy()) {
         storeCreationalContext(creationalContext);
       }
 
-      return creationalContext.get();
+      T instance = creationalContext.get();
+
+      pendingPostConstructs.await(instance);
+
+      return instance;
+    }
+
+    @Override
+    public final Optional<T> find() throws CreationException, AmbiguousResolutionException {
+      ExtendedCreationalContext<T> creationalContext = instantiator.find(resolver, creationContext);
+
+      if(creationalContext == null) {
+        return Optional.empty();
+      }
+
+      if(creationalContext.needsDestroy()) {
+        storeCreationalContext(creationalContext);
+      }
+
+      T instance = creationalContext.get();
+
+      pendingPostConstructs.await(instance);
+
+      return Optional.ofNullable(instance);
     }
 
     @Override
     public final List<T> getAll() throws CreationException {
-      List<ExtendedCreationalContext<T>> creationalContexts = instantiator.createAll(resolver);
+      List<ExtendedCreationalContext<T>> creationalContexts = instantiator.createAll(resolver, creationContext);
 
       if(creationalContexts == null) {
         return null;
@@ -95,6 +208,10 @@ class RootInstanceFactory {
         }
       }
 
+      for(T instance : instances) {
+        pendingPostConstructs.await(instance);
+      }
+
       return instances;
     }
 
@@ -136,9 +253,12 @@ class RootInstanceFactory {
    */
   class RootInstance<T, E> extends AbstractRootInstance<T, E> {
     private final Map<Identity<T>, CreationalContext<T>> creationalContexts = new LinkedHashMap<>();
+    private final Lock lock = new ReentrantLock();  // not synchronized, as monitors pin virtual threads
 
-    RootInstance(Resolver<Injectable<?>> resolver, DefaultInstantiator<T, E> instantiator) {
-      super(resolver, instantiator);
+    private volatile boolean tracking;  // whether this instance is tracked by the factory, only when it is not part of another instance
+
+    RootInstance(Resolver<Injectable<?>> resolver, DefaultInstantiator<T, E> instantiator, ExtendedCreationalContext<?> creationContext) {
+      super(resolver, instantiator, creationContext);
     }
 
     @Override
@@ -151,41 +271,121 @@ class RootInstanceFactory {
       return new ChildInstance<>(resolver, subInstantiator, castParent);
     }
 
-    synchronized boolean hasContextFor(T instance) {
-      return creationalContexts.containsKey(new Identity<>(instance));
+    boolean hasContextFor(T instance) {
+      lock.lock();
+
+      try {
+        return creationalContexts.containsKey(new Identity<>(instance));
+      }
+      finally {
+        lock.unlock();
+      }
     }
 
     @Override
-    public synchronized void destroy(T instance) {
-      CreationalContext<T> creationalContext = creationalContexts.remove(new Identity<>(instance));
-
-      if(creationalContext != null) {
-        instantiator.destroy(creationalContext);  // it will only be dependent here as nothing else is stored in the instance map
-      }
+    public void destroy(T instance) {
+      destroyInternal(Collections.singletonList(instance));
     }
 
     @Override
-    public synchronized void destroyAll(Collection<T> instances) {
+    public void destroyAll(Collection<T> instances) {
       if(instantiator.isExtended()) {
         throw new IllegalStateException("Can only destroy multiple instances of unextended types");
       }
 
-      for(T instance : instances) {
-        destroy(instance);
+      destroyInternal(instances);
+    }
+
+    @SuppressWarnings("unchecked")
+    boolean releaseInstance(Object instance) {
+      return destroyInternal(Collections.singletonList((T)instance));  // safe cast as instances are only compared by identity
+    }
+
+    private boolean destroyInternal(Collection<T> instances) {
+      boolean destroyed = false;
+      boolean wasTracking;
+
+      lock.lock();
+
+      try {
+        wasTracking = tracking;
+
+        for(T instance : instances) {
+          CreationalContext<T> creationalContext = creationalContexts.remove(new Identity<>(instance));
+
+          if(creationalContext != null) {
+            if(metrics != null) {
+              metrics.dependentsChanged(-1);
+            }
+
+            destroyed = true;
+            instantiator.destroy(creationalContext);  // it will only be dependent here as nothing else is stored in the instance map
+          }
+        }
+
+        tracking = !creationalContexts.isEmpty() && creationContext == null;
       }
+      finally {
+        lock.unlock();
+      }
+
+      if(wasTracking && !tracking) {
+        trackingChanged(this);  // outside the lock of this instance, as the lock order with releaseAll would be inverted otherwise
+      }
+
+      return destroyed;
     }
 
     @Override
-    protected synchronized void storeCreationalContext(CreationalContext<T> creationalContext) {
-      creationalContexts.put(new Identity<>(creationalContext.get()), creationalContext);
+    protected void storeCreationalContext(CreationalContext<T> creationalContext) {
+      boolean wasTracking;
+
+      lock.lock();
+
+      try {
+        wasTracking = tracking;
+
+        if(creationalContexts.put(new Identity<>(creationalContext.get()), creationalContext) == null && metrics != null) {
+          metrics.dependentsChanged(1);
+        }
+
+        tracking = creationContext == null;
+      }
+      finally {
+        lock.unlock();
+      }
+
+      if(!wasTracking && tracking) {
+        trackingChanged(this);
+      }
     }
 
-    synchronized void release() {
-      for(CreationalContext<T> creationalContext : creationalContexts.values()) {
-        instantiator.destroy(creationalContext);
+    void release() {
+      boolean wasTracking;
+
+      lock.lock();
+
+      try {
+        wasTracking = tracking;
+
+        for(CreationalContext<T> creationalContext : creationalContexts.values()) {
+          instantiator.destroy(creationalContext);
+        }
+
+        if(metrics != null) {
+          metrics.dependentsChanged(-creationalContexts.size());
+        }
+        creationalContexts.clear();
+
+        tracking = false;
+      }
+      finally {
+        lock.unlock();
       }
 
-      creationalContexts.clear();
+      if(wasTracking) {
+        trackingChanged(this);
+      }
     }
   }
 
@@ -201,7 +401,7 @@ class RootInstanceFactory {
     private final RootInstance<T, E> parent;
 
     private ChildInstance(Resolver<Injectable<?>> resolver, DefaultInstantiator<T, E> instantiator, RootInstance<T, E> parent) {
-      super(resolver, instantiator);
+      super(resolver, instantiator, parent.creationContext);
 
       this.parent = parent;
     }
@@ -0,0 +1,30 @@
+package org.int4.dirk.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted when the injector looked up an existing instance
+ * in a scope. As lookups are frequent, this event is disabled by default.
+ */
+@Name("org.int4.dirk.ScopeLookup")
+@Label("Scope Lookup")
+@Category({"Dirk", "Injector"})
+@Description("Lookup of an existing instance in a scope")
+@Enabled(false)
+class ScopeLookupEvent extends Event {
+
+  @Label("Type")
+  String type;
+
+  @Label("Scope")
+  String scope;
+
+  @Label("Hit")
+  @Description("Whether an existing instance was found")
+  boolean hit;
+}
@@ -81,6 +81,11 @@ class ScopeResolverManager {
       return null;
     }
 
+    @Override
+    public CreationalContext<?> tryFind(Object key) {
+      return null;
+    }
+
     @Override
     public void put(Object key, CreationalContext<?> creationalContext) {
     }
@@ -89,5 +94,10 @@ class ScopeResolverManager {
     public void remove(Object key) {
       // does nothing
     }
+
+    @Override
+    public Map<Object, Integer> getInstanceCounts() {
+      return Map.of();
+    }
   }
 }
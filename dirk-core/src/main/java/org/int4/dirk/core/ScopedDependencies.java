@@ -0,0 +1,53 @@
+package org.int4.dirk.core;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.definition.InjectionTarget;
+import org.int4.dirk.core.util.Resolver;
+import org.int4.dirk.spi.instantiation.Resolution;
+
+/**
+ * Finds the scoped injectables an {@link Injectable} depends on.
+ */
+class ScopedDependencies {
+
+  /**
+   * Finds the injectables, which are not dependent scoped, that the given {@link Injectable}
+   * depends on. Dependencies on dependent scoped injectables are followed, as their instances
+   * are owned by the given injectable and can in turn refer to scoped instances.
+   *
+   * @param resolver a {@link Resolver}, cannot be {@code null}
+   * @param injectable an {@link Injectable}, cannot be {@code null}
+   * @param eagerOnly whether to skip injection targets which are resolved lazily
+   * @return a set of {@link Injectable}s, never {@code null} but can be empty
+   */
+  static Set<Injectable<?>> find(Resolver<Injectable<?>> resolver, Injectable<?> injectable, boolean eagerOnly) {
+    Set<Injectable<?>> dependencies = new LinkedHashSet<>();
+
+    find(resolver, injectable, eagerOnly, dependencies, new HashSet<>());
+
+    dependencies.remove(injectable);
+
+    return dependencies;
+  }
+
+  private static void find(Resolver<Injectable<?>> resolver, Injectable<?> injectable, boolean eagerOnly, Set<Injectable<?>> dependencies, Set<Injectable<?>> visited) {
+    for(InjectionTarget injectionTarget : injectable.getInjectionTargets()) {
+      if(eagerOnly && injectionTarget.getResolution() == Resolution.LAZY) {
+        continue;
+      }
+
+      for(Injectable<?> dependency : resolver.resolve(injectionTarget.getElementKey())) {
+        if(!dependency.getScopeResolver().isDependentScope()) {
+          dependencies.add(dependency);
+        }
+        else if(visited.add(dependency)) {
+          find(resolver, dependency, eagerOnly, dependencies, visited);
+        }
+      }
+    }
+  }
+}
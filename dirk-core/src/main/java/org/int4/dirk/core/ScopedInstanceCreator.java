@@ -0,0 +1,111 @@
+package org.int4.dirk.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.int4.dirk.core.definition.ExtendedScopeResolver;
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.util.Key;
+import org.int4.dirk.core.util.Resolver;
+
+/**
+ * Creates the instances matching a {@link Key} asynchronously. Before the matching
+ * instances are created, the scoped instances they (indirectly) depend on and which
+ * do not exist yet are created in dependency order. Scoped instances which do not
+ * depend on each other are created concurrently.
+ *
+ * <p>Only instances in pseudo scopes, like singletons, are created in advance. Dependent
+ * scoped instances are always created as part of the instance owning them, while
+ * instances in normal scopes are often accessed through proxies and their scopes
+ * may not be active on other threads. Dependencies which are resolved lazily, like
+ * providers, are not created in advance either.
+ */
+class ScopedInstanceCreator {
+  private final Resolver<Injectable<?>> resolver;
+  private final InstanceFactory instanceFactory;
+  private final Executor executor;
+  private final Map<Injectable<?>, CompletableFuture<Void>> futures = new HashMap<>();
+  private final Set<Injectable<?>> visiting = new HashSet<>();
+
+  private ScopedInstanceCreator(Resolver<Injectable<?>> resolver, InstanceFactory instanceFactory, Executor executor) {
+    this.resolver = resolver;
+    this.instanceFactory = instanceFactory;
+    this.executor = executor;
+  }
+
+  /**
+   * Creates the result supplied by the given {@link Supplier} on the given {@link Executor}
+   * after the missing scoped dependencies of the injectables matching the given {@link Key}
+   * were created.
+   *
+   * <p>Problems resolving the key or creating a dependency in advance are not reported
+   * directly; instead the dependency is created again by the given supplier, which then
+   * reports the problem through the returned future. The dependencies are determined
+   * on the given {@link Executor} as well, so this method never blocks or throws.
+   *
+   * @param <T> the type of the result
+   * @param resolver a {@link Resolver}, cannot be {@code null}
+   * @param instanceFactory an {@link InstanceFactory}, cannot be {@code null}
+   * @param key a {@link Key}, cannot be {@code null}
+   * @param executor an {@link Executor} to create instances with, cannot be {@code null}
+   * @param supplier a {@link Supplier} which creates the result, cannot be {@code null}
+   * @return a {@link CompletableFuture} which completes with the result, never {@code null}
+   */
+  static <T> CompletableFuture<T> createAsync(Resolver<Injectable<?>> resolver, InstanceFactory instanceFactory, Key key, Executor executor, Supplier<T> supplier) {
+    ScopedInstanceCreator creator = new ScopedInstanceCreator(resolver, instanceFactory, executor);
+
+    return CompletableFuture.supplyAsync(() -> CompletableFuture.allOf(creator.scheduleDependencies(resolver.resolve(key))), executor)  // never throws on the calling thread
+      .thenCompose(future -> future)
+      .handle((v, e) -> null)  // the supplier reports problems with resolving and dependencies
+      .thenApplyAsync(v -> supplier.get(), executor);
+  }
+
+  private CompletableFuture<?>[] scheduleDependencies(Collection<Injectable<?>> injectables) {
+    List<CompletableFuture<Void>> dependencyFutures = new ArrayList<>();
+
+    for(Injectable<?> injectable : injectables) {
+      for(Injectable<?> dependency : ScopedDependencies.find(resolver, injectable, true)) {
+        if(!visiting.contains(dependency) && needsInstance(dependency)) {  // breaks cycles
+          dependencyFutures.add(schedule(dependency));
+        }
+      }
+    }
+
+    return dependencyFutures.toArray(new CompletableFuture<?>[0]);
+  }
+
+  private CompletableFuture<Void> schedule(Injectable<?> injectable) {
+    CompletableFuture<Void> future = futures.get(injectable);
+
+    if(future != null) {
+      return future;
+    }
+
+    visiting.add(injectable);
+
+    CompletableFuture<?>[] dependencyFutures = scheduleDependencies(List.of(injectable));
+
+    visiting.remove(injectable);
+
+    future = CompletableFuture.allOf(dependencyFutures)
+      .thenRunAsync(() -> instanceFactory.createScopedInstance(resolver, injectable), executor);
+
+    futures.put(injectable, future);
+
+    return future;
+  }
+
+  private static boolean needsInstance(Injectable<?> injectable) {
+    ExtendedScopeResolver scopeResolver = injectable.getScopeResolver();
+
+    return scopeResolver.isPseudoScope() && scopeResolver.isActive() && scopeResolver.tryFind(injectable) == null;
+  }
+}
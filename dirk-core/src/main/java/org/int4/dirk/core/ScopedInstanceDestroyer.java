@@ -0,0 +1,146 @@
+package org.int4.dirk.core;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.int4.dirk.core.definition.ExtendedScopeResolver;
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.util.Key;
+import org.int4.dirk.core.util.Resolver;
+
+/**
+ * Destroys the scoped instances known to a {@link Resolver} in reverse dependency
+ * order. An instance is only destroyed after all instances depending on it were
+ * destroyed, while instances which do not depend on each other are destroyed
+ * concurrently.
+ *
+ * <p>Dependencies which form a cycle (only possible through providers or similar
+ * indirections) are not ordered with respect to each other.
+ */
+class ScopedInstanceDestroyer {
+  private static final Logger LOGGER = Logger.getLogger(ScopedInstanceDestroyer.class.getName());
+  private static final Key ALL = new Key(Object.class);
+
+  private final Executor executor;
+  private final Map<Injectable<?>, Set<Injectable<?>>> dependentsByInjectable = new HashMap<>();
+  private final Map<Injectable<?>, CompletableFuture<Void>> futures = new HashMap<>();
+  private final Set<Injectable<?>> visiting = new HashSet<>();
+
+  private ScopedInstanceDestroyer(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Destroys all scoped instances of injectables known to the given {@link Resolver}
+   * which currently exist in an active scope. Waits at most the given timeout for
+   * the destruction to complete. Instances which were not destroyed before the timeout
+   * expired are still destroyed when their dependents finish.
+   *
+   * @param resolver a {@link Resolver}, cannot be {@code null}
+   * @param timeout the maximum time to wait, cannot be {@code null}
+   * @param executor an {@link Executor} to destroy instances with, cannot be {@code null}
+   * @return a set of {@link Type}s of which instances were not destroyed before the timeout expired, never {@code null} but can be empty
+   * @throws InterruptedException when the calling thread was interrupted while waiting
+   */
+  static Set<Type> destroyAll(Resolver<Injectable<?>> resolver, Duration timeout, Executor executor) throws InterruptedException {
+    ScopedInstanceDestroyer destroyer = new ScopedInstanceDestroyer(executor);
+
+    destroyer.findDependents(resolver);
+
+    for(Injectable<?> injectable : destroyer.dependentsByInjectable.keySet()) {
+      destroyer.schedule(injectable);
+    }
+
+    try {
+      CompletableFuture.allOf(destroyer.futures.values().toArray(new CompletableFuture<?>[0])).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    catch(TimeoutException | ExecutionException e) {
+      // pending instances are reported below
+    }
+
+    Set<Type> pendingTypes = new LinkedHashSet<>();
+
+    for(Map.Entry<Injectable<?>, CompletableFuture<Void>> entry : destroyer.futures.entrySet()) {
+      if(!entry.getValue().isDone()) {
+        pendingTypes.add(entry.getKey().getType());
+      }
+    }
+
+    return pendingTypes;
+  }
+
+  private void findDependents(Resolver<Injectable<?>> resolver) {
+    for(Injectable<?> injectable : resolver.resolve(ALL)) {
+      if(hasScopedInstance(injectable)) {
+        dependentsByInjectable.put(injectable, new HashSet<>());
+      }
+    }
+
+    for(Map.Entry<Injectable<?>, Set<Injectable<?>>> entry : dependentsByInjectable.entrySet()) {
+      for(Injectable<?> dependency : ScopedDependencies.find(resolver, entry.getKey(), false)) {
+        Set<Injectable<?>> dependents = dependentsByInjectable.get(dependency);
+
+        if(dependents != null) {
+          dependents.add(entry.getKey());
+        }
+      }
+    }
+  }
+
+  private CompletableFuture<Void> schedule(Injectable<?> injectable) {
+    CompletableFuture<Void> future = futures.get(injectable);
+
+    if(future != null) {
+      return future;
+    }
+
+    visiting.add(injectable);
+
+    List<CompletableFuture<Void>> dependentFutures = new ArrayList<>();
+
+    for(Injectable<?> dependent : dependentsByInjectable.get(injectable)) {
+      if(!visiting.contains(dependent)) {  // breaks cycles
+        dependentFutures.add(schedule(dependent));
+      }
+    }
+
+    visiting.remove(injectable);
+
+    future = CompletableFuture.allOf(dependentFutures.toArray(new CompletableFuture<?>[0]))
+      .handle((v, e) -> null)  // destroy even if a dependent failed to be destroyed
+      .thenRunAsync(() -> destroy(injectable), executor);
+
+    futures.put(injectable, future);
+
+    return future;
+  }
+
+  private static boolean hasScopedInstance(Injectable<?> injectable) {
+    ExtendedScopeResolver scopeResolver = injectable.getScopeResolver();
+
+    return !scopeResolver.isDependentScope() && scopeResolver.tryFind(injectable) != null;
+  }
+
+  private static void destroy(Injectable<?> injectable) {
+    try {
+      injectable.getScopeResolver().remove(injectable);
+    }
+    catch(Exception e) {
+      LOGGER.log(Level.WARNING, "Exception while destroying instance of: " + injectable, e);
+    }
+  }
+}
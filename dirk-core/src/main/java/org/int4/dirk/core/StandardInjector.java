@@ -2,9 +2,14 @@ package org.int4.dirk.core;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.int4.dirk.api.CandidateRegistry;
@@ -17,6 +22,7 @@ import org.int4.dirk.api.definition.DependencyException;
 import org.int4.dirk.api.instantiation.AmbiguousResolutionException;
 import org.int4.dirk.api.instantiation.CreationException;
 import org.int4.dirk.api.instantiation.UnsatisfiedResolutionException;
+import org.int4.dirk.api.metrics.Metric;
 import org.int4.dirk.api.scope.ScopeNotActiveException;
 import org.int4.dirk.core.definition.BindingProvider;
 import org.int4.dirk.core.definition.ClassInjectableFactory;
@@ -25,11 +31,12 @@ import org.int4.dirk.core.definition.InjectableFactory;
 import org.int4.dirk.core.definition.InjectionTargetExtensionStore;
 import org.int4.dirk.core.definition.InstanceInjectableFactory;
 import org.int4.dirk.core.definition.MethodInjectableFactory;
-import org.int4.dirk.core.discovery.DiscovererFactory;
+import org.int4.dirk.core.definition.factory.PendingPostConstructs;
 import org.int4.dirk.core.store.InjectableStore;
 import org.int4.dirk.spi.config.InjectorStrategy;
 import org.int4.dirk.spi.definition.TypeRegistrationExtension;
 import org.int4.dirk.spi.instantiation.InjectionTargetExtension;
+import org.int4.dirk.spi.instrumentation.InjectorListener;
 import org.int4.dirk.spi.scope.ScopeResolver;
 
 /**
@@ -37,7 +44,12 @@ import org.int4.dirk.spi.scope.ScopeResolver;
  */
 public class StandardInjector implements Injector {
   private final InstanceResolver instanceResolver;
+  private final InstanceFactory instanceFactory;
   private final CandidateRegistry registry;
+  private final InjectableStore store;
+  private final List<ScopeResolver> scopeResolvers;
+  private final DefaultDiscovererFactory discovererFactory;
+  private final MetricsCollector metrics;
 
   /**
    * Constructs a new instance.
@@ -49,13 +61,51 @@ public class StandardInjector implements Injector {
    * @param autoDiscovery {@code true} if the injector should automatically register (auto discover) types encountered during instantiation that have not been explicitly registered, or {code false} to allow manual registration only
    */
   public StandardInjector(Collection<InjectionTargetExtension<?, ?>> injectionTargetExtensions, Collection<TypeRegistrationExtension> typeRegistrationExtensions, Collection<ScopeResolver> scopeResolvers, InjectorStrategy strategy, boolean autoDiscovery) {
+    this(injectionTargetExtensions, typeRegistrationExtensions, scopeResolvers, strategy, autoDiscovery, null);
+  }
+
+  /**
+   * Constructs a new instance which informs the given {@link InjectorListener} about
+   * the work it does.
+   *
+   * @param injectionTargetExtensions a collection of {@link InjectionTargetExtension}s, cannot be {@code null} or contain {@code null} but can be empty
+   * @param typeRegistrationExtensions a collection of {@link TypeRegistrationExtension}s, cannot be {@code null} or contain {@code null} but can be empty
+   * @param scopeResolvers a collection of {@link ScopeResolver}s, cannot be {@code null} or contain {@code null} but can be empty
+   * @param strategy an {@link InjectorStrategy}, cannot be {@code null}
+   * @param autoDiscovery {@code true} if the injector should automatically register (auto discover) types encountered during instantiation that have not been explicitly registered, or {code false} to allow manual registration only
+   * @param listener an {@link InjectorListener}, can be {@code null}
+   */
+  public StandardInjector(Collection<InjectionTargetExtension<?, ?>> injectionTargetExtensions, Collection<TypeRegistrationExtension> typeRegistrationExtensions, Collection<ScopeResolver> scopeResolvers, InjectorStrategy strategy, boolean autoDiscovery, InjectorListener listener) {
+    this(injectionTargetExtensions, typeRegistrationExtensions, scopeResolvers, strategy, autoDiscovery, listener, false);
+  }
+
+  /**
+   * Constructs a new instance which informs the given {@link InjectorListener} about
+   * the work it does, and which optionally collects the metrics reported by {@link #getMetrics()}.
+   * Collecting metrics adds a small cost to scope lookups and the creation of proxies
+   * and dependent instances.
+   *
+   * @param injectionTargetExtensions a collection of {@link InjectionTargetExtension}s, cannot be {@code null} or contain {@code null} but can be empty
+   * @param typeRegistrationExtensions a collection of {@link TypeRegistrationExtension}s, cannot be {@code null} or contain {@code null} but can be empty
+   * @param scopeResolvers a collection of {@link ScopeResolver}s, cannot be {@code null} or contain {@code null} but can be empty
+   * @param strategy an {@link InjectorStrategy}, cannot be {@code null}
+   * @param autoDiscovery {@code true} if the injector should automatically register (auto discover) types encountered during instantiation that have not been explicitly registered, or {code false} to allow manual registration only
+   * @param listener an {@link InjectorListener}, can be {@code null}
+   * @param collectMetrics {@code true} if metrics should be collected, otherwise {@code false}
+   */
+  public StandardInjector(Collection<InjectionTargetExtension<?, ?>> injectionTargetExtensions, Collection<TypeRegistrationExtension> typeRegistrationExtensions, Collection<ScopeResolver> scopeResolvers, InjectorStrategy strategy, boolean autoDiscovery, InjectorListener listener, boolean collectMetrics) {
     Objects.requireNonNull(injectionTargetExtensions, "injectionTargetExtensions cannot be null");
     Objects.requireNonNull(typeRegistrationExtensions, "typeRegistrationExtensions cannot be null");
     Objects.requireNonNull(scopeResolvers, "scopeResolvers cannot be null");
     Objects.requireNonNull(strategy, "strategy cannot be null");
 
     InjectionTargetExtensionStore injectionTargetExtensionStore = new InjectionTargetExtensionStore(injectionTargetExtensions);
-    InstanceFactory instanceFactory = new InstanceFactory(strategy.getAnnotationStrategy(), strategy.getProxyStrategy(), injectionTargetExtensionStore);
+
+    this.metrics = collectMetrics ? new MetricsCollector() : null;
+    PendingPostConstructs pendingPostConstructs = new PendingPostConstructs();
+
+    this.instanceFactory = new InstanceFactory(strategy.getAnnotationStrategy(), strategy.getProxyStrategy(), injectionTargetExtensionStore, listener, metrics, pendingPostConstructs);
+
     InjectableFactory injectableFactory = new DefaultInjectableFactory(
       new ScopeResolverManager(scopeResolvers, strategy.getScopeStrategy().getDependentAnnotation()),
       instanceFactory,
@@ -65,19 +115,21 @@ public class StandardInjector implements Injector {
     );
 
     BindingProvider bindingProvider = new BindingProvider(strategy.getAnnotationStrategy());
-    DiscovererFactory discovererFactory = new DefaultDiscovererFactory(
+    this.scopeResolvers = List.copyOf(scopeResolvers);
+    this.discovererFactory = new DefaultDiscovererFactory(
       autoDiscovery,
       typeRegistrationExtensions,
-      new ClassInjectableFactory(bindingProvider, injectableFactory, strategy.getLifeCycleCallbacksFactory()),
+      new ClassInjectableFactory(bindingProvider, injectableFactory, strategy.getLifeCycleCallbacksFactory(), pendingPostConstructs),
       new MethodInjectableFactory(bindingProvider, injectableFactory),
       new FieldInjectableFactory(bindingProvider, injectableFactory)
     );
 
-    InjectableStore store = new InjectableStore(strategy.getProxyStrategy());
+    this.store = new InjectableStore(strategy.getProxyStrategy());
+
     InstanceInjectableFactory instanceInjectableFactory = new InstanceInjectableFactory(injectableFactory, strategy.getScopeStrategy().getSingletonAnnotation());
 
-    this.registry = new InjectableStoreCandidateRegistry(store, discovererFactory, instanceInjectableFactory);
-    this.instanceResolver = new DefaultInstanceResolver(store, instanceFactory);
+    this.registry = new InjectableStoreCandidateRegistry(store, discovererFactory, instanceInjectableFactory, listener);
+    this.instanceResolver = new DefaultInstanceResolver(listener == null ? store : new ListeningResolver(store, listener), instanceFactory);
   }
 
   @Override
@@ -90,6 +142,30 @@ public class StandardInjector implements Injector {
     return registry;
   }
 
+  @Override
+  public List<Metric> getMetrics() {
+    if(metrics == null) {
+      return List.of();
+    }
+
+    return metrics.snapshot(store, scopeResolvers, discovererFactory.getCacheSize());
+  }
+
+  @Override
+  public void release(Object instance) {
+    instanceFactory.releaseDependent(instance);
+  }
+
+  @Override
+  public Set<Type> close(Duration timeout, Executor executor) throws InterruptedException {
+    Objects.requireNonNull(timeout, "timeout cannot be null");
+    Objects.requireNonNull(executor, "executor cannot be null");
+
+    instanceFactory.releaseDependents();  // dependents can depend on scoped instances, so destroy them first
+
+    return ScopedInstanceDestroyer.destroyAll(store, timeout, executor);
+  }
+
   @Override
   public <T> T getInstance(TypeLiteral<T> typeLiteral, Object... qualifiers) throws UnsatisfiedResolutionException, AmbiguousResolutionException, CreationException, ScopeNotActiveException {
     return instanceResolver.getInstance(typeLiteral, qualifiers);
@@ -100,6 +176,16 @@ public class StandardInjector implements Injector {
     return instanceResolver.getInstance(cls, qualifiers);
   }
 
+  @Override
+  public <T> Optional<T> findInstance(TypeLiteral<T> typeLiteral, Object... qualifiers) throws AmbiguousResolutionException, CreationException {
+    return instanceResolver.findInstance(typeLiteral, qualifiers);
+  }
+
+  @Override
+  public <T> Optional<T> findInstance(Class<T> cls, Object... qualifiers) throws AmbiguousResolutionException, CreationException {
+    return instanceResolver.findInstance(cls, qualifiers);
+  }
+
   @Override
   public <T> List<T> getInstances(TypeLiteral<T> typeLiteral, Object... qualifiers) throws CreationException {
     return instanceResolver.getInstances(typeLiteral, qualifiers);
@@ -110,6 +196,26 @@ public class StandardInjector implements Injector {
     return instanceResolver.getInstances(cls, qualifiers);
   }
 
+  @Override
+  public <T> CompletableFuture<T> getInstanceAsync(Executor executor, TypeLiteral<T> typeLiteral, Object... qualifiers) {
+    return instanceResolver.getInstanceAsync(executor, typeLiteral, qualifiers);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> getInstanceAsync(Executor executor, Class<T> cls, Object... qualifiers) {
+    return instanceResolver.getInstanceAsync(executor, cls, qualifiers);
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> getInstancesAsync(Executor executor, TypeLiteral<T> typeLiteral, Object... qualifiers) {
+    return instanceResolver.getInstancesAsync(executor, typeLiteral, qualifiers);
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> getInstancesAsync(Executor executor, Class<T> cls, Object... qualifiers) {
+    return instanceResolver.getInstancesAsync(executor, cls, qualifiers);
+  }
+
   @Override
   public boolean contains(Type type, Object... qualifiers) {
     return registry.contains(type, qualifiers);
@@ -140,8 +246,17 @@ public class StandardInjector implements Injector {
     registry.remove(concreteTypes);
   }
 
+  @Override
+  public void replace(Collection<Type> removedTypes, Collection<Type> addedTypes) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    registry.replace(removedTypes, addedTypes);
+  }
+
   @Override
   public void removeInstance(Object instance, Annotation... qualifiers) throws DefinitionException, DependencyException {
     registry.removeInstance(instance, qualifiers);
   }
+
+  InjectableStore getStore() {
+    return store;
+  }
 }
@@ -0,0 +1,443 @@
+package org.int4.dirk.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.util.Key;
+import org.int4.dirk.core.util.Resolver;
+import org.int4.dirk.spi.instrumentation.InjectorListener;
+
+/**
+ * An {@link InjectorListener} which records the time spent creating each instance,
+ * for example during the start up of an application, and which can determine from
+ * these which instances are most expensive to create and which chain of dependencies
+ * limits how fast the instances can be created.
+ *
+ * <p>The time an instance took to create includes the time its dependencies took
+ * to create if they did not exist yet. The self time of an instance excludes the
+ * time spent creating other scoped instances, but includes the time spent creating
+ * its dependent scoped dependencies, as these are part of the instance. The
+ * critical path is the chain of eager dependencies with the highest total self
+ * time; even when creating independent instances concurrently, creating all
+ * instances on this path takes at least as long as their total self time.
+ *
+ * <p>To use, create an injector with this listener, create the instances of interest
+ * and then call {@link #analyze(Injector, int)} with the same injector:
+ *
+ * <pre>StartupProfiler profiler = new StartupProfiler();
+ * Injector injector = new StandardInjector(..., profiler);
+ *
+ * // register types and create instances
+ *
+ * System.out.println(profiler.analyze(injector, 20));
+ * profiler.stop();</pre>
+ *
+ * <p>This profiler is intended for the start up of an application only. It keeps
+ * every instance creation it records, so it should not be left recording for the
+ * lifetime of an application. Call {@link #stop()} once the instances of interest
+ * were created, or {@link #reset()} to discard the recordings made so far.
+ */
+public class StartupProfiler implements InjectorListener {
+  private final List<Deque<Node>> allCompletedNodes = new CopyOnWriteArrayList<>();
+
+  private volatile ThreadLocal<Deque<Node>> completedNodes = ThreadLocal.withInitial(this::createDeque);
+  private volatile boolean stopped;
+
+  @Override
+  public void resolveStarted(Type type, Set<Annotation> qualifiers) {
+  }
+
+  @Override
+  public void resolveEnded(Type type, Set<Annotation> qualifiers, int count) {
+  }
+
+  @Override
+  public void scopeLookup(Type type, Set<Annotation> qualifiers, Annotation scope, boolean hit) {
+  }
+
+  @Override
+  public void instanceCreated(Type type, Set<Annotation> qualifiers, Annotation scope, long nanos) {
+    if(stopped) {
+      return;
+    }
+
+    long endNanos = System.nanoTime();
+    Node node = new Node(new Key(type, qualifiers), endNanos - nanos, nanos);
+    Deque<Node> deque = completedNodes.get();
+
+    synchronized(deque) {
+
+      /*
+       * Instances which completed on this thread after this instance started
+       * were created as part of this instance:
+       */
+
+      while(!deque.isEmpty() && deque.peek().startNanos >= node.startNanos) {
+        node.children.add(deque.pop());
+      }
+
+      deque.push(node);
+    }
+  }
+
+  @Override
+  public void proxyCreated(Type type, Set<Annotation> qualifiers, Annotation scope) {
+  }
+
+  @Override
+  public void typesRegistered(Collection<Type> types, int candidateCount, long discoverNanos, long validateNanos, long commitNanos) {
+  }
+
+  /**
+   * Stops recording the creation of instances. The recordings made so far remain
+   * available for analysis. Once stopped, this profiler adds no further overhead
+   * to the injector it listens to.
+   */
+  public void stop() {
+    stopped = true;
+  }
+
+  /**
+   * Discards all recordings made so far. Recording continues, unless this profiler
+   * was stopped.
+   */
+  public void reset() {
+    completedNodes = ThreadLocal.withInitial(this::createDeque);  // threads which recorded before get a new deque
+    allCompletedNodes.clear();
+  }
+
+  /**
+   * Analyzes the instances created so far using the dependencies between them as
+   * known to the given injector.
+   *
+   * @param injector an {@link Injector} which was created with this listener, cannot be {@code null}
+   * @param topCount the maximum number of instances to list by self time, cannot be negative
+   * @return a {@link Report}, never {@code null}
+   * @throws IllegalArgumentException when the given injector is not a {@link StandardInjector}
+   */
+  public Report analyze(Injector injector, int topCount) {
+    if(!(Objects.requireNonNull(injector, "injector cannot be null") instanceof StandardInjector)) {
+      throw new IllegalArgumentException("injector must be a StandardInjector: " + injector);
+    }
+    if(topCount < 0) {
+      throw new IllegalArgumentException("topCount cannot be negative: " + topCount);
+    }
+
+    Resolver<Injectable<?>> resolver = ((StandardInjector)injector).getStore();
+    Map<Key, Entry> entries = new LinkedHashMap<>();
+
+    for(Deque<Node> deque : allCompletedNodes) {
+      synchronized(deque) {
+        for(Node node : deque) {
+          addEntries(resolver, entries, node, null);
+        }
+      }
+    }
+
+    Map<Injectable<?>, Entry> entriesByInjectable = new HashMap<>();
+
+    for(Entry entry : entries.values()) {
+      if(entry.injectable != null) {
+        entriesByInjectable.put(entry.injectable, entry);
+      }
+    }
+
+    Map<Entry, List<Entry>> paths = new HashMap<>();
+    List<Entry> criticalPath = List.of();
+
+    for(Entry entry : entries.values()) {
+      List<Entry> path = findLongestPath(resolver, entriesByInjectable, paths, entry);
+
+      if(selfNanos(path) > selfNanos(criticalPath)) {
+        criticalPath = path;
+      }
+    }
+
+    List<Entry> topSelfTime = entries.values().stream()
+      .sorted(Comparator.comparingLong(Entry::getSelfNanos).reversed())
+      .limit(topCount)
+      .collect(Collectors.toList());
+
+    return new Report(criticalPath, topSelfTime);
+  }
+
+  private Deque<Node> createDeque() {
+    Deque<Node> deque = new ArrayDeque<>();
+
+    allCompletedNodes.add(deque);
+
+    return deque;
+  }
+
+  private static void addEntries(Resolver<Injectable<?>> resolver, Map<Key, Entry> entries, Node node, Entry owner) {
+    Injectable<?> injectable = findInjectable(resolver, node.key);
+    boolean isDependent = injectable != null && injectable.getScopeResolver().isDependentScope();
+    long childNanos = node.children.stream().mapToLong(c -> c.nanos).sum();
+    Entry entry;
+
+    if(isDependent && owner != null) {
+      entry = owner;  // dependent instances are part of the instance they were created for
+    }
+    else {
+      entry = entries.computeIfAbsent(node.key, k -> new Entry(k, injectable));
+      entry.count++;
+      entry.totalNanos += node.nanos;
+    }
+
+    entry.selfNanos += node.nanos - childNanos;
+
+    for(Node child : node.children) {
+      addEntries(resolver, entries, child, entry);
+    }
+  }
+
+  private static Injectable<?> findInjectable(Resolver<Injectable<?>> resolver, Key key) {
+    for(Injectable<?> injectable : resolver.resolve(key)) {
+      if(injectable.getType().equals(key.getType()) && injectable.getQualifiers().equals(key.getQualifiers())) {
+        return injectable;
+      }
+    }
+
+    return null;  // removed since it was created
+  }
+
+  private static List<Entry> findLongestPath(Resolver<Injectable<?>> resolver, Map<Injectable<?>, Entry> entriesByInjectable, Map<Entry, List<Entry>> paths, Entry entry) {
+    List<Entry> path = paths.get(entry);
+
+    if(path != null) {
+      return path;
+    }
+
+    paths.put(entry, List.of(entry));  // guards against cycles, which can only exist through lazy dependencies
+
+    List<Entry> longestDependencyPath = List.of();
+
+    if(entry.injectable != null) {
+      for(Injectable<?> dependency : ScopedDependencies.find(resolver, entry.injectable, true)) {
+        Entry dependencyEntry = entriesByInjectable.get(dependency);
+
+        if(dependencyEntry != null) {
+          List<Entry> dependencyPath = findLongestPath(resolver, entriesByInjectable, paths, dependencyEntry);
+
+          if(selfNanos(dependencyPath) > selfNanos(longestDependencyPath)) {
+            longestDependencyPath = dependencyPath;
+          }
+        }
+      }
+    }
+
+    path = new ArrayList<>();
+    path.add(entry);
+    path.addAll(longestDependencyPath);
+    path = List.copyOf(path);
+
+    paths.put(entry, path);
+
+    return path;
+  }
+
+  private static long selfNanos(List<Entry> path) {
+    return path.stream().mapToLong(Entry::getSelfNanos).sum();
+  }
+
+  private static class Node {
+    final Key key;
+    final long startNanos;
+    final long nanos;
+    final List<Node> children = new ArrayList<>();
+
+    Node(Key key, long startNanos, long nanos) {
+      this.key = key;
+      this.startNanos = startNanos;
+      this.nanos = nanos;
+    }
+  }
+
+  /**
+   * The times recorded for creating instances of a type with specific qualifiers.
+   */
+  public static final class Entry {
+    private final Key key;
+    private final Injectable<?> injectable;
+
+    private int count;
+    private long selfNanos;
+    private long totalNanos;
+
+    Entry(Key key, Injectable<?> injectable) {
+      this.key = key;
+      this.injectable = injectable;
+    }
+
+    /**
+     * Returns the {@link Type} of the instances.
+     *
+     * @return the {@link Type} of the instances, never {@code null}
+     */
+    public Type getType() {
+      return key.getType();
+    }
+
+    /**
+     * Returns the qualifiers of the instances.
+     *
+     * @return a set of qualifier {@link Annotation}s, never {@code null} but can be empty
+     */
+    public Set<Annotation> getQualifiers() {
+      return key.getQualifiers();
+    }
+
+    /**
+     * Returns the number of instances created.
+     *
+     * @return the number of instances created
+     */
+    public int getCount() {
+      return count;
+    }
+
+    /**
+     * Returns the time spent creating the instances, excluding the time spent
+     * creating other scoped instances.
+     *
+     * @return the self time in nanoseconds
+     */
+    public long getSelfNanos() {
+      return selfNanos;
+    }
+
+    /**
+     * Returns the time spent creating the instances, including the time spent
+     * creating dependencies which did not exist yet.
+     *
+     * @return the total time in nanoseconds
+     */
+    public long getTotalNanos() {
+      return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+      return key + " x" + count + ": self " + toMillis(selfNanos) + " ms, total " + toMillis(totalNanos) + " ms";
+    }
+
+    private String toJson() {
+      return "{\"type\": " + quote(key.getType().getTypeName())
+        + ", \"qualifiers\": [" + key.getQualifiers().stream().map(Object::toString).map(Entry::quote).collect(Collectors.joining(", ")) + "]"
+        + ", \"count\": " + count
+        + ", \"selfNanos\": " + selfNanos
+        + ", \"totalNanos\": " + totalNanos + "}";
+    }
+
+    private static String quote(String text) {
+      StringBuilder builder = new StringBuilder("\"");
+
+      for(char c : text.toCharArray()) {
+        if(c == '"' || c == '\\') {
+          builder.append('\\').append(c);
+        }
+        else if(c < 0x20) {
+          builder.append(String.format("\\u%04x", (int)c));
+        }
+        else {
+          builder.append(c);
+        }
+      }
+
+      return builder.append('"').toString();
+    }
+  }
+
+  /**
+   * The result of an analysis by a {@link StartupProfiler}.
+   */
+  public static final class Report {
+    private final List<Entry> criticalPath;
+    private final List<Entry> topSelfTime;
+
+    Report(List<Entry> criticalPath, List<Entry> topSelfTime) {
+      this.criticalPath = criticalPath;
+      this.topSelfTime = topSelfTime;
+    }
+
+    /**
+     * Returns the chain of dependencies with the highest total self time, starting
+     * with the instance which depends on the next instance in the chain.
+     *
+     * @return an immutable list of {@link Entry}s, never {@code null} but can be empty
+     */
+    public List<Entry> getCriticalPath() {
+      return criticalPath;
+    }
+
+    /**
+     * Returns the total self time of the instances on the critical path.
+     *
+     * @return the total self time of the critical path in nanoseconds
+     */
+    public long getCriticalPathNanos() {
+      return selfNanos(criticalPath);
+    }
+
+    /**
+     * Returns the instances with the highest self time, highest first.
+     *
+     * @return an immutable list of {@link Entry}s, never {@code null} but can be empty
+     */
+    public List<Entry> getTopSelfTime() {
+      return topSelfTime;
+    }
+
+    /**
+     * Returns this report as a JSON object with the fields {@code criticalPathNanos},
+     * {@code criticalPath} and {@code topSelfTime}.
+     *
+     * @return a JSON string, never {@code null}
+     */
+    public String toJson() {
+      return "{\"criticalPathNanos\": " + getCriticalPathNanos()
+        + ", \"criticalPath\": [" + criticalPath.stream().map(Entry::toJson).collect(Collectors.joining(", ")) + "]"
+        + ", \"topSelfTime\": [" + topSelfTime.stream().map(Entry::toJson).collect(Collectors.joining(", ")) + "]}";
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+
+      builder.append("Critical path (").append(toMillis(getCriticalPathNanos())).append(" ms):\n");
+
+      for(Entry entry : criticalPath) {
+        builder.append("    ").append(entry).append("\n");
+      }
+
+      builder.append("Top ").append(topSelfTime.size()).append(" by self time:\n");
+
+      for(Entry entry : topSelfTime) {
+        builder.append("    ").append(entry).append("\n");
+      }
+
+      return builder.toString();
+    }
+  }
+
+  private static String toMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / (double)TimeUnit.MILLISECONDS.toNanos(1));
+  }
+}
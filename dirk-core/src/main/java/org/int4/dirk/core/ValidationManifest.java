@@ -0,0 +1,495 @@
+package org.int4.dirk.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.function.BiPredicate;
+import java.util.jar.JarEntry;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import org.int4.dirk.api.CandidateRegistry;
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.api.definition.AutoDiscoveryException;
+import org.int4.dirk.api.definition.DefinitionException;
+import org.int4.dirk.api.definition.DependencyException;
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.definition.InjectionTarget;
+import org.int4.dirk.core.util.Resolver;
+import org.int4.dirk.spi.instantiation.Resolution;
+import org.int4.dirk.util.Types;
+
+/**
+ * Describes a closed set of types which was validated as a whole ahead of time, for
+ * example during a build. When exactly these types are registered again as a single
+ * batch, the injector does not follow the dependencies between them when checking for
+ * cycles. All other checks still run, as they are cheap compared to cycle detection.
+ *
+ * <p>A manifest is created by {@link #create(CandidateRegistry, Collection)}, which registers
+ * the types with an injector running all the usual checks, and should be stored in the resource
+ * {@value #RESOURCE} alongside the types it describes. The injector looks for this resource
+ * when types are registered. A manifest ends with a checksum over its contents and includes
+ * the size and CRC-32 of the class file of each registered type; if either does not match, the
+ * manifest is ignored. For class files in a jar, these are compared with the entries in the
+ * central directory of the jar, so verifying a manifest does not read the class files.
+ *
+ * <p>A manifest is only a hint to speed up registration, not an integrity guarantee. Its
+ * checksum is unkeyed, so it detects truncated or accidentally modified manifests, but anyone
+ * who can change the resource can also recompute it. The worst a forged manifest can do is
+ * hide a cycle between the types it describes, which is then still rejected when the
+ * instances involved are created.
+ */
+public final class ValidationManifest {
+
+  /**
+   * The name of the resource in which the manifest for a set of types is stored.
+   */
+  public static final String RESOURCE = "META-INF/dirk/validation.manifest";
+
+  private static final String HEADER = "dirk-validation-manifest 2";
+  private static final Map<ClassLoader, List<ValidationManifest>> MANIFESTS = new WeakHashMap<>();
+
+  private final List<String> types;
+  private final Map<String, String> classChecksums;
+  private final Set<String> injectables;
+  private final Set<String> edges;
+
+  private Boolean verified;
+
+  private ValidationManifest(List<String> types, Map<String, String> classChecksums, Set<String> injectables, Set<String> edges) {
+    this.types = types;
+    this.classChecksums = classChecksums;
+    this.injectables = injectables;
+    this.edges = edges;
+  }
+
+  /**
+   * Registers the given types as a single batch with the given registry, and creates a
+   * manifest describing the result. The registry should be part of an injector which is
+   * configured the same as the injectors which will later register these types, and
+   * should only contain the types on which the given types depend.
+   *
+   * @param registry a {@link CandidateRegistry} of a {@link StandardInjector}, cannot be {@code null}
+   * @param types a collection of {@link Type}s, cannot be {@code null} or contain {@code null}s
+   * @return a {@link ValidationManifest}, never {@code null}
+   * @throws AutoDiscoveryException when the registration failed due to problems during auto discovery
+   * @throws DefinitionException when a type is not a valid definition
+   * @throws DependencyException when the registration would violate the rules of the injector
+   */
+  public static ValidationManifest create(CandidateRegistry registry, Collection<Type> types) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    CandidateRegistry candidateRegistry = registry instanceof Injector ? ((Injector)registry).getCandidateRegistry() : registry;
+
+    if(!(candidateRegistry instanceof InjectableStoreCandidateRegistry)) {
+      throw new IllegalArgumentException("registry must be provided by a StandardInjector: " + registry);
+    }
+
+    return ((InjectableStoreCandidateRegistry)candidateRegistry).registerAndDescribe(types, false);
+  }
+
+  /**
+   * Creates a manifest for the given types and registers it in the given resource
+   * file. This can be used during a build to create the manifest of a module.
+   *
+   * <p>Expects as arguments the name of a static method which creates a suitable
+   * {@link Injector} in the form {@code class#method}, the file to write, followed by
+   * the names of the classes to register.
+   *
+   * @param args the arguments, cannot be {@code null}
+   * @throws Exception when the manifest could not be created
+   */
+  public static void main(String[] args) throws Exception {
+    if(args.length < 3) {
+      throw new IllegalArgumentException("Usage: ValidationManifest <injector factory method class#method> <output file> <class name>...");
+    }
+
+    String[] parts = args[0].split("#");
+    Method method = Class.forName(parts[0]).getMethod(parts[1]);
+    Injector injector = (Injector)method.invoke(null);
+    List<Type> types = new ArrayList<>();
+
+    for(int i = 2; i < args.length; i++) {
+      types.add(Class.forName(args[i]));
+    }
+
+    Path path = Path.of(args[1]);
+
+    if(path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+
+    try(OutputStream out = Files.newOutputStream(path)) {
+      create(injector, types).write(out);
+    }
+  }
+
+  /**
+   * Writes this manifest to the given {@link OutputStream}.
+   *
+   * @param out an {@link OutputStream}, cannot be {@code null}
+   * @throws IOException when an I/O error occurs
+   */
+  public void write(OutputStream out) throws IOException {
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    List<String> lines = toLines();
+
+    for(String line : lines) {
+      writer.write(line);
+      writer.write('\n');
+    }
+
+    writer.write("seal\t" + digest(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)) + "\n");
+    writer.flush();
+  }
+
+  /**
+   * Reads a manifest from the given {@link InputStream}.
+   *
+   * @param in an {@link InputStream}, cannot be {@code null}
+   * @return a {@link ValidationManifest}, never {@code null}
+   * @throws IOException when an I/O error occurs or the manifest is corrupt
+   */
+  public static ValidationManifest read(InputStream in) throws IOException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    List<String> lines = new ArrayList<>();
+    List<String> types = new ArrayList<>();
+    Map<String, String> classChecksums = new LinkedHashMap<>();
+    Set<String> injectables = new HashSet<>();
+    Set<String> edges = new HashSet<>();
+    String line;
+
+    while((line = reader.readLine()) != null) {
+      if(line.startsWith("seal\t")) {
+        if(!line.substring(5).equals(digest(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)))) {
+          throw new IOException("Manifest seal does not match its contents");
+        }
+
+        return new ValidationManifest(types, classChecksums, injectables, edges);
+      }
+
+      if(lines.isEmpty() && !line.equals(HEADER)) {
+        throw new IOException("Not a validation manifest: " + line);
+      }
+
+      lines.add(line);
+
+      String[] parts = line.split("\t", 2);
+
+      if(parts[0].equals("type")) {
+        types.add(parts[1]);
+      }
+      else if(parts[0].equals("class")) {
+        String[] classParts = parts[1].split("\t");
+
+        classChecksums.put(classParts[0], classParts[1]);
+      }
+      else if(parts[0].equals("injectable")) {
+        injectables.add(parts[1]);
+      }
+      else if(parts[0].equals("edge")) {
+        edges.add(parts[1]);
+      }
+    }
+
+    throw new IOException("Manifest is not sealed");
+  }
+
+  static ValidationManifest of(Collection<Type> types, Collection<Injectable<?>> injectables, Resolver<Injectable<?>> resolver) {
+    Map<String, String> classChecksums = new LinkedHashMap<>();
+
+    for(Type type : types) {
+      Class<?> cls = Types.raw(type);
+      String checksum = checksum(cls);
+
+      if(checksum == null) {
+        throw new IllegalArgumentException("types must have class files available: " + type);
+      }
+
+      classChecksums.put(cls.getName(), checksum);
+    }
+
+    return of(types, classChecksums, injectables, findEdges(injectables, resolver));
+  }
+
+  private static ValidationManifest of(Collection<Type> types, Map<String, String> classChecksums, Collection<Injectable<?>> injectables, Set<String> edges) {
+    return new ValidationManifest(
+      types.stream().map(Type::getTypeName).collect(Collectors.toList()),
+      classChecksums,
+      injectables.stream().map(ValidationManifest::fingerprint).collect(Collectors.toSet()),
+      edges
+    );
+  }
+
+  private static Set<String> findEdges(Collection<Injectable<?>> injectables, Resolver<Injectable<?>> resolver) {
+    Set<String> edges = new HashSet<>();
+
+    for(Injectable<?> injectable : injectables) {
+      for(InjectionTarget injectionTarget : injectable.getInjectionTargets()) {
+        if(injectionTarget.getResolution() == Resolution.EAGER_ONE) {
+          Set<Injectable<?>> candidates = resolver.resolve(injectionTarget.getElementKey());
+
+          if(candidates.size() == 1 && injectables.contains(candidates.iterator().next())) {
+            edges.add(injectable + "\t" + injectionTarget);
+          }
+        }
+      }
+    }
+
+    return edges;
+  }
+
+  /**
+   * Finds a manifest for the given types. Manifests are looked up in the class loader of
+   * the first type, and only a verified manifest which lists exactly the given types is
+   * returned.
+   *
+   * @param types a collection of {@link Type}s, cannot be {@code null}
+   * @return a {@link ValidationManifest}, or {@code null} if there was none
+   */
+  static ValidationManifest find(Collection<Type> types) {
+    if(types.isEmpty()) {
+      return null;
+    }
+
+    ClassLoader classLoader = Types.raw(types.iterator().next()).getClassLoader();
+
+    if(classLoader == null) {
+      return null;
+    }
+
+    List<ValidationManifest> manifests;
+
+    synchronized(MANIFESTS) {
+      manifests = MANIFESTS.get(classLoader);
+    }
+
+    if(manifests == null) {
+
+      /*
+       * Loading is done outside the lock as it does I/O. When two threads load the manifests
+       * of the same class loader concurrently, the result of the first one to finish is kept.
+       * Class loaders without manifests are cached as well, so the resources are only looked
+       * up once per class loader.
+       */
+
+      List<ValidationManifest> loadedManifests = load(classLoader);
+
+      synchronized(MANIFESTS) {
+        manifests = MANIFESTS.computeIfAbsent(classLoader, k -> loadedManifests);
+      }
+    }
+
+    if(manifests.isEmpty()) {
+      return null;
+    }
+
+    List<String> names = types.stream().map(Type::getTypeName).collect(Collectors.toList());
+
+    for(ValidationManifest manifest : manifests) {
+      if(manifest.types.size() == names.size() && new HashSet<>(manifest.types).equals(new HashSet<>(names)) && manifest.verify(types)) {
+        return manifest;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns a {@link BiPredicate} which returns {@code true} for the injection targets
+   * of the given injectables which were validated by this manifest, or {@code null} if
+   * this manifest does not describe exactly the given injectables.
+   *
+   * @param injectables a collection of {@link Injectable}s, cannot be {@code null}
+   * @return a {@link BiPredicate}, or {@code null} if this manifest does not apply
+   */
+  BiPredicate<Injectable<?>, InjectionTarget> validatedTargets(Collection<Injectable<?>> injectables) {
+    if(injectables.size() != this.injectables.size()) {
+      return null;
+    }
+
+    Set<InjectionTarget> validatedTargets = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    for(Injectable<?> injectable : injectables) {
+      if(!this.injectables.contains(fingerprint(injectable))) {
+        return null;
+      }
+
+      for(InjectionTarget injectionTarget : injectable.getInjectionTargets()) {
+        if(edges.contains(injectable + "\t" + injectionTarget)) {
+          validatedTargets.add(injectionTarget);
+        }
+      }
+    }
+
+    return (injectable, injectionTarget) -> validatedTargets.contains(injectionTarget);
+  }
+
+  /**
+   * Returns the names of the types described by this manifest.
+   *
+   * @return a list of type names, never {@code null}
+   */
+  List<String> getTypeNames() {
+    return types;
+  }
+
+  /**
+   * Checks whether the class files of the given types still match the sizes and checksums
+   * recorded in this manifest. The result is cached.
+   *
+   * @param types a collection of {@link Type}s, cannot be {@code null}
+   * @return {@code true} if all class files match, otherwise {@code false}
+   */
+  synchronized boolean verify(Collection<Type> types) {
+    if(verified == null) {
+      verified = types.stream().map(Types::raw).allMatch(cls -> {
+        String checksum = checksum(cls);
+
+        return checksum != null && checksum.equals(classChecksums.get(cls.getName()));
+      });
+    }
+
+    return verified;
+  }
+
+  private List<String> toLines() {
+    List<String> lines = new ArrayList<>();
+
+    lines.add(HEADER);
+
+    for(String type : types) {
+      lines.add("type\t" + type);
+    }
+
+    for(Map.Entry<String, String> entry : classChecksums.entrySet()) {
+      lines.add("class\t" + entry.getKey() + "\t" + entry.getValue());
+    }
+
+    for(String injectable : new TreeSet<>(injectables)) {
+      lines.add("injectable\t" + injectable);
+    }
+
+    for(String edge : new TreeSet<>(edges)) {
+      lines.add("edge\t" + edge);
+    }
+
+    return lines;
+  }
+
+  private static List<ValidationManifest> load(ClassLoader classLoader) {
+    List<ValidationManifest> manifests = new ArrayList<>();
+
+    try {
+      Enumeration<URL> urls = classLoader.getResources(RESOURCE);
+
+      while(urls.hasMoreElements()) {
+        try(InputStream in = urls.nextElement().openStream()) {
+          manifests.add(read(in));
+        }
+        catch(IOException e) {
+          // corrupt or unreadable manifests are ignored
+        }
+      }
+    }
+    catch(IOException e) {
+      // ignore, no manifests available
+    }
+
+    return manifests.isEmpty() ? List.of() : manifests;
+  }
+
+  /*
+   * The fingerprint of an injectable includes everything which influences how it is
+   * resolved and whether it can be injected: its qualifiers and types, its scope and
+   * its injection targets.
+   */
+  private static String fingerprint(Injectable<?> injectable) {
+    return injectable
+      + " " + injectable.getTypes().stream().map(Type::getTypeName).sorted().collect(Collectors.toList())
+      + " " + injectable.getScopeResolver().getAnnotation()
+      + " " + injectable.getInjectionTargets().stream().map(Object::toString).collect(Collectors.toList());
+  }
+
+  /*
+   * Returns the size and CRC-32 of the class file of the given class, or null if it is
+   * not available. For a class file in a jar these are taken from the central directory
+   * of the jar, which the class loader has open already, instead of reading the file.
+   */
+  private static String checksum(Class<?> cls) {
+    ClassLoader classLoader = cls.getClassLoader();
+
+    if(classLoader == null) {
+      return null;
+    }
+
+    URL url = classLoader.getResource(cls.getName().replace('.', '/') + ".class");
+
+    if(url == null) {
+      return null;
+    }
+
+    try {
+      URLConnection connection = url.openConnection();
+
+      if(connection instanceof JarURLConnection) {
+        JarEntry entry = ((JarURLConnection)connection).getJarEntry();
+
+        if(entry.getSize() >= 0 && entry.getCrc() >= 0) {
+          return entry.getSize() + ":" + Long.toHexString(entry.getCrc());
+        }
+      }
+
+      try(InputStream in = connection.getInputStream()) {
+        byte[] bytes = in.readAllBytes();
+        CRC32 crc = new CRC32();
+
+        crc.update(bytes);
+
+        return bytes.length + ":" + Long.toHexString(crc.getValue());
+      }
+    }
+    catch(IOException e) {
+      return null;
+    }
+  }
+
+  static String digest(byte[] bytes) {
+    try {
+      StringBuilder builder = new StringBuilder();
+
+      for(byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+        builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+
+      return builder.toString();
+    }
+    catch(NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -162,10 +162,6 @@ public class BindingProvider {
       this.optional = optional;
       this.accessibleObject = accessibleObject;
       this.parameter = parameter;
-
-      if(accessibleObject != null) {
-        accessibleObject.setAccessible(true);
-      }
     }
 
     @Override
@@ -1,23 +1,35 @@
 package org.int4.dirk.core.definition;
 
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import org.int4.dirk.api.definition.DefinitionException;
 import org.int4.dirk.core.definition.factory.ClassObjectFactory;
+import org.int4.dirk.core.definition.factory.GeneratedFactory;
+import org.int4.dirk.core.definition.factory.PendingPostConstructs;
+import org.int4.dirk.spi.config.LifeCycleCallbacks;
 import org.int4.dirk.spi.config.LifeCycleCallbacksFactory;
 import org.int4.dirk.util.Types;
 
 /**
  * Factory interface for creating {@link Injectable}s given a {@link Type}.
+ *
+ * <p>If a {@link GeneratedFactory} was generated for a class at compile time, it
+ * is used to construct and inject the class instead of reflection.
  */
 public class ClassInjectableFactory {
   private final BindingProvider bindingProvider;
   private final InjectableFactory injectableFactory;
   private final LifeCycleCallbacksFactory lifeCycleCallbacksFactory;
+  private final PendingPostConstructs pendingPostConstructs;
 
   /**
    * Constructs a new instance.
@@ -27,9 +39,23 @@ public class ClassInjectableFactory {
    * @param lifeCycleCallbacksFactory a {@link LifeCycleCallbacksFactory}, cannot be {@code null}
    */
   public ClassInjectableFactory(BindingProvider bindingProvider, InjectableFactory injectableFactory, LifeCycleCallbacksFactory lifeCycleCallbacksFactory) {
+    this(bindingProvider, injectableFactory, lifeCycleCallbacksFactory, new PendingPostConstructs());
+  }
+
+  /**
+   * Constructs a new instance which tracks asynchronous post construct life cycle
+   * phases of the instances it creates in the given {@link PendingPostConstructs}.
+   *
+   * @param bindingProvider a {@link BindingProvider}, cannot be {@code null}
+   * @param injectableFactory a {@link InjectableFactory}, cannot be {@code null}
+   * @param lifeCycleCallbacksFactory a {@link LifeCycleCallbacksFactory}, cannot be {@code null}
+   * @param pendingPostConstructs a {@link PendingPostConstructs}, cannot be {@code null}
+   */
+  public ClassInjectableFactory(BindingProvider bindingProvider, InjectableFactory injectableFactory, LifeCycleCallbacksFactory lifeCycleCallbacksFactory, PendingPostConstructs pendingPostConstructs) {
     this.bindingProvider = bindingProvider;
     this.injectableFactory = injectableFactory;
     this.lifeCycleCallbacksFactory = lifeCycleCallbacksFactory;
+    this.pendingPostConstructs = pendingPostConstructs;
   }
 
   /**
@@ -57,6 +83,62 @@ public class ClassInjectableFactory {
     Constructor<T> constructor = bindingProvider.getConstructor(cls);
     List<Binding> bindings = bindingProvider.ofConstructorAndMembers(constructor, cls);
 
-    return injectableFactory.create(type, null, cls, bindings, new ClassObjectFactory<>(constructor, lifeCycleCallbacksFactory.create(cls)));
+    return injectableFactory.create(type, null, cls, bindings, createObjectFactory(cls, constructor, bindings));
+  }
+
+  private <T> ClassObjectFactory<T> createObjectFactory(Class<T> cls, Constructor<T> constructor, List<Binding> bindings) throws DefinitionException {
+    LifeCycleCallbacks lifeCycleCallbacks = lifeCycleCallbacksFactory.create(cls);
+    GeneratedFactory<T> generatedFactory = findGeneratedFactory(cls);
+
+    if(generatedFactory != null) {
+      List<String> injectionPoints = new ArrayList<>();
+
+      for(Binding binding : bindings) {
+        AccessibleObject accessibleObject = binding.getAccessibleObject();
+        int parameterIndex = accessibleObject instanceof Executable ? Arrays.asList(((Executable)accessibleObject).getParameters()).indexOf(binding.getParameter()) : 0;
+
+        injectionPoints.add(GeneratedFactory.injectionPointOf((Member)accessibleObject, parameterIndex));
+      }
+
+      // when the class changed after its factory was generated, the injection points differ and reflection is used instead:
+      if(isUpToDate(generatedFactory, injectionPoints)) {
+        return new ClassObjectFactory<>(cls, generatedFactory, injectionPoints, lifeCycleCallbacks, pendingPostConstructs);
+      }
+    }
+
+    for(Binding binding : bindings) {
+      binding.getAccessibleObject().setAccessible(true);
+    }
+
+    return new ClassObjectFactory<>(constructor, lifeCycleCallbacks, pendingPostConstructs);
+  }
+
+  private static boolean isUpToDate(GeneratedFactory<?> generatedFactory, List<String> injectionPoints) {
+    List<String> generatedInjectionPoints = generatedFactory.getInjectionPoints();
+
+    return generatedInjectionPoints.size() == injectionPoints.size() && new HashSet<>(generatedInjectionPoints).equals(new HashSet<>(injectionPoints));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> GeneratedFactory<T> findGeneratedFactory(Class<T> cls) throws DefinitionException {
+    ClassLoader classLoader = cls.getClassLoader();
+    String name = GeneratedFactory.nameOf(cls);
+
+    if(classLoader == null || classLoader.getResource(name.replace('.', '/') + ".class") == null) {
+      return null;
+    }
+
+    try {
+      Class<?> factoryClass = Class.forName(name, true, classLoader);
+
+      if(!GeneratedFactory.class.isAssignableFrom(factoryClass)) {
+        return null;
+      }
+
+      return (GeneratedFactory<T>)factoryClass.getConstructor().newInstance();
+    }
+    catch(ReflectiveOperationException | LinkageError e) {
+      throw new DefinitionException(cls, "has a generated factory which could not be instantiated: " + name, e);
+    }
   }
 }
@@ -0,0 +1,18 @@
+package org.int4.dirk.core.definition;
+
+/**
+ * The context in which an instance is created. The context is passed explicitly
+ * to the {@link Instantiator}s creating the dependencies of the instance, instead
+ * of being tracked per thread, which allows creation to continue on other threads.
+ */
+public interface CreationContext {
+
+  /**
+   * Checks whether an instance of the given {@link Injectable} is under construction
+   * in this context, or in any of the contexts this context was created in.
+   *
+   * @param injectable an {@link Injectable}, cannot be {@code null}
+   * @return {@code true} if an instance of the given {@link Injectable} is under construction, otherwise {@code false}
+   */
+  boolean isConstructing(Injectable<?> injectable);
+}
@@ -1,6 +1,7 @@
 package org.int4.dirk.core.definition;
 
 import java.lang.annotation.Annotation;
+import java.util.Map;
 import java.util.Objects;
 
 import org.int4.dirk.api.scope.ScopeNotActiveException;
@@ -62,6 +63,11 @@ public class ExtendedScopeResolver implements ScopeResolver {
     return delegate.find(key);
   }
 
+  @Override
+  public CreationalContext<?> tryFind(Object key) {
+    return delegate.tryFind(key);
+  }
+
   @Override
   public void put(Object key, CreationalContext<?> creationalContext) throws ScopeNotActiveException {
     delegate.put(key, creationalContext);
@@ -71,4 +77,9 @@ public class ExtendedScopeResolver implements ScopeResolver {
   public void remove(Object key) {
     delegate.remove(key);
   }
+
+  @Override
+  public Map<Object, Integer> getInstanceCounts() {
+    return delegate.getInstanceCounts();
+  }
 }
@@ -10,6 +10,7 @@ import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -86,7 +87,9 @@ public class GenericBindingProvider<B> {
 
   /**
    * Returns all member bindings for the given class. These are inject annotated
-   * methods and fields, but not constructors.
+   * methods and fields, but not constructors. The bindings of a superclass come
+   * before those of its subclasses, and methods overridden in a subclass are skipped
+   * as only the overriding method is injected, if it is inject annotated itself.
    *
    * @param cls a {@link Class} to examine for bindings, cannot be {@code null}
    * @return a list of bindings, never {@code null} and never contains {@code null}, but can be empty
@@ -94,10 +97,14 @@ public class GenericBindingProvider<B> {
    */
   public List<B> ofMembers(Class<?> cls) throws DefinitionException {
     List<B> bindings = new ArrayList<>();
-    Class<?> currentInjectableClass = cls;
+    List<Class<?>> hierarchy = new ArrayList<>();
     Map<TypeVariable<?>, Type> typeArguments = null;
 
-    while(currentInjectableClass != null) {
+    for(Class<?> type = cls; type != null; type = type.getSuperclass()) {
+      hierarchy.add(0, type);
+    }
+
+    for(Class<?> currentInjectableClass : hierarchy) {
       for(Field field : currentInjectableClass.getDeclaredFields()) {
         if(!annotationStrategy.getInjectAnnotations(field).isEmpty()) {
           if(Modifier.isFinal(field.getModifiers())) {
@@ -119,7 +126,7 @@ public class GenericBindingProvider<B> {
       }
 
       for(Method method : currentInjectableClass.getDeclaredMethods()) {
-        if(!annotationStrategy.getInjectAnnotations(method).isEmpty()) {
+        if(!annotationStrategy.getInjectAnnotations(method).isEmpty() && !isOverridden(method, cls)) {
           if(method.getParameterCount() == 0) {
             throw new DefinitionException(method, "of [" + cls + "] must have parameters");
           }
@@ -127,8 +134,6 @@ public class GenericBindingProvider<B> {
           bindings.addAll(ofExecutable(method, cls));
         }
       }
-
-      currentInjectableClass = currentInjectableClass.getSuperclass();
     }
 
     return bindings;
@@ -241,6 +246,33 @@ public class GenericBindingProvider<B> {
     return bindings;
   }
 
+  private static boolean isOverridden(Method method, Class<?> cls) {
+    int modifiers = method.getModifiers();
+
+    if(Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers)) {
+      return false;
+    }
+
+    Class<?> declaringClass = method.getDeclaringClass();
+    boolean packagePrivate = !Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers);
+
+    for(Class<?> type = cls; type != declaringClass; type = type.getSuperclass()) {
+      for(Method candidate : type.getDeclaredMethods()) {
+        int candidateModifiers = candidate.getModifiers();
+
+        if(candidate.getName().equals(method.getName())
+            && Arrays.equals(candidate.getParameterTypes(), method.getParameterTypes())
+            && !Modifier.isPrivate(candidateModifiers)
+            && !Modifier.isStatic(candidateModifiers)
+            && (!packagePrivate || (type.getPackageName().equals(declaringClass.getPackageName()) && type.getClassLoader() == declaringClass.getClassLoader()))) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
   private B ownerBinding(Type ownerType) throws DefinitionException {
     return factory.create(ownerType, null);
   }
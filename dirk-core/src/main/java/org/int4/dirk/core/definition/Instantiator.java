@@ -20,13 +20,14 @@ public interface Instantiator<T> {
    * Creates a {@link CreationalContext}.
    *
    * @param resolver a {@link Resolver}, cannot be {@code null}
+   * @param parent the {@link CreationContext} in which the context is created, can be {@code null}
    * @return a {@link CreationalContext}, never {@code null}
    * @throws CreationException when an error occurred during creation of a matching instance
    * @throws UnsatisfiedResolutionException when no matching instance was available or could be created
    * @throws AmbiguousResolutionException when multiple matching instances were available
    * @throws ScopeNotActiveException when the scope for the produced type is not active
    */
-  CreationalContext<T> create(Resolver<Injectable<?>> resolver) throws CreationException, UnsatisfiedResolutionException, AmbiguousResolutionException, ScopeNotActiveException;
+  CreationalContext<T> create(Resolver<Injectable<?>> resolver, CreationContext parent) throws CreationException, UnsatisfiedResolutionException, AmbiguousResolutionException, ScopeNotActiveException;
 
   /**
    * Returns how the injection target should be resolved.
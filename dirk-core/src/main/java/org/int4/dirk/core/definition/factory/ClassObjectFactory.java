@@ -5,15 +5,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.int4.dirk.api.instantiation.CreationException;
 import org.int4.dirk.core.definition.injection.Constructable;
 import org.int4.dirk.core.definition.injection.Injection;
 import org.int4.dirk.core.util.Description;
+import org.int4.dirk.spi.config.AsynchronousLifeCycleCallbacks;
 import org.int4.dirk.spi.config.LifeCycleCallbacks;
 
 /**
@@ -21,13 +22,18 @@ import org.int4.dirk.spi.config.LifeCycleCallbacks;
  * to construct the associated class, inject it using the given {@link Injection}s and
  * do life cycle callbacks using the provided {@link LifeCycleCallbacks} instance.
  *
+ * <p>When a {@link GeneratedFactory} is available for the class, it can be used instead
+ * of the {@link Constructor} to construct and inject the class without reflection.
+ *
  * @param <T> the type of the instances produced
  */
 public class ClassObjectFactory<T> implements Constructable<T> {
-  private static final ThreadLocal<Set<Object>> UNDER_CONSTRUCTION_THREAD_LOCAL = ThreadLocal.withInitial(() -> new HashSet<>());
-
+  private final Class<?> type;
   private final Constructor<T> constructor;
+  private final GeneratedFactory<T> generatedFactory;
+  private final int[] slots;
   private final LifeCycleCallbacks lifeCycleCallbacks;
+  private final PendingPostConstructs pendingPostConstructs;
 
   /**
    * Constructs a new instance.
@@ -36,41 +42,95 @@ public class ClassObjectFactory<T> implements Constructable<T> {
    * @param lifeCycleCallbacks a {@link LifeCycleCallbacks} instance, cannot be {@code null}
    */
   public ClassObjectFactory(Constructor<T> constructor, LifeCycleCallbacks lifeCycleCallbacks) {
+    this(constructor, lifeCycleCallbacks, new PendingPostConstructs());
+  }
+
+  /**
+   * Constructs a new instance which tracks asynchronous post construct life cycle
+   * phases in the given {@link PendingPostConstructs}.
+   *
+   * @param constructor a {@link Constructor} which produces the required class, cannot be {@code null}
+   * @param lifeCycleCallbacks a {@link LifeCycleCallbacks} instance, cannot be {@code null}
+   * @param pendingPostConstructs a {@link PendingPostConstructs}, cannot be {@code null}
+   */
+  public ClassObjectFactory(Constructor<T> constructor, LifeCycleCallbacks lifeCycleCallbacks, PendingPostConstructs pendingPostConstructs) {
     this.constructor = Objects.requireNonNull(constructor, "constructor cannot be null");
     this.lifeCycleCallbacks = Objects.requireNonNull(lifeCycleCallbacks, "lifeCycleCallbacks cannot be null");
+    this.pendingPostConstructs = Objects.requireNonNull(pendingPostConstructs, "pendingPostConstructs cannot be null");
+    this.type = constructor.getDeclaringClass();
+    this.generatedFactory = null;
+    this.slots = null;
 
     constructor.setAccessible(true);
   }
 
+  /**
+   * Constructs a new instance which uses a {@link GeneratedFactory} to construct
+   * and inject the given type.
+   *
+   * @param type a {@link Class} which the generated factory produces, cannot be {@code null}
+   * @param generatedFactory a {@link GeneratedFactory}, cannot be {@code null}
+   * @param injectionPoints a list of injection points in the order of the {@link Injection}s this factory will receive, cannot be {@code null}
+   * @param lifeCycleCallbacks a {@link LifeCycleCallbacks} instance, cannot be {@code null}
+   * @throws IllegalArgumentException when the given injection points do not match those of the generated factory
+   */
+  public ClassObjectFactory(Class<T> type, GeneratedFactory<T> generatedFactory, List<String> injectionPoints, LifeCycleCallbacks lifeCycleCallbacks) {
+    this(type, generatedFactory, injectionPoints, lifeCycleCallbacks, new PendingPostConstructs());
+  }
+
+  /**
+   * Constructs a new instance which uses a {@link GeneratedFactory} to construct
+   * and inject the given type, and which tracks asynchronous post construct life
+   * cycle phases in the given {@link PendingPostConstructs}.
+   *
+   * @param type a {@link Class} which the generated factory produces, cannot be {@code null}
+   * @param generatedFactory a {@link GeneratedFactory}, cannot be {@code null}
+   * @param injectionPoints a list of injection points in the order of the {@link Injection}s this factory will receive, cannot be {@code null}
+   * @param lifeCycleCallbacks a {@link LifeCycleCallbacks} instance, cannot be {@code null}
+   * @param pendingPostConstructs a {@link PendingPostConstructs}, cannot be {@code null}
+   * @throws IllegalArgumentException when the given injection points do not match those of the generated factory
+   */
+  public ClassObjectFactory(Class<T> type, GeneratedFactory<T> generatedFactory, List<String> injectionPoints, LifeCycleCallbacks lifeCycleCallbacks, PendingPostConstructs pendingPostConstructs) {
+    this.type = Objects.requireNonNull(type, "type cannot be null");
+    this.generatedFactory = Objects.requireNonNull(generatedFactory, "generatedFactory cannot be null");
+    this.lifeCycleCallbacks = Objects.requireNonNull(lifeCycleCallbacks, "lifeCycleCallbacks cannot be null");
+    this.pendingPostConstructs = Objects.requireNonNull(pendingPostConstructs, "pendingPostConstructs cannot be null");
+    this.constructor = null;
+    this.slots = toSlots(generatedFactory.getInjectionPoints(), Objects.requireNonNull(injectionPoints, "injectionPoints cannot be null"));
+  }
+
   @Override
   public T create(List<Injection> injections) throws CreationException {
-    if(UNDER_CONSTRUCTION_THREAD_LOCAL.get().contains(this)) {
-      throw new CreationException("[" + constructor.getDeclaringClass() + "] already under construction (dependency creation loop in setter, initializer or post-construct method?)");
-    }
+    T instance;
 
-    try {
-      UNDER_CONSTRUCTION_THREAD_LOCAL.get().add(this);
-
-      T instance = constructInstance(injections);
+    if(generatedFactory == null) {
+      instance = constructInstance(injections);
 
       injectInstance(instance, injections);
+    }
+    else {
+      instance = generateInstance(injections);
+    }
 
-      try {
-        lifeCycleCallbacks.postConstruct(instance);
-      }
-      catch(InvocationTargetException e) {
-        throw new CreationException("[" + constructor.getDeclaringClass() + "] threw exception during post construction", e.getCause());
-      }
+    if(lifeCycleCallbacks instanceof AsynchronousLifeCycleCallbacks) {
+      postConstructAsynchronously(instance, (AsynchronousLifeCycleCallbacks)lifeCycleCallbacks);
 
       return instance;
     }
-    finally {
-      UNDER_CONSTRUCTION_THREAD_LOCAL.get().remove(this);
+
+    try {
+      lifeCycleCallbacks.postConstruct(instance);
+    }
+    catch(InvocationTargetException e) {
+      throw new CreationException("[" + type + "] threw exception during post construction", e.getCause());
     }
+
+    return instance;
   }
 
   @Override
   public void destroy(T instance) {
+    pendingPostConstructs.untrack(instance);
     lifeCycleCallbacks.preDestroy(instance);
   }
 
@@ -79,6 +139,52 @@ public class ClassObjectFactory<T> implements Constructable<T> {
     return lifeCycleCallbacks.needsDestroy();
   }
 
+  private void postConstructAsynchronously(Object instance, AsynchronousLifeCycleCallbacks callbacks) {
+    pendingPostConstructs.track(instance, CompletableFuture.runAsync(() -> {
+      try {
+        callbacks.postConstruct(instance);
+      }
+      catch(InvocationTargetException e) {
+        throw new CompletionException(e.getCause());
+      }
+    }, callbacks.getPostConstructExecutor()));
+  }
+
+  private T generateInstance(List<Injection> injections) throws CreationException {
+    Object[] values = new Object[slots.length];
+
+    for(int i = 0; i < slots.length; i++) {
+      values[slots[i]] = injections.get(i).getValue();
+    }
+
+    try {
+      return generatedFactory.create(values);
+    }
+    catch(Exception e) {
+      throw new CreationException("[" + type + "] call failed", e);
+    }
+  }
+
+  private static int[] toSlots(List<String> generatedInjectionPoints, List<String> injectionPoints) {
+    if(generatedInjectionPoints.size() != injectionPoints.size()) {
+      throw new IllegalArgumentException("injectionPoints must match generated injection points " + generatedInjectionPoints + ": " + injectionPoints);
+    }
+
+    int[] slots = new int[injectionPoints.size()];
+
+    for(int i = 0; i < slots.length; i++) {
+      int slot = generatedInjectionPoints.indexOf(injectionPoints.get(i));
+
+      if(slot == -1) {
+        throw new IllegalArgumentException("injectionPoints must match generated injection points " + generatedInjectionPoints + ": " + injectionPoints);
+      }
+
+      slots[i] = slot;
+    }
+
+    return slots;
+  }
+
   private T constructInstance(List<Injection> injections) throws CreationException {
     try {
       Object[] values = new Object[constructor.getParameterCount()];  // Parameters for constructor
@@ -0,0 +1,81 @@
+package org.int4.dirk.core.definition.factory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implemented by factories generated at compile time for a concrete class. A generated
+ * factory constructs and injects its class without the use of reflection.
+ *
+ * <p>A generated factory is located by naming convention, see {@link #nameOf(Class)}, and
+ * must have a public no argument constructor. Each value it accepts is identified by an
+ * injection point, see {@link #injectionPointOf(Member, int)}. The injection points do
+ * not need to be in any particular order, but all injection points of the class must be
+ * present.
+ *
+ * @param <T> the type of the instances produced
+ */
+public interface GeneratedFactory<T> {
+
+  /**
+   * The suffix added to the name of a class to derive the name of its generated factory.
+   */
+  static final String SUFFIX = "_DirkFactory";
+
+  /**
+   * Returns the injection points of the class this factory produces, in the order
+   * the values for these points are supplied to {@link #create(Object[])}.
+   *
+   * @return a list of injection points, never {@code null} but can be empty
+   */
+  List<String> getInjectionPoints();
+
+  /**
+   * Creates a new instance using the given values. Values for fields which are
+   * {@code null} must not be set.
+   *
+   * @param values an array of values matching the injection points returned by {@link #getInjectionPoints()}, never {@code null}
+   * @return an instance of type {@code T}, never {@code null}
+   * @throws Exception when the constructor or one of the injection methods threw an exception
+   */
+  T create(Object[] values) throws Exception;
+
+  /**
+   * Returns the fully qualified name of the generated factory for the given {@link Class}.
+   * This is the binary name of the class followed by {@link #SUFFIX}. For nested classes
+   * the {@code $} separators are kept, which makes the name unique, as no other class
+   * in the same package can have the same binary name.
+   *
+   * @param cls a {@link Class}, cannot be {@code null}
+   * @return a fully qualified class name, never {@code null}
+   */
+  static String nameOf(Class<?> cls) {
+    return cls.getName() + SUFFIX;
+  }
+
+  /**
+   * Returns the injection point for the given {@link Member}. For {@link Executable}s
+   * the index of the parameter must be supplied.
+   *
+   * @param member a {@link Field}, {@link java.lang.reflect.Method} or {@link Constructor}, cannot be {@code null}
+   * @param parameterIndex an index of a parameter, ignored for fields
+   * @return an injection point, never {@code null}
+   */
+  static String injectionPointOf(Member member, int parameterIndex) {
+    String prefix = member.getDeclaringClass().getName() + "#";
+
+    if(member instanceof Field) {
+      return prefix + member.getName();
+    }
+
+    Executable executable = (Executable)member;
+    String name = executable instanceof Constructor ? "<init>" : executable.getName();
+
+    return prefix + name + Arrays.stream(executable.getParameterTypes()).map(Class::getTypeName).collect(Collectors.joining(",", "(", ")")) + "#" + parameterIndex;
+  }
+}
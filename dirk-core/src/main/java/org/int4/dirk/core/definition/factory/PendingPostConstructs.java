@@ -0,0 +1,124 @@
+package org.int4.dirk.core.definition.factory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.int4.dirk.api.instantiation.CreationException;
+
+/**
+ * Keeps track of instances of which the post construct life cycle phase is
+ * running asynchronously, and allows waiting for it to complete. An injector
+ * uses a single instance of this class for all the instances it creates.
+ *
+ * <p>Instances are tracked until their post construct phase completes successfully,
+ * until they are destroyed, or until a failure of their post construct phase was
+ * reported once. A failure is therefore only reported to the first user of the
+ * instance. Instances are weakly referenced, so instances which are no longer in
+ * use are never retained.
+ */
+public final class PendingPostConstructs {
+  private final Map<WeakKey, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  /**
+   * Waits for the post construct life cycle phase of the given instance to
+   * complete. Returns immediately if the instance is not tracked.
+   *
+   * @param instance an instance, can be {@code null}
+   * @throws CreationException when the post construct phase failed or waiting was interrupted
+   */
+  public void await(Object instance) throws CreationException {
+    if(instance == null || pending.isEmpty()) {
+      return;
+    }
+
+    WeakKey key = new WeakKey(instance, null);
+    CompletableFuture<Void> future = pending.get(key);
+
+    if(future == null) {
+      return;
+    }
+
+    try {
+      future.get();
+    }
+    catch(ExecutionException e) {
+      pending.remove(key, future);  // report the failure only once
+
+      throw new CreationException("[" + instance.getClass() + "] threw exception during post construction", e.getCause());
+    }
+    catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new CreationException("[" + instance.getClass() + "] interrupted while waiting for post construction", e);
+    }
+  }
+
+  void track(Object instance, CompletableFuture<Void> future) {
+    expungeStaleKeys();
+
+    if(future.isDone() && !future.isCompletedExceptionally()) {
+      return;
+    }
+
+    WeakKey key = new WeakKey(instance, queue);
+
+    pending.put(key, future);
+
+    future.thenRun(() -> pending.remove(key, future));
+  }
+
+  void untrack(Object instance) {
+    if(pending.isEmpty()) {
+      return;
+    }
+
+    pending.remove(new WeakKey(instance, null));
+  }
+
+  private void expungeStaleKeys() {
+    Reference<?> reference;
+
+    while((reference = queue.poll()) != null) {
+      pending.remove(reference);
+    }
+  }
+
+  /**
+   * Weak reference to an instance which compares by identity. A cleared key is
+   * only equal to itself, so it can still be removed from the map.
+   */
+  private static final class WeakKey extends WeakReference<Object> {
+    private final int hashCode;
+
+    WeakKey(Object referent, ReferenceQueue<Object> queue) {
+      super(referent, queue);
+
+      this.hashCode = System.identityHashCode(referent);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(obj == this) {
+        return true;
+      }
+      if(!(obj instanceof WeakKey)) {
+        return false;
+      }
+
+      Object referent = get();
+
+      return referent != null && referent == ((WeakKey)obj).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
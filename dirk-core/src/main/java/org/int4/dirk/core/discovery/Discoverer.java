@@ -1,5 +1,6 @@
 package org.int4.dirk.core.discovery;
 
+import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Set;
 
@@ -30,4 +31,15 @@ public interface Discoverer {
    * @throws IllegalStateException when called before calling {@link #discover()}
    */
   List<String> getProblems();
+
+  /**
+   * Returns the types which were discovered through unresolved bindings, in the order
+   * they were discovered. Discovering these types together with the original input types,
+   * without auto discovery, produces the same {@link Injectable}s. Note that if auto
+   * discovery is off this list is guaranteed to be empty.
+   *
+   * @return a list of {@link Type}s, never {@code null} or contains {@code null} but can be empty
+   * @throws IllegalStateException when called before calling {@link #discover()}
+   */
+  List<Type> getDiscoveredTypes();
 }
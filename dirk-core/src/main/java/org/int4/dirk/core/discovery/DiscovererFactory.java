@@ -43,4 +43,16 @@ public interface DiscovererFactory {
    */
   Discoverer create(Resolver<Injectable<?>> resolver, Collection<Type> types);
 
+  /**
+   * Given a list of {@link Type}s, returns a {@link Discoverer} which will produce
+   * injectables for each of the types given and all injectables that could be derived
+   * from the given types. Unresolved bindings are never used to discover further
+   * injectables, even when auto discovery is enabled.
+   *
+   * @param resolver a {@link Resolver}, cannot be {@code null}
+   * @param types a collection of {@link Type}s, cannot be {@code null} or contain {@code null}s
+   * @return a {@link Discoverer}, never {@code null}
+   */
+  Discoverer createWithoutAutoDiscovery(Resolver<Injectable<?>> resolver, Collection<Type> types);
+
 }
\ No newline at end of file
@@ -6,10 +6,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 import org.int4.dirk.api.definition.AmbiguousDependencyException;
@@ -19,6 +21,7 @@ import org.int4.dirk.api.definition.DependencyException;
 import org.int4.dirk.api.definition.ScopeConflictException;
 import org.int4.dirk.api.definition.UnsatisfiedDependencyException;
 import org.int4.dirk.api.definition.UnsatisfiedRequiredDependencyException;
+import org.int4.dirk.api.scope.ScopeNotActiveException;
 import org.int4.dirk.core.definition.Binding;
 import org.int4.dirk.core.definition.ExtendedScopeResolver;
 import org.int4.dirk.core.definition.Injectable;
@@ -101,16 +104,51 @@ public class InjectableStore implements Resolver<Injectable<?>> {
    * @throws DependencyException when adding an injectable would violate store rules
    */
   public synchronized void putAll(Collection<Injectable<?>> injectables) throws DependencyException {
+    putAll(injectables, null);
+  }
+
+  /**
+   * Adds multiple {@link Injectable}s to the store which, when {@code validatedTargets} is
+   * not {@code null}, were validated before as a whole, for example at build time. Injection
+   * targets accepted by {@code validatedTargets} are not followed when checking for cyclic
+   * dependencies, which is the only check that is skipped; a cycle missed this way is still
+   * rejected when its instances are created. All injection targets are still checked for
+   * ambiguous, unsatisfied and scope conflicting dependencies, as these checks are cheap. If
+   * this method throws an exception then the store will be unmodified.
+   *
+   * @param injectables a collection of {@link Injectable}s, cannot be {@code null} or contain {@code null}s but can be empty
+   * @param validatedTargets a {@link BiPredicate} which returns {@code true} for injection targets which need not be checked for cycles, can be {@code null}
+   * @throws DependencyException when adding an injectable would violate store rules
+   */
+  public synchronized void putAll(Collection<Injectable<?>> injectables, BiPredicate<Injectable<?>, InjectionTarget> validatedTargets) throws DependencyException {
+    putAll(injectables, validatedTargets, null);
+  }
+
+  /**
+   * Adds multiple {@link Injectable}s to the store like {@link #putAll(Collection, BiPredicate)},
+   * calling {@code validated} after the injectables were validated and before they are
+   * committed to the store. If this method throws an exception then the store will be unmodified.
+   *
+   * @param injectables a collection of {@link Injectable}s, cannot be {@code null} or contain {@code null}s but can be empty
+   * @param validatedTargets a {@link BiPredicate} which returns {@code true} for injection targets which need not be checked for cycles, can be {@code null}
+   * @param validated a {@link Runnable} called once validation completed, can be {@code null}
+   * @throws DependencyException when adding an injectable would violate store rules
+   */
+  public synchronized void putAll(Collection<Injectable<?>> injectables, BiPredicate<Injectable<?>, InjectionTarget> validatedTargets, Runnable validated) throws DependencyException {
     qualifiedTypeStore.putAll(injectables);
 
     try {
-      ensureNoCyclicDependencies(injectables);
+      ensureNoCyclicDependencies(injectables, validatedTargets);
 
       // Check if the new injectables can have all their required dependencies resolved:
       for(Injectable<?> injectable : injectables) {
         ensureRequiredBindingsAreAvailable(injectable);
       }
 
+      if(validated != null) {
+        validated.run();
+      }
+
       RegistrationViolation violation = addInjectables(injectables);
 
       if(violation != null) {
@@ -152,12 +190,154 @@ public class InjectableStore implements Resolver<Injectable<?>> {
     }
   }
 
+  /**
+   * Removes and adds multiple {@link Injectable}s as a single operation. The store rules are
+   * only checked against the final state, so the removed injectables can be replaced by added
+   * injectables which provide the same types. Injectables which are both removed and added are
+   * left untouched. If this method throws an exception then the store will be unmodified.
+   *
+   * <p>Remaining injectables which depend, directly or indirectly, on a removed injectable
+   * other than through a provider have their scoped instances removed, as these refer to
+   * instances of the removed injectables. Their dependencies on the added injectables are
+   * checked for scope conflicts.
+   *
+   * @param removedInjectables a collection of {@link Injectable}s to remove, cannot be {@code null} or contain {@code null}s but can be empty
+   * @param addedInjectables a collection of {@link Injectable}s to add, cannot be {@code null} or contain {@code null}s but can be empty
+   * @throws DependencyException when the replacement would violate store rules
+   */
+  public synchronized void replaceAll(Collection<Injectable<?>> removedInjectables, Collection<Injectable<?>> addedInjectables) throws DependencyException {
+    Set<Injectable<?>> removed = new HashSet<>(removedInjectables);
+    Set<Injectable<?>> added = new HashSet<>(addedInjectables);
+
+    removed.removeAll(addedInjectables);
+    added.removeAll(removedInjectables);
+
+    Set<Injectable<?>> dependents = findDependents(removed);
+
+    qualifiedTypeStore.removeAll(removed);
+
+    try {
+      qualifiedTypeStore.putAll(added);
+    }
+    catch(Exception e) {
+      qualifiedTypeStore.putAll(removed);
+
+      throw e;
+    }
+
+    try {
+      ensureNoCyclicDependencies(added, null);
+
+      // Check if the new injectables can have all their required dependencies resolved:
+      for(Injectable<?> injectable : added) {
+        ensureRequiredBindingsAreAvailable(injectable);
+      }
+
+      // Check if the remaining injectables can have the added injectables injected:
+      for(Injectable<?> injectable : dependents) {
+        ensureBindingScopesAreValid(injectable, added);
+      }
+    }
+    catch(Exception e) {
+      qualifiedTypeStore.removeAll(added);
+      qualifiedTypeStore.putAll(removed);
+
+      throw e;
+    }
+
+    // Violations detected while updating are ignored, only the final state is relevant:
+    removeInjectables(removed);
+    addInjectables(added);
+
+    Violation violation = findViolation(removed, added);
+
+    if(violation != null) {
+      removeInjectables(added);
+      qualifiedTypeStore.removeAll(added);
+      qualifiedTypeStore.putAll(removed);
+      addInjectables(removed);
+      violation.doThrow();
+    }
+
+    removeScopedInstances(removed);
+
+    for(Injectable<?> injectable : dependents) {
+      try {
+        injectable.getScopeResolver().remove(injectable);
+      }
+      catch(ScopeNotActiveException e) {
+        // instances of a scope which is not active cannot be removed
+      }
+    }
+  }
+
   private static void removeScopedInstances(Collection<Injectable<?>> injectables) {
     for(Injectable<?> injectable : injectables) {
       injectable.getScopeResolver().remove(injectable);
     }
   }
 
+  /*
+   * Finds the injectables in the store which are not part of the given injectables, but
+   * depend on them, directly or through other dependents, other than through a provider.
+   * The instances of such dependents may refer to instances of the given injectables.
+   */
+  private Set<Injectable<?>> findDependents(Set<Injectable<?>> injectables) {
+    if(injectables.isEmpty()) {
+      return Set.of();
+    }
+
+    Set<Injectable<?>> candidates = qualifiedTypeStore.toSet();
+    Set<Injectable<?>> dependencies = new HashSet<>(injectables);
+    Set<Injectable<?>> dependents = new HashSet<>();
+
+    candidates.removeAll(injectables);
+
+    for(boolean changed = true; changed;) {
+      changed = false;
+
+      for(Iterator<Injectable<?>> iterator = candidates.iterator(); iterator.hasNext();) {
+        Injectable<?> injectable = iterator.next();
+
+        if(dependsOnAny(injectable, dependencies)) {
+          iterator.remove();
+          dependencies.add(injectable);
+          dependents.add(injectable);
+          changed = true;
+        }
+      }
+    }
+
+    return dependents;
+  }
+
+  private boolean dependsOnAny(Injectable<?> injectable, Set<Injectable<?>> dependencies) {
+    for(InjectionTarget injectionTarget : injectable.getInjectionTargets()) {
+      if(injectionTarget.getResolution() != Resolution.LAZY) {
+        for(Injectable<?> boundInjectable : qualifiedTypeStore.resolve(injectionTarget.getElementKey())) {
+          if(dependencies.contains(boundInjectable)) {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private void ensureBindingScopesAreValid(Injectable<?> injectable, Set<Injectable<?>> dependencies) throws ScopeConflictException {
+    for(InjectionTarget injectionTarget : injectable.getInjectionTargets()) {
+      if(injectionTarget.getResolution() == Resolution.EAGER_ONE) {
+        Set<Injectable<?>> injectables = qualifiedTypeStore.resolve(injectionTarget.getElementKey());
+
+        // Ambiguous or unsatisfied targets are reported as violations of the final state
+        if(injectables.size() == 1 && dependencies.contains(injectables.iterator().next())) {
+          ensureBindingScopeIsValid(injectable, injectables.iterator().next());
+        }
+      }
+    }
+  }
+
   private RegistrationViolation addInjectables(Collection<Injectable<?>> injectables) {
     for(Injectable<?> injectable : injectables) {
       for(InjectionTarget injectionTarget : injectable.getInjectionTargets()) {
@@ -251,7 +431,7 @@ public class InjectableStore implements Resolver<Injectable<?>> {
     }
   }
 
-  private void ensureNoCyclicDependencies(Collection<Injectable<?>> injectables) throws CyclicDependencyException {
+  private void ensureNoCyclicDependencies(Collection<Injectable<?>> injectables, BiPredicate<Injectable<?>, InjectionTarget> validatedTargets) throws CyclicDependencyException {
     class CycleDetector {
       Set<Injectable<?>> input = new HashSet<>(injectables);
       Set<Injectable<?>> visited = new HashSet<>();
@@ -271,7 +451,8 @@ public class InjectableStore implements Resolver<Injectable<?>> {
         visiting.add(injectable);
 
         for(InjectionTarget injectionTarget : injectable.getInjectionTargets()) {
-          if(injectionTarget.getResolution() != Resolution.LAZY) {
+          // validated targets are known not to be part of a cycle, so they need not be followed:
+          if(injectionTarget.getResolution() != Resolution.LAZY && (validatedTargets == null || !validatedTargets.test(injectable, injectionTarget))) {
             for(Injectable<?> boundInjectable : qualifiedTypeStore.resolve(injectionTarget.getElementKey())) {
               if(visiting.contains(boundInjectable)) {
                 return true;
@@ -410,6 +591,45 @@ public class InjectableStore implements Resolver<Injectable<?>> {
     return violation;
   }
 
+  private Violation findViolation(Collection<Injectable<?>> removedSources, Collection<Injectable<?>> addedSources) {
+    for(Injectable<?> source : addedSources) {
+      Key key = findInvalidKey(source);
+
+      if(key != null) {
+        return new RegistrationViolation(source, key);
+      }
+    }
+
+    for(Injectable<?> source : removedSources) {
+      if(findInvalidKey(source) != null) {
+        return new RemoveViolation(source);
+      }
+    }
+
+    return null;
+  }
+
+  private Key findInvalidKey(Injectable<?> source) {
+    Type type = source.getType();
+    Set<Annotation> qualifiers = source.getQualifiers();
+
+    for(Class<?> cls : Types.getSuperTypes(Types.raw(type))) {
+      Map<Key, Node> nodesByKeys = nodes.get(cls);
+
+      if(nodesByKeys != null) {
+        for(Map.Entry<Key, Node> entry : nodesByKeys.entrySet()) {
+          Key key = entry.getKey();
+
+          if(Types.isAssignable(type, key.getType()) && qualifiers.containsAll(key.getQualifiers()) && entry.getValue().isInvalid()) {
+            return key;
+          }
+        }
+      }
+    }
+
+    return null;
+  }
+
   private void addTarget(Key key, boolean minimumOne, boolean maximumOne, Collection<Injectable<?>> sources) {
     Class<?> cls = Types.raw(key.getType());
 
@@ -439,7 +659,11 @@ public class InjectableStore implements Resolver<Injectable<?>> {
     );
   }
 
-  private class RegistrationViolation {
+  private interface Violation {
+    void doThrow() throws DependencyException;
+  }
+
+  private class RegistrationViolation implements Violation {
     final Injectable<?> source;
     final Key key;
 
@@ -448,7 +672,8 @@ public class InjectableStore implements Resolver<Injectable<?>> {
       this.key = key;
     }
 
-    void doThrow() throws AmbiguousRequiredDependencyException {
+    @Override
+    public void doThrow() throws AmbiguousRequiredDependencyException {
       Set<Binding> bindings = findBindings(source.getType(), source.getQualifiers());  // expensive, but only for throwing exception
       String satisfiedBy = qualifiedTypeStore.resolve(key).stream().filter(i -> !i.equals(source)).map(Object::toString).collect(Collectors.joining(", ", "[", "]"));
 
@@ -456,14 +681,15 @@ public class InjectableStore implements Resolver<Injectable<?>> {
     }
   }
 
-  private class RemoveViolation {
+  private class RemoveViolation implements Violation {
     final Injectable<?> source;
 
     RemoveViolation(Injectable<?> source) {
       this.source = source;
     }
 
-    void doThrow() throws UnsatisfiedRequiredDependencyException {
+    @Override
+    public void doThrow() throws UnsatisfiedRequiredDependencyException {
       Set<Binding> bindings = findBindings(source.getType(), source.getQualifiers());  // expensive, but only for throwing exception
 
       throw new UnsatisfiedRequiredDependencyException("Removing [" + source + "] would make existing required bindings unsatisfiable: " + bindings);
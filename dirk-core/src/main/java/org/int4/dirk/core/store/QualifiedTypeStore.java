@@ -16,6 +16,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,6 +41,14 @@ import org.int4.dirk.util.Types;
 public class QualifiedTypeStore<T> implements Resolver<T> {
   private final Comparator<Set<T>> comparatorConst = Comparator.comparingInt(Set::size);
 
+  /*
+   * Locks guarding the store. Locks are used instead of synchronization, as monitors
+   * pin virtual threads to their carrier, and as they allow concurrent resolution.
+   */
+
+  private final Lock readLock;
+  private final Lock writeLock;
+
   /**
    * Map containing qualifier annotation mappings to sets of type {@code T}s which match one specific
    * type or qualifier class.
@@ -63,10 +74,26 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
   public QualifiedTypeStore(Function<T, Key> keyExtractor, Function<T, Set<Type>> typesExtractor) {
     this.keyExtractor = Objects.requireNonNull(keyExtractor, "keyExtractor cannot be null");
     this.typesExtractor = Objects.requireNonNull(typesExtractor, "typesExtractor cannot be null");
+
+    ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    this.readLock = lock.readLock();
+    this.writeLock = lock.writeLock();
   }
 
   @Override
-  public synchronized Set<T> resolve(Key key) {
+  public Set<T> resolve(Key key) {
+    readLock.lock();
+
+    try {
+      return resolveInternal(key);
+    }
+    finally {
+      readLock.unlock();
+    }
+  }
+
+  private Set<T> resolveInternal(Key key) {
     Type type = key.getType();
     Collection<Set<T>> sets;
     Set<Type> upperBounds;
@@ -171,7 +198,7 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
    * @return {@code true} if there was a type {@code T} associated with the given {@link Key},
    *   otherwise {@code false}
    */
-  public synchronized boolean contains(Key key) {
+  public boolean contains(Key key) {
     return !resolve(key).isEmpty();
   }
 
@@ -181,7 +208,7 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
    * @param qualifiedType a type {@code T}, cannot be {@code null}
    * @throws DuplicateDependencyException when a dependency was already present in the store
    */
-  public synchronized void put(T qualifiedType) throws DuplicateDependencyException {
+  public void put(T qualifiedType) throws DuplicateDependencyException {
     putAll(List.of(qualifiedType));
   }
 
@@ -191,7 +218,7 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
    * @param qualifiedType a type {@code T}, cannot be {@code null}
    * @throws MissingDependencyException when a dependency was not present in the store
    */
-  public synchronized void remove(T qualifiedType) throws MissingDependencyException {
+  public void remove(T qualifiedType) throws MissingDependencyException {
     removeAll(List.of(qualifiedType));
   }
 
@@ -202,36 +229,43 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
    * @param qualifiedTypes a collection of type {@code T}s, cannot be {@code null} or contain {@code null}s but can be empty
    * @throws DuplicateDependencyException when a dependency was already present in the store
    */
-  public synchronized void putAll(Collection<T> qualifiedTypes) throws DuplicateDependencyException {
-    for(T qualifiedType : qualifiedTypes) {
-      ensureQualifiedTypeIsValid(qualifiedType);
-    }
-
-    // Duplication check must be done afterwards, as it can be duplicate with existing qualified types or within the group of added qualified types:
-    List<T> addedQualifiedTypes = new ArrayList<>();
+  public void putAll(Collection<T> qualifiedTypes) throws DuplicateDependencyException {
+    writeLock.lock();
 
     try {
       for(T qualifiedType : qualifiedTypes) {
-        ensureNotDuplicate(qualifiedType);
-        putInternal(qualifiedType);
-        addedQualifiedTypes.add(qualifiedType);
+        ensureQualifiedTypeIsValid(qualifiedType);
       }
-    }
-    catch(Exception e) {
+
+      // Duplication check must be done afterwards, as it can be duplicate with existing qualified types or within the group of added qualified types:
+      List<T> addedQualifiedTypes = new ArrayList<>();
+
       try {
-        for(T qualifiedType : addedQualifiedTypes) {
-          removeInternal(qualifiedType);
+        for(T qualifiedType : qualifiedTypes) {
+          ensureNotDuplicate(qualifiedType);
+          putInternal(qualifiedType);
+          addedQualifiedTypes.add(qualifiedType);
         }
       }
-      catch(Exception e2) {
-        AssertionError error = new AssertionError("Fatal error (store might be inconsistent) while adding: " + qualifiedTypes, e2);
+      catch(Exception e) {
+        try {
+          for(T qualifiedType : addedQualifiedTypes) {
+            removeInternal(qualifiedType);
+          }
+        }
+        catch(Exception e2) {
+          AssertionError error = new AssertionError("Fatal error (store might be inconsistent) while adding: " + qualifiedTypes, e2);
 
-        error.addSuppressed(e);
+          error.addSuppressed(e);
 
-        throw error;
-      }
+          throw error;
+        }
 
-      throw e;
+        throw e;
+      }
+    }
+    finally {
+      writeLock.unlock();
     }
   }
 
@@ -242,22 +276,29 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
    * @param qualifiedTypes a collection of type {@code T}s, cannot be {@code null} or contain {@code null}s but can be empty
    * @throws MissingDependencyException when a dependency was not present in the store
    */
-  public synchronized void removeAll(Collection<T> qualifiedTypes) throws MissingDependencyException {
-    // First check the qualified types for fatal issues, exception does not need to be caught:
-    for(T qualifiedType : qualifiedTypes) {
-      ensureQualifiedTypeIsValid(qualifiedType);
+  public void removeAll(Collection<T> qualifiedTypes) throws MissingDependencyException {
+    writeLock.lock();
+
+    try {
+      // First check the qualified types for fatal issues, exception does not need to be caught:
+      for(T qualifiedType : qualifiedTypes) {
+        ensureQualifiedTypeIsValid(qualifiedType);
 
-      Key key = keyExtractor.apply(qualifiedType);
-      Map<Annotation, Set<T>> existingQualifiedTypes = qualifiedTypesByQualifierByType.get(Types.raw(key.getType()));
+        Key key = keyExtractor.apply(qualifiedType);
+        Map<Annotation, Set<T>> existingQualifiedTypes = qualifiedTypesByQualifierByType.get(Types.raw(key.getType()));
 
-      if(existingQualifiedTypes == null || !existingQualifiedTypes.get(null).contains(qualifiedType)) {
-        throw new MissingDependencyException("[" + key + "] not present");
+        if(existingQualifiedTypes == null || !existingQualifiedTypes.get(null).contains(qualifiedType)) {
+          throw new MissingDependencyException("[" + key + "] not present");
+        }
       }
-    }
 
-    // Change the store, no exceptions should occur here:
-    for(T qualifiedType : qualifiedTypes) {
-      removeInternal(qualifiedType);
+      // Change the store, no exceptions should occur here:
+      for(T qualifiedType : qualifiedTypes) {
+        removeInternal(qualifiedType);
+      }
+    }
+    finally {
+      writeLock.unlock();
     }
   }
 
@@ -267,14 +308,21 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
    * @return a set with a copy of all type {@code T}s that are part of this store, never {@code null}
    *   or contains {@code null}s but can be empty
    */
-  public synchronized Set<T> toSet() {
-    return qualifiedTypesByQualifierByType.entrySet().stream()
-      .filter(e -> e.getKey().getSuperclass() == null)  // although everything could be scanned, duplicates can be eliminated early here
-      .map(Map.Entry::getValue)
-      .map(Map::values)
-      .flatMap(Collection::stream)
-      .flatMap(Collection::stream)
-      .collect(Collectors.toSet());
+  public Set<T> toSet() {
+    readLock.lock();
+
+    try {
+      return qualifiedTypesByQualifierByType.entrySet().stream()
+        .filter(e -> e.getKey().getSuperclass() == null)  // although everything could be scanned, duplicates can be eliminated early here
+        .map(Map.Entry::getValue)
+        .map(Map::values)
+        .flatMap(Collection::stream)
+        .flatMap(Collection::stream)
+        .collect(Collectors.toSet());
+    }
+    finally {
+      readLock.unlock();
+    }
   }
 
   /**
@@ -282,7 +330,7 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
    *
    * <p>Note: this call is expensive as the stream contains all types in the store.
    * Furthermore, the function provided must call a terminating operation on the stream
-   * to avoid unsynchronized access to the stores internal structures.
+   * to avoid unguarded access to the stores internal structures.
    *
    * <p>Useful for debugging purposes and providing helpful exception messages.
    *
@@ -290,14 +338,21 @@ public class QualifiedTypeStore<T> implements Resolver<T> {
    * @param function a {@link Function} to apply, cannot be {@code null}
    * @return the result of applying the given function, can be {@code null}
    */
-  public synchronized <U> U toSet(Function<Stream<T>, U> function) {
-    return function.apply(qualifiedTypesByQualifierByType.entrySet().stream()
-      .filter(e -> e.getKey().getSuperclass() == null)  // although everything could be scanned, duplicates can be eliminated early here
-      .map(Map.Entry::getValue)
-      .map(Map::values)
-      .flatMap(Collection::stream)
-      .flatMap(Collection::stream)
-    );
+  public <U> U toSet(Function<Stream<T>, U> function) {
+    readLock.lock();
+
+    try {
+      return function.apply(qualifiedTypesByQualifierByType.entrySet().stream()
+        .filter(e -> e.getKey().getSuperclass() == null)  // although everything could be scanned, duplicates can be eliminated early here
+        .map(Map.Entry::getValue)
+        .map(Map::values)
+        .flatMap(Collection::stream)
+        .flatMap(Collection::stream)
+      );
+    }
+    finally {
+      readLock.unlock();
+    }
   }
 
   private void putInternal(T qualifiedType) {
@@ -0,0 +1,126 @@
+package org.int4.dirk.core;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.api.TypeLiteral;
+import org.int4.dirk.api.instantiation.CreationException;
+import org.int4.dirk.api.instantiation.UnsatisfiedResolutionException;
+import org.int4.dirk.core.test.qualifiers.Red;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+public class AsynchronousInstanceResolverTest {
+  private static final CountDownLatch CONCURRENT_CONSTRUCTIONS = new CountDownLatch(2);
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final Injector injector = Injectors.manual();
+
+  @AfterEach
+  void afterEach() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldCreateIndependentSingletonDependenciesConcurrently() throws Exception {
+    injector.register(A.class);
+    injector.register(B.class);
+    injector.register(D.class);
+    injector.register(R.class);
+
+    R r = injector.getInstanceAsync(executor, R.class).get(10, TimeUnit.SECONDS);
+
+    assertThat(r.d.a.constructedConcurrently).isTrue();
+    assertThat(r.b.constructedConcurrently).isTrue();
+    assertThat(injector.getInstance(A.class)).isSameAs(r.d.a);
+    assertThat(injector.getInstance(B.class)).isSameAs(r.b);
+  }
+
+  @Test
+  void shouldCreateAllMatchingInstances() throws Exception {
+    injector.register(X.class);
+    injector.register(Y.class);
+
+    List<Letter> letters = injector.getInstancesAsync(executor, new TypeLiteral<Letter>() {}).get(10, TimeUnit.SECONDS);
+
+    assertThat(letters).hasSize(2);
+    assertThat(injector.getInstancesAsync(executor, Object.class, Red.class).get(10, TimeUnit.SECONDS)).isEmpty();
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenInstanceCannotBeCreated() {
+    injector.register(Failing.class);
+    injector.register(DependsOnFailing.class);
+
+    assertThatThrownBy(() -> injector.getInstanceAsync(executor, R.class).get(10, TimeUnit.SECONDS))
+      .isExactlyInstanceOf(ExecutionException.class)
+      .hasCauseExactlyInstanceOf(UnsatisfiedResolutionException.class);
+
+    assertThatThrownBy(() -> injector.getInstanceAsync(executor, DependsOnFailing.class).get(10, TimeUnit.SECONDS))
+      .isExactlyInstanceOf(ExecutionException.class)
+      .hasCauseExactlyInstanceOf(CreationException.class)
+      .hasRootCauseMessage("oops");
+  }
+
+  public static abstract class AbstractSlowConstruction {
+    final boolean constructedConcurrently;
+
+    AbstractSlowConstruction() throws InterruptedException {
+      CONCURRENT_CONSTRUCTIONS.countDown();
+
+      constructedConcurrently = CONCURRENT_CONSTRUCTIONS.await(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Singleton
+  public static class A extends AbstractSlowConstruction {
+    public A() throws InterruptedException {
+    }
+  }
+
+  @Singleton
+  public static class B extends AbstractSlowConstruction {
+    public B() throws InterruptedException {
+    }
+  }
+
+  public static class D {
+    @Inject A a;
+  }
+
+  public static class R {
+    @Inject D d;
+    @Inject B b;
+  }
+
+  interface Letter {
+  }
+
+  public static class X implements Letter {
+  }
+
+  public static class Y implements Letter {
+  }
+
+  @Singleton
+  public static class Failing {
+    public Failing() {
+      throw new IllegalStateException("oops");
+    }
+  }
+
+  public static class DependsOnFailing {
+    @Inject Failing failing;
+  }
+}
@@ -0,0 +1,108 @@
+package org.int4.dirk.core;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.api.instantiation.CreationException;
+import org.int4.dirk.library.AnnotationBasedLifeCycleCallbacksFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+public class AsynchronousPostConstructTest {
+  private static final CountDownLatch CONCURRENT_POST_CONSTRUCTS = new CountDownLatch(2);
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final Injector injector = InjectorBuilder.builder()
+    .lifeCycleCallbacksFactory(new AnnotationBasedLifeCycleCallbacksFactory(PostConstruct.class, PreDestroy.class, Async.class, executor))
+    .build();
+
+  @AfterEach
+  void afterEach() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldRunPostConstructOfIndependentSingletonsConcurrently() throws Exception {
+    injector.register(A.class);
+    injector.register(B.class);
+    injector.register(R.class);
+
+    R r = injector.getInstance(R.class);
+
+    assertThat(r.a.initializedOnOtherThread).isTrue();
+    assertThat(r.b.initializedOnOtherThread).isTrue();
+    assertThat(injector.getInstance(A.class)).isSameAs(r.a);
+  }
+
+  @Test
+  void shouldFailToProvideInstanceWhenAsynchronousPostConstructFails() throws Exception {
+    injector.register(C.class);
+    injector.register(DependsOnC.class);
+
+    assertThatThrownBy(() -> injector.getInstance(C.class))
+      .isExactlyInstanceOf(CreationException.class)
+      .hasMessage("[" + C.class + "] threw exception during post construction")
+      .hasRootCauseMessage("oops");
+
+    assertThatThrownBy(() -> injector.getInstance(DependsOnC.class))
+      .isExactlyInstanceOf(CreationException.class)
+      .hasRootCauseMessage("oops");
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Async {
+  }
+
+  public static abstract class AbstractSlowInitializer {
+    private final Thread creatingThread = Thread.currentThread();
+
+    boolean initializedOnOtherThread;
+
+    @PostConstruct
+    void postConstruct() throws InterruptedException {
+      CONCURRENT_POST_CONSTRUCTS.countDown();
+
+      initializedOnOtherThread = CONCURRENT_POST_CONSTRUCTS.await(10, TimeUnit.SECONDS) && creatingThread != Thread.currentThread();
+    }
+  }
+
+  @Async
+  @Singleton
+  public static class A extends AbstractSlowInitializer {
+  }
+
+  @Async
+  @Singleton
+  public static class B extends AbstractSlowInitializer {
+  }
+
+  public static class R {
+    @Inject A a;
+    @Inject B b;
+  }
+
+  @Async
+  public static class C {
+    @PostConstruct
+    void postConstruct() {
+      throw new IllegalStateException("oops");
+    }
+  }
+
+  public static class DependsOnC {
+    @Inject C c;
+  }
+}
@@ -77,6 +77,11 @@ public class DefaultInstanceResolverTest {
     void shouldReturnEmptySetWhenGettingMultipleInstances() throws CreationException {
       assertThat(instanceResolver.getInstances(A.class)).isEmpty();
     }
+
+    @Test
+    void shouldReturnEmptyOptionalWhenFindingSingleInstance() throws CreationException {
+      assertThat(instanceResolver.findInstance(A.class)).isEmpty();
+    }
   }
 
   @Nested
@@ -131,6 +136,28 @@ public class DefaultInstanceResolverTest {
         .hasNoCause();
     }
 
+    @Test
+    void findInstanceShouldReturnInstancesOfKnownTypes() throws Exception {
+      assertThat(instanceResolver.findInstance(A.class)).containsInstanceOf(A.class);
+      assertThat(instanceResolver.findInstance(String.class, Red.class)).contains("red");
+    }
+
+    @Test
+    void findInstanceShouldReturnEmptyOptionalWhenScopeNotActive() throws Exception {
+      assertThat(instanceResolver.findInstance(D.class)).isEmpty();
+
+      currentScope = "Active";
+
+      assertThat(instanceResolver.findInstance(D.class)).containsInstanceOf(D.class);
+    }
+
+    @Test
+    void findInstanceShouldThrowExceptionWhenNotSingular() {
+      assertThatThrownBy(() -> instanceResolver.findInstance(String.class))
+        .isExactlyInstanceOf(AmbiguousResolutionException.class)
+        .hasNoCause();
+    }
+
     @Test
     void shouldThrowExceptionWhenNotSingular() {
       assertThatThrownBy(() -> instanceResolver.getInstance(String.class))
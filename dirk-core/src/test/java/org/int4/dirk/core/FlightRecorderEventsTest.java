@@ -0,0 +1,82 @@
+package org.int4.dirk.core;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.int4.dirk.api.Injector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderEventsTest {
+  private final Injector injector = Injectors.manual();
+
+  @Test
+  void shouldEmitEvents() throws Exception {
+    List<RecordedEvent> events = record(() -> {
+      injector.register(List.of(A.class, B.class));
+      injector.getInstance(B.class);
+      injector.getInstance(B.class);
+    });
+
+    List<RecordedEvent> registrations = filter(events, "org.int4.dirk.InjectorRegistration");
+
+    assertThat(registrations).hasSize(1);
+    assertThat(registrations.get(0).getString("types")).isEqualTo("[" + A.class + ", " + B.class + "]");
+    assertThat(registrations.get(0).getInt("discoveredCount")).isEqualTo(2);
+
+    List<RecordedEvent> creations = filter(events, "org.int4.dirk.InstanceCreation");
+
+    assertThat(creations).extracting(e -> e.getString("type")).containsExactly(B.class.getTypeName(), A.class.getTypeName(), B.class.getTypeName());  // by start time
+    assertThat(creations).extracting(e -> e.getInt("depth")).containsExactly(0, 1, 0);
+
+    List<RecordedEvent> lookups = filter(events, "org.int4.dirk.ScopeLookup");
+
+    assertThat(lookups).extracting(e -> e.getString("type")).containsExactly(A.class.getTypeName(), A.class.getTypeName());
+    assertThat(lookups).extracting(e -> e.getBoolean("hit")).containsExactly(false, true);
+  }
+
+  private static List<RecordedEvent> record(Runnable runnable) throws Exception {
+    Path file = Files.createTempFile("dirk", ".jfr");
+
+    try(Recording recording = new Recording()) {
+      recording.enable("org.int4.dirk.InjectorRegistration");
+      recording.enable("org.int4.dirk.InstanceCreation");
+      recording.enable("org.int4.dirk.ScopeLookup");
+      recording.start();
+
+      runnable.run();
+
+      recording.stop();
+      recording.dump(file);
+
+      return RecordingFile.readAllEvents(file);
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+    return events.stream()
+      .filter(e -> e.getEventType().getName().equals(name))
+      .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+      .collect(Collectors.toList());
+  }
+
+  @Singleton
+  public static class A {
+  }
+
+  public static class B {
+    @Inject A a;
+  }
+}
@@ -1,11 +1,15 @@
 package org.int4.dirk.core;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.int4.dirk.annotations.Opt;
 import org.int4.dirk.api.Injector;
 import org.int4.dirk.api.TypeLiteral;
 import org.int4.dirk.api.instantiation.UnsatisfiedResolutionException;
+import org.int4.dirk.library.FutureInjectionTargetExtension;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -13,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
 
 public class InjectionTargetExtensionTest {
   Injector injector = Injectors.manual();
@@ -38,6 +43,41 @@ public class InjectionTargetExtensionTest {
       .isExactlyInstanceOf(UnsatisfiedResolutionException.class);
   }
 
+  @Test
+  void shouldInjectFutureOfInstanceCreatedOnExecutor() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      @SuppressWarnings("unchecked")
+      Class<Future<?>> futureClass = (Class<Future<?>>)(Class<?>)Future.class;
+      Injector injector = InjectorBuilder.builder()
+        .useDefaultInjectionTargetExtensions()
+        .add(new FutureInjectionTargetExtension<>(futureClass, executor))
+        .build();
+
+      injector.register(Expensive.class);
+      injector.register(FutureInjected.class);
+
+      FutureInjected instance = injector.getInstance(FutureInjected.class);
+      Expensive expensive = instance.expensive.get();
+
+      assertThat(expensive.creatingThread).isNotEqualTo(Thread.currentThread());
+      assertThat(expensive).isSameAs(injector.getInstance(Expensive.class));
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Singleton
+  public static class Expensive {
+    final Thread creatingThread = Thread.currentThread();
+  }
+
+  public static class FutureInjected {
+    @Inject Future<Expensive> expensive;
+  }
+
   public void shouldInjectAvailableTypeInVariousNestedTargets() throws Exception {
     injector.register(IntegerProviderInjected.class);
 
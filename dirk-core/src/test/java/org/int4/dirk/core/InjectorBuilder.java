@@ -30,6 +30,7 @@ import org.int4.dirk.spi.config.ProxyStrategy;
 import org.int4.dirk.spi.config.ScopeStrategy;
 import org.int4.dirk.spi.definition.TypeRegistrationExtension;
 import org.int4.dirk.spi.instantiation.InjectionTargetExtension;
+import org.int4.dirk.spi.instrumentation.InjectorListener;
 import org.int4.dirk.spi.scope.ScopeResolver;
 import org.int4.dirk.util.Annotations;
 
@@ -67,6 +68,7 @@ public class InjectorBuilder {
     private ProxyStrategy proxyStrategy;
     private LifeCycleCallbacksFactory lifeCycleCallbacksFactory;
     private boolean autoDiscovery;
+    private InjectorListener listener;
 
     public Builder annotationStrategy(AnnotationStrategy annotationStrategy) {
       this.annotationStrategy = annotationStrategy;
@@ -98,6 +100,12 @@ public class InjectorBuilder {
       return this;
     }
 
+    public Builder listener(InjectorListener listener) {
+      this.listener = listener;
+
+      return this;
+    }
+
     public Builder useDefaultTypeRegistrationExtensions() {
       this.typeRegistrationExtensions.clear();
       this.typeRegistrationExtensions.add(new ProviderTypeRegistrationExtension(PROVIDER_METHOD));
@@ -141,7 +149,8 @@ public class InjectorBuilder {
         typeRegistrationExtensions,
         determineScopeResolvers(injectorStrategy),
         injectorStrategy,
-        autoDiscovery
+        autoDiscovery,
+        listener
       );
     }
 
@@ -0,0 +1,115 @@
+package org.int4.dirk.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.spi.instrumentation.InjectorListener;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+public class InjectorListenerTest {
+  private final List<String> events = new ArrayList<>();
+  private final Injector injector = InjectorBuilder.builder().listener(new RecordingListener()).build();
+
+  @Test
+  void shouldReportRegistrations() {
+    injector.register(List.of(A.class, B.class));
+
+    assertThat(events).containsExactly("registered [" + A.class + ", " + B.class + "] with 2 candidates");
+  }
+
+  @Test
+  void shouldReportResolutionsScopeLookupsAndCreations() {
+    injector.register(List.of(A.class, B.class));
+    events.clear();
+
+    B b = injector.getInstance(B.class);
+
+    assertThat(b.a).isNotNull();
+    assertThat(events).containsExactly(
+      "resolve " + B.class,
+      "resolved " + B.class + ": 1",
+      "resolve " + A.class,
+      "resolved " + A.class + ": 1",
+      "lookup " + A.class + ": miss",
+      "created " + A.class,
+      "created " + B.class
+    );
+
+    events.clear();
+
+    assertThat(injector.getInstance(B.class).a).isSameAs(b.a);
+    assertThat(events).containsExactly(
+      "resolve " + B.class,
+      "resolved " + B.class + ": 1",
+      "resolve " + A.class,
+      "resolved " + A.class + ": 1",
+      "lookup " + A.class + ": hit",
+      "created " + B.class
+    );
+  }
+
+  @Test
+  void shouldReportFailedResolutions() {
+    assertThat(injector.findInstance(A.class)).isEmpty();
+    assertThat(events).containsExactly(
+      "resolve " + A.class,
+      "resolved " + A.class + ": 0"
+    );
+  }
+
+  @Singleton
+  public static class A {
+  }
+
+  public static class B {
+    @Inject A a;
+  }
+
+  private class RecordingListener implements InjectorListener {
+    @Override
+    public void resolveStarted(Type type, Set<Annotation> qualifiers) {
+      events.add("resolve " + type);
+    }
+
+    @Override
+    public void resolveEnded(Type type, Set<Annotation> qualifiers, int count) {
+      events.add("resolved " + type + ": " + count);
+    }
+
+    @Override
+    public void scopeLookup(Type type, Set<Annotation> qualifiers, Annotation scope, boolean hit) {
+      events.add("lookup " + type + ": " + (hit ? "hit" : "miss"));
+    }
+
+    @Override
+    public void instanceCreated(Type type, Set<Annotation> qualifiers, Annotation scope, long nanos) {
+      assertThat(nanos).isNotNegative();
+
+      events.add("created " + type);
+    }
+
+    @Override
+    public void proxyCreated(Type type, Set<Annotation> qualifiers, Annotation scope) {
+      events.add("proxied " + type);
+    }
+
+    @Override
+    public void typesRegistered(Collection<Type> types, int candidateCount, long discoverNanos, long validateNanos, long commitNanos) {
+      assertThat(discoverNanos).isNotNegative();
+      assertThat(validateNanos).isNotNegative();
+      assertThat(commitNanos).isNotNegative();
+
+      events.add("registered " + types + " with " + candidateCount + " candidates");
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package org.int4.dirk.core;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.api.metrics.Metric;
+import org.int4.dirk.core.test.scope.Dependent;
+import org.int4.dirk.core.test.scope.TestScope;
+import org.int4.dirk.spi.scope.AbstractScopeResolver;
+import org.int4.dirk.util.Annotations;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+public class InjectorMetricsTest {
+  private static final String SINGLETON = Singleton.class.getName();
+  private static final String TEST_SCOPE = TestScope.class.getName();
+
+  private String currentScope;
+  private final AbstractScopeResolver<String> scopeResolver = new AbstractScopeResolver<>() {
+    @Override
+    public Annotation getAnnotation() {
+      return Annotations.of(TestScope.class);
+    }
+
+    @Override
+    protected String getCurrentScope() {
+      return currentScope;
+    }
+  };
+
+  private final Injector injector = Injectors.manualWithMetrics(scopeResolver);
+
+  @Test
+  void shouldReportRegisteredInjectablesPerScope() {
+    injector.register(List.of(A.class, B.class, C.class, D.class));
+
+    assertThat(find("injectables", Map.of("scope", SINGLETON))).isEqualTo(Metric.gauge("injectables", Map.of("scope", SINGLETON), 2));  // A and C
+    assertThat(find("injectables", Map.of("scope", Dependent.class.getName())).getValue()).isEqualTo(1);
+    assertThat(find("injectables", Map.of("scope", TEST_SCOPE)).getValue()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReportScopeLookupsAndInstances() {
+    injector.register(List.of(A.class, D.class));
+
+    currentScope = "first";
+
+    injector.getInstance(D.class);
+    injector.getInstance(D.class);
+
+    currentScope = "second";
+
+    injector.getInstance(D.class);
+
+    assertThat(find("scope.lookups", Map.of("scope", TEST_SCOPE, "result", "miss")).getValue()).isEqualTo(2);
+    assertThat(find("scope.lookups", Map.of("scope", TEST_SCOPE, "result", "hit")).getValue()).isEqualTo(1);
+    assertThat(find("scope.lookups", Map.of("scope", SINGLETON, "result", "miss")).getValue()).isEqualTo(1);
+    assertThat(find("scope.lookups", Map.of("scope", SINGLETON, "result", "hit")).getValue()).isEqualTo(1);
+    assertThat(find("scope.instances", Map.of("scope", TEST_SCOPE)).getValue()).isEqualTo(2);  // totals of scopes "first" and "second"
+  }
+
+  @Test
+  void shouldNotReportMetricsUnlessRequested() {
+    Injector injector = Injectors.manual();
+
+    injector.register(A.class);
+    injector.getInstance(A.class);
+
+    assertThat(injector.getMetrics()).isEmpty();
+  }
+
+  @Test
+  void shouldReportDependentsUntilDestroyed() {
+    injector.register(List.of(A.class, B.class, C.class));
+
+    C c = injector.getInstance(C.class);
+
+    B b1 = c.provider.get();
+    B b2 = c.provider.get();
+
+    assertThat(b1).isNotSameAs(b2);
+    assertThat(find("dependents", Map.of()).getValue()).isEqualTo(2);
+
+    injector.remove(List.of(C.class));  // releases the dependents of C
+
+    assertThat(find("dependents", Map.of()).getValue()).isEqualTo(0);
+  }
+
+  @Test
+  void shouldReportDiscoveryCacheSize() {
+    assertThat(find("discovery.cache.size", Map.of()).getValue()).isEqualTo(0);
+
+    injector.register(A.class);
+
+    assertThat(find("discovery.cache.size", Map.of()).getValue()).isEqualTo(1);
+    assertThat(find("proxy.classes", Map.of()).getValue()).isEqualTo(0);
+  }
+
+  private Metric find(String name, Map<String, String> tags) {
+    return injector.getMetrics().stream()
+      .filter(m -> m.getName().equals(name) && m.getTags().equals(tags))
+      .findFirst()
+      .orElseThrow(() -> new AssertionError("No metric " + name + tags + " in: " + injector.getMetrics()));
+  }
+
+  @Singleton
+  public static class A {
+  }
+
+  public static class B {
+    @Inject A a;
+
+    @PreDestroy
+    void preDestroy() {
+    }
+  }
+
+  @Singleton
+  public static class C {
+    @Inject Provider<B> provider;
+  }
+
+  @TestScope
+  public static class D {
+    @Inject A a;
+  }
+}
@@ -1,6 +1,7 @@
 package org.int4.dirk.core;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 
 import org.int4.dirk.annotations.Produces;
 import org.int4.dirk.api.Injector;
@@ -143,6 +144,20 @@ public class InjectorScopeTest {
         .isExactlyInstanceOf(ScopeConflictException.class);
     }
 
+    @Test
+    public void shouldThrowExceptionWhenReplacementInjectsNarrowScopedBeanIntoBroaderScopedBean() throws Exception {
+      TestScopeResolver scopeResolver = new TestScopeResolver();
+      Injector injector = Injectors.manual(scopeResolver);
+
+      injector.register(UnscopedGreeter.class);
+      injector.register(SingletonBeanDependentOnGreeter.class);
+
+      assertThatThrownBy(() -> injector.replace(List.of(UnscopedGreeter.class), List.of(TestScopedGreeter.class)))
+        .isExactlyInstanceOf(ScopeConflictException.class);
+
+      assertThat(injector.getInstance(SingletonBeanDependentOnGreeter.class).greeter).isInstanceOf(UnscopedGreeter.class);
+    }
+
     @Test
     public void shouldAllowInjectingUnscopedInstancesAlways() throws Exception {
       TestScopeResolver scopeResolver = new TestScopeResolver();
@@ -316,6 +331,21 @@ public class InjectorScopeTest {
   public static class UnscopedBean {
   }
 
+  public interface Greeter {
+  }
+
+  public static class UnscopedGreeter implements Greeter {
+  }
+
+  @TestScope
+  public static class TestScopedGreeter implements Greeter {
+  }
+
+  @Singleton
+  public static class SingletonBeanDependentOnGreeter {
+    @Inject Greeter greeter;
+  }
+
   public static class SomeUserBean {
     @Inject Provider<TestScopedBean> testScopedBean;
   }
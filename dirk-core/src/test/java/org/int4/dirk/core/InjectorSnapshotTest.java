@@ -0,0 +1,195 @@
+package org.int4.dirk.core;
+
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.api.definition.UnsatisfiedDependencyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.inject.Inject;
+
+public class InjectorSnapshotTest {
+  @TempDir
+  Path tempDir;
+
+  private final AtomicInteger supplierCalls = new AtomicInteger();
+  private final Supplier<Collection<Type>> types = () -> {
+    supplierCalls.incrementAndGet();
+
+    return List.of(A.class, B.class);
+  };
+
+  private Path classPath;
+  private Path file;
+
+  @BeforeEach
+  void beforeEach() throws Exception {
+    classPath = Files.createDirectories(tempDir.resolve("classes"));
+    file = tempDir.resolve("injector.snapshot");
+
+    Files.writeString(classPath.resolve("A.class"), "a");
+  }
+
+  @Test
+  void registerShouldWriteSnapshotAndUseItOnNextRegistration() {
+    assertThat(snapshot().register(injector(), types)).isFalse();
+    assertThat(supplierCalls).hasValue(1);
+    assertThat(file).exists();
+
+    Injector injector = injector();
+
+    assertThat(snapshot().register(injector, types)).isTrue();
+    assertThat(supplierCalls).hasValue(1);
+    assertThat(injector.getInstance(A.class).b.s).isEqualTo("external");
+  }
+
+  @Test
+  void registerShouldIgnoreSnapshotWhenClassPathChanged() throws Exception {
+    snapshot().register(injector(), types);
+
+    Files.writeString(classPath.resolve("B.class"), "b");
+
+    assertThat(snapshot().register(injector(), types)).isFalse();
+    assertThat(supplierCalls).hasValue(2);
+    assertThat(snapshot().register(injector(), types)).isTrue();
+    assertThat(supplierCalls).hasValue(2);
+  }
+
+  @Test
+  void registerShouldIgnoreCorruptSnapshot() throws Exception {
+    snapshot().register(injector(), types);
+
+    byte[] bytes = Files.readAllBytes(file);
+
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+    Injector injector = injector();
+
+    assertThat(snapshot().register(injector, types)).isFalse();
+    assertThat(supplierCalls).hasValue(2);
+    assertThat(injector.getInstance(A.class)).isNotNull();
+  }
+
+  @Test
+  void registerShouldStillCheckDependenciesOutsideSnapshot() {
+    snapshot().register(injector(), types);
+
+    assertThatThrownBy(() -> snapshot().register(Injectors.manual(), types))
+      .isExactlyInstanceOf(UnsatisfiedDependencyException.class);
+
+    assertThat(supplierCalls).hasValue(2);
+  }
+
+  @Test
+  void registerShouldIgnoreSnapshotWhenClassFilesChanged() throws Exception {
+    try(ChangingClassLoader classLoader = new ChangingClassLoader()) {
+      List<Type> loadedTypes = List.of(classLoader.loadClass(A.class.getName()), classLoader.loadClass(B.class.getName()));
+      Supplier<Collection<Type>> types = () -> {
+        supplierCalls.incrementAndGet();
+
+        return loadedTypes;
+      };
+
+      InjectorSnapshot snapshot = new InjectorSnapshot(file, classLoader, List.of(classPath));
+
+      assertThat(snapshot.register(injector(), types)).isFalse();
+      assertThat(snapshot.register(injector(), types)).isTrue();
+      assertThat(supplierCalls).hasValue(1);
+
+      classLoader.changedClassFile = Files.write(tempDir.resolve("Changed.class"), new byte[] {1, 2, 3}).toUri().toURL();
+
+      assertThat(snapshot.register(injector(), types)).isFalse();
+      assertThat(supplierCalls).hasValue(2);
+    }
+  }
+
+  @Test
+  void registerShouldRecordDiscoveredTypesSoNoDiscoveryIsNeeded() {
+    Supplier<Collection<Type>> types = () -> {
+      supplierCalls.incrementAndGet();
+
+      return List.of(A.class);
+    };
+
+    Injector discoveringInjector = Injectors.autoDiscovering();
+
+    discoveringInjector.registerInstance("external");
+
+    assertThat(snapshot().register(discoveringInjector, types)).isFalse();
+
+    Injector injector = injector();  // does not auto discover, so B must be registered from the snapshot
+
+    assertThat(snapshot().register(injector, types)).isTrue();
+    assertThat(supplierCalls).hasValue(1);
+    assertThat(injector.getInstance(A.class).b.s).isEqualTo("external");
+  }
+
+  private InjectorSnapshot snapshot() {
+    return new InjectorSnapshot(file, getClass().getClassLoader(), List.of(classPath));
+  }
+
+  private static Injector injector() {
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("external");
+
+    return injector;
+  }
+
+  public static class A {
+    @Inject B b;
+  }
+
+  public static class B {
+    @Inject String s;
+  }
+
+  /*
+   * Loads the nested types of this test itself, and can pretend their class files changed.
+   */
+  private static class ChangingClassLoader extends URLClassLoader {
+    volatile URL changedClassFile;  // when set, used as the class file of A and B
+
+    ChangingClassLoader() {
+      super(new URL[] {InjectorSnapshotTest.class.getProtectionDomain().getCodeSource().getLocation()}, InjectorSnapshotTest.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      synchronized(getClassLoadingLock(name)) {
+        if(!name.startsWith(InjectorSnapshotTest.class.getName() + "$")) {
+          return super.loadClass(name, resolve);
+        }
+
+        Class<?> cls = findLoadedClass(name);
+
+        return cls == null ? findClass(name) : cls;
+      }
+    }
+
+    @Override
+    public URL getResource(String name) {
+      URL url = changedClassFile;
+
+      return url != null && (name.equals(classFileOf(A.class)) || name.equals(classFileOf(B.class))) ? url : super.getResource(name);
+    }
+
+    private static String classFileOf(Class<?> cls) {
+      return cls.getName().replace('.', '/') + ".class";
+    }
+  }
+}
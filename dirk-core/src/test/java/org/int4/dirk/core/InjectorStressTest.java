@@ -0,0 +1,218 @@
+package org.int4.dirk.core;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.api.instantiation.CreationException;
+import org.int4.dirk.api.instantiation.UnsatisfiedResolutionException;
+import org.int4.dirk.core.store.InjectableStores;
+import org.int4.dirk.core.test.scope.TestScope;
+import org.int4.dirk.spi.scope.AbstractScopeResolver;
+import org.int4.dirk.test.util.StressHarness;
+import org.int4.dirk.util.Annotations;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+public class InjectorStressTest {
+  private static final AtomicInteger SHARED_CREATED = new AtomicInteger();
+  private static final AtomicInteger REQUESTS_CREATED = new AtomicInteger();
+  private static final AtomicInteger REQUESTS_DESTROYED = new AtomicInteger();
+  private static final AtomicInteger DEPENDENTS_CREATED = new AtomicInteger();
+  private static final AtomicInteger DEPENDENTS_DESTROYED = new AtomicInteger();
+  private static final List<List<Type>> PLUGINS = List.of(
+    List.of(Plugin1.class, Plugin1Extension.class),
+    List.of(Plugin2.class, Plugin2Extension.class),
+    List.of(Plugin3.class, Plugin3Extension.class),
+    List.of(Plugin4.class, Plugin4Extension.class)
+  );
+
+  private final ThreadLocal<String> currentScope = new ThreadLocal<>();
+  private final AtomicLong scopeIds = new AtomicLong();
+  private final TestScopeResolver scopeResolver = new TestScopeResolver();
+  private final AtomicBoolean[] loadedPlugins = {new AtomicBoolean(), new AtomicBoolean(), new AtomicBoolean(), new AtomicBoolean()};
+  private final Injector injector = InjectorBuilder.builder()
+    .useDefaultTypeRegistrationExtensions()
+    .useDefaultInjectionTargetExtensions()
+    .add(scopeResolver)
+    .build();
+
+  @Test
+  void shouldRemainConsistentWhenUsedConcurrently() throws Exception {
+    SHARED_CREATED.set(0);
+    REQUESTS_CREATED.set(0);
+    REQUESTS_DESTROYED.set(0);
+    DEPENDENTS_CREATED.set(0);
+    DEPENDENTS_DESTROYED.set(0);
+
+    injector.register(List.of(Shared.class, Worker.class, Request.class, RequestDependent.class, WorkerFactory.class));
+
+    StressHarness harness = new StressHarness(Duration.ofMillis(100))
+      .operation("getInstance", threadIndex -> {
+        assertThat(injector.getInstance(Worker.class).shared).isSameAs(injector.getInstance(Shared.class));
+      })
+      .operation("Provider.get", threadIndex -> {
+        assertThat(injector.getInstance(WorkerFactory.class).workers.get().shared).isNotNull();
+      })
+      .operation("scope", threadIndex -> {
+        String scope = "scope-" + scopeIds.incrementAndGet();
+
+        currentScope.set(scope);
+
+        try {
+          Request request = injector.getInstance(Request.class);
+
+          assertThat(injector.getInstance(Request.class)).isSameAs(request);
+          assertThat(request.dependent.shared).isSameAs(request.shared);
+        }
+        finally {
+          currentScope.remove();
+          scopeResolver.deleteScope(scope);
+        }
+      })
+      .operation("plugin", threadIndex -> {
+        int index = threadIndex % PLUGINS.size();
+
+        if(loadedPlugins[index].compareAndSet(false, true)) {
+          try {
+            injector.register(PLUGINS.get(index));
+
+            assertThat(injector.getInstance((Class<?>)PLUGINS.get(index).get(1))).isNotNull();
+
+            injector.remove(PLUGINS.get(index));
+          }
+          finally {
+            loadedPlugins[index].set(false);
+          }
+        }
+      })
+      .operation("getInstances", threadIndex -> {
+        try {
+          assertThat(injector.getInstances(PluginService.class)).hasSizeLessThanOrEqualTo(PLUGINS.size());
+        }
+        catch(CreationException e) {
+          // A plugin can be removed while one of its types is being created, in which case its dependencies are missing:
+          assertThat(e).hasCauseExactlyInstanceOf(UnsatisfiedResolutionException.class);
+        }
+      })
+      .invariant("store consistent", () -> InjectableStores.checkInvariants(((StandardInjector)injector).getStore()))
+      .invariant("singleton created once", () -> assertThat(SHARED_CREATED.get()).isEqualTo(1))
+      .invariant("no lost scoped instances", () -> assertThat(REQUESTS_DESTROYED.get()).isEqualTo(REQUESTS_CREATED.get()))
+      .invariant("no lost dependents", () -> assertThat(DEPENDENTS_DESTROYED.get()).isEqualTo(DEPENDENTS_CREATED.get()))
+      .invariant("no plugins left", () -> assertThat(injector.getInstances(PluginService.class)).isEmpty());
+
+    assertThat(harness.run(1).getFailures()).isEmpty();  // warm up
+
+    StressHarness.Report report = harness.scale(1, 2, 4, 8, 16, 32, 64);
+
+    assertThat(report.getFailures()).as("%s", report).isEmpty();
+    assertThat(report.getResults()).allSatisfy(result -> assertThat(result.getOperationCounts().values()).allMatch(count -> count > 0));
+    assertThat(REQUESTS_CREATED.get()).isGreaterThan(0);
+  }
+
+  @Singleton
+  public static class Shared {
+    public Shared() {
+      SHARED_CREATED.incrementAndGet();
+    }
+  }
+
+  public static class Worker {
+    @Inject Shared shared;
+  }
+
+  @Singleton
+  public static class WorkerFactory {
+    @Inject Provider<Worker> workers;
+  }
+
+  @TestScope
+  public static class Request {
+    @Inject Shared shared;
+    @Inject RequestDependent dependent;
+
+    public Request() {
+      REQUESTS_CREATED.incrementAndGet();
+    }
+
+    @PreDestroy
+    void preDestroy() {
+      REQUESTS_DESTROYED.incrementAndGet();
+    }
+  }
+
+  public static class RequestDependent {
+    @Inject Shared shared;
+
+    public RequestDependent() {
+      DEPENDENTS_CREATED.incrementAndGet();
+    }
+
+    @PreDestroy
+    void preDestroy() {
+      DEPENDENTS_DESTROYED.incrementAndGet();
+    }
+  }
+
+  public interface PluginService {
+  }
+
+  public static class Plugin1 {
+    @Inject Shared shared;
+  }
+
+  public static class Plugin1Extension implements PluginService {
+    @Inject Plugin1 plugin;
+  }
+
+  public static class Plugin2 {
+    @Inject Shared shared;
+  }
+
+  public static class Plugin2Extension implements PluginService {
+    @Inject Plugin2 plugin;
+  }
+
+  public static class Plugin3 {
+    @Inject Shared shared;
+  }
+
+  public static class Plugin3Extension implements PluginService {
+    @Inject Plugin3 plugin;
+  }
+
+  public static class Plugin4 {
+    @Inject Shared shared;
+  }
+
+  public static class Plugin4Extension implements PluginService {
+    @Inject Plugin4 plugin;
+  }
+
+  private class TestScopeResolver extends AbstractScopeResolver<String> {
+    @Override
+    public Annotation getAnnotation() {
+      return Annotations.of(TestScope.class);
+    }
+
+    @Override
+    protected String getCurrentScope() {
+      return currentScope.get();
+    }
+
+    void deleteScope(String scope) {
+      destroyScope(scope);
+    }
+  }
+}
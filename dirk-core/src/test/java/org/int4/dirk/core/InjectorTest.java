@@ -7,10 +7,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.int4.dirk.annotations.Produces;
 import org.int4.dirk.api.Injector;
+import org.int4.dirk.api.InstanceResolver;
 import org.int4.dirk.api.TypeLiteral;
 import org.int4.dirk.api.definition.AmbiguousDependencyException;
 import org.int4.dirk.api.definition.AmbiguousRequiredDependencyException;
@@ -978,6 +981,53 @@ public class InjectorTest {
       .hasNoCause();
   }
 
+  public static class BadPostConstructThroughInstanceResolver {
+    @Inject InstanceResolver instanceResolver;
+
+    @PostConstruct
+    void postConstruct() {
+      instanceResolver.getInstance(BadPostConstructThroughInstanceResolver.class);  // not allowed either, even though the instance is obtained without a parent
+    }
+  }
+
+  @Test
+  public void postConstructShouldRejectReferringToObjectUnderConstructionThroughInstanceResolver() throws Exception {
+    injector.registerInstance(injector);
+    injector.register(BadPostConstructThroughInstanceResolver.class);
+
+    assertThatThrownBy(() -> injector.getInstance(BadPostConstructThroughInstanceResolver.class))
+      .isExactlyInstanceOf(CreationException.class)
+      .hasMessage("[class org.int4.dirk.core.InjectorTest$BadPostConstructThroughInstanceResolver] threw exception during post construction")
+      .extracting(Throwable::getCause, InstanceOfAssertFactories.THROWABLE)
+      .isExactlyInstanceOf(CreationException.class)
+      .hasMessage("[class org.int4.dirk.core.InjectorTest$BadPostConstructThroughInstanceResolver] already under construction (dependency creation loop in setter, initializer or post-construct method?)")
+      .hasNoCause();
+  }
+
+  public static class BadPostConstructOnOtherThread {
+    @Inject Provider<BadPostConstructOnOtherThread> provider;
+
+    @PostConstruct
+    void postConstruct() {
+      CompletableFuture.runAsync(provider::get).join();  // not allowed either, even though the instance is obtained on another thread
+    }
+  }
+
+  @Test
+  public void postConstructShouldRejectReferringToObjectUnderConstructionFromOtherThread() throws Exception {
+    injector.register(BadPostConstructOnOtherThread.class);
+
+    assertThatThrownBy(() -> injector.getInstance(BadPostConstructOnOtherThread.class))
+      .isExactlyInstanceOf(CreationException.class)
+      .hasMessage("[class org.int4.dirk.core.InjectorTest$BadPostConstructOnOtherThread] threw exception during post construction")
+      .extracting(Throwable::getCause, InstanceOfAssertFactories.THROWABLE)
+      .isExactlyInstanceOf(CompletionException.class)
+      .extracting(Throwable::getCause, InstanceOfAssertFactories.THROWABLE)
+      .isExactlyInstanceOf(CreationException.class)
+      .hasMessage("[class org.int4.dirk.core.InjectorTest$BadPostConstructOnOtherThread] already under construction (dependency creation loop in setter, initializer or post-construct method?)")
+      .hasNoCause();
+  }
+
   @Test
   public void shouldAutoCreateCollections() throws Exception {
     injector.registerInstance("A");
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
 
 public class InjectorThreadingTest {
   private static final int SUM_LENGTH = 100000;
@@ -100,6 +101,27 @@ public class InjectorThreadingTest {
     }
   }
 
+  @Test
+  void shouldResolveSameSingletonFromManyConcurrentThreads() throws InterruptedException, ExecutionException {
+    ExecutorService executor = Executors.newFixedThreadPool(100);
+    List<Future<S>> futures = new ArrayList<>();
+
+    injector.register(S.class);
+
+    S s = injector.getInstance(S.class);
+
+    for(int i = 0; i < 100000; i++) {
+      futures.add(executor.submit(() -> injector.getInstance(S.class)));
+    }
+
+    executor.shutdown();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+
+    for(Future<S> future : futures) {
+      assertThat(future.get()).isSameAs(s);
+    }
+  }
+
   public static class Root {
     @Inject Provider<A> aProvider;
 
@@ -139,6 +161,10 @@ public class InjectorThreadingTest {
     }
   }
 
+  @Singleton
+  public static class S {
+  }
+
   public static class C {
     long[] data = new long[SUM_LENGTH];
 
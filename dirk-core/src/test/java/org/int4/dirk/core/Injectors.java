@@ -60,7 +60,7 @@ public class Injectors {
    * @return an {@link Injector}, never {@code null}
    */
   public static Injector autoDiscovering(ScopeResolver... scopeResolvers) {
-    return createInjector(true, scopeResolvers);
+    return createInjector(true, false, scopeResolvers);
   }
 
   /**
@@ -71,10 +71,21 @@ public class Injectors {
    * @return an {@link Injector}, never {@code null}
    */
   public static Injector manual(ScopeResolver... scopeResolvers) {
-    return createInjector(false, scopeResolvers);
+    return createInjector(false, false, scopeResolvers);
   }
 
-  private static Injector createInjector(boolean autoDiscovering, ScopeResolver... scopeResolvers) {
+  /**
+   * Creates an {@link Injector} which must be manually configured with the given
+   * {@link ScopeResolver}s, and which collects metrics.
+   *
+   * @param scopeResolvers an optional array of {@link ScopeResolver}s
+   * @return an {@link Injector}, never {@code null}
+   */
+  public static Injector manualWithMetrics(ScopeResolver... scopeResolvers) {
+    return createInjector(false, true, scopeResolvers);
+  }
+
+  private static Injector createInjector(boolean autoDiscovering, boolean collectMetrics, ScopeResolver... scopeResolvers) {
     LifeCycleCallbacksFactory lifeCycleCallbacksFactory = new AnnotationBasedLifeCycleCallbacksFactory(PostConstruct.class, PreDestroy.class);
 
     List<ScopeResolver> finalScopeResolvers = Arrays.stream(scopeResolvers).anyMatch(sr -> sr.getAnnotation().equals(SINGLETON)) ? Arrays.asList(scopeResolvers)
@@ -90,7 +101,9 @@ public class Injectors {
         new NoProxyStrategy(),
         lifeCycleCallbacksFactory
       ),
-      autoDiscovering
+      autoDiscovering,
+      null,
+      collectMetrics
     );
   }
 
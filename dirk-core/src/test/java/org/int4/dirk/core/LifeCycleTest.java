@@ -1,7 +1,13 @@
 package org.int4.dirk.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.int4.dirk.api.Injector;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +18,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
 
 public class LifeCycleTest {
   private static final List<Class<?>> POST_CONSTRUCTS = new ArrayList<>();
-  private static final List<Class<?>> PRE_DESTROYS = new ArrayList<>();
+  private static final List<Class<?>> PRE_DESTROYS = Collections.synchronizedList(new ArrayList<>());
+  private static final CountDownLatch CONCURRENT_DESTROYS = new CountDownLatch(2);
+  private static final CountDownLatch SLOW_DESTROY = new CountDownLatch(1);
+  private static final CountDownLatch SLOW_DESTROYED = new CountDownLatch(1);
 
   private final Injector injector = Injectors.manual();
 
@@ -106,6 +116,114 @@ public class LifeCycleTest {
     assertPreDestroys(X.class, Y.class, Z.class);
   }
 
+  @Test
+  void closeShouldDestroySingletonsInReverseDependencyOrder() throws Exception {
+    injector.register(G.class);
+    injector.register(F.class);
+    injector.register(E.class);
+    injector.register(D.class);
+    injector.register(DS.class);
+    injector.register(S.class);
+
+    injector.getInstance(DS.class);
+
+    assertPostConstructs(G.class, F.class, E.class, D.class, DS.class);
+
+    assertThat(injector.close(Duration.ofSeconds(10), Runnable::run)).isEmpty();
+
+    assertPostConstructs();
+    assertPreDestroys(DS.class, D.class, E.class, F.class, G.class);  // S was never created
+  }
+
+  @Test
+  void closeShouldDestroyDependentsObtainedFromInjectorAndProviders() throws Exception {
+    injector.register(G.class);
+    injector.register(F.class);
+    injector.register(E.class);
+    injector.register(D.class);
+    injector.register(PD.class);
+
+    injector.getInstance(D.class);
+
+    assertPostConstructs(G.class, F.class, E.class, D.class);
+
+    injector.getInstance(PD.class).d.get();
+
+    assertPostConstructs(PD.class, E.class, D.class);
+
+    assertThat(injector.close(Duration.ofSeconds(10), Runnable::run)).isEmpty();
+
+    assertPostConstructs();
+    assertThat(PRE_DESTROYS.subList(0, 2)).containsExactly(D.class, E.class);  // obtained from injector, destroyed first
+    assertThat(PRE_DESTROYS).containsExactlyInAnyOrder(D.class, E.class, PD.class, D.class, E.class, F.class, G.class);
+  }
+
+  @Test
+  void releaseShouldDestroyDependentObtainedFromInjector() throws Exception {
+    injector.register(G.class);
+    injector.register(F.class);
+    injector.register(E.class);
+    injector.register(D.class);
+
+    D d = injector.getInstance(D.class);
+
+    assertPostConstructs(G.class, F.class, E.class, D.class);
+
+    injector.release(d);
+
+    assertPreDestroys(D.class, E.class);
+
+    injector.release(d);  // no longer retained
+
+    assertPreDestroys();
+
+    assertThat(injector.close(Duration.ofSeconds(10), Runnable::run)).isEmpty();
+
+    assertPreDestroys(F.class, G.class);
+  }
+
+  @Test
+  void closeShouldDestroyIndependentSingletonsConcurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      injector.register(P1.class);
+      injector.register(P2.class);
+
+      injector.getInstance(P1.class);
+      injector.getInstance(P2.class);
+
+      assertThat(injector.close(Duration.ofSeconds(10), executor)).isEmpty();
+      assertThat(CONCURRENT_DESTROYS.getCount()).isEqualTo(0);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void closeShouldReportInstancesNotDestroyedBeforeTimeout() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      injector.register(Slow.class);
+      injector.register(DependsOnSlow.class);
+
+      injector.getInstance(DependsOnSlow.class);
+
+      assertThat(injector.close(Duration.ofMillis(100), executor)).containsExactlyInAnyOrder(Slow.class, DependsOnSlow.class);
+
+      SLOW_DESTROY.countDown();
+
+      assertThat(SLOW_DESTROYED.await(10, TimeUnit.SECONDS)).isTrue();
+
+      assertPreDestroys(DependsOnSlow.class);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
   private static void assertPostConstructs(Class<?>... classes) {
     assertThat(POST_CONSTRUCTS).containsExactly(classes);
 
@@ -155,6 +273,11 @@ public class LifeCycleTest {
   public static class G extends AbstractLifeCycleLogger {
   }
 
+  @Singleton
+  public static class PD extends AbstractLifeCycleLogger {
+    @Inject Provider<D> d;
+  }
+
   @Singleton
   public static class X extends AbstractLifeCycleLogger {
     @Inject Y y;
@@ -180,4 +303,38 @@ public class LifeCycleTest {
       throw new RuntimeException("oops Z");
     }
   }
+
+  public static abstract class AbstractConcurrentDestroy {
+    @PreDestroy
+    void awaitOther() throws InterruptedException {
+      CONCURRENT_DESTROYS.countDown();
+      CONCURRENT_DESTROYS.await(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Singleton
+  public static class P1 extends AbstractConcurrentDestroy {
+  }
+
+  @Singleton
+  public static class P2 extends AbstractConcurrentDestroy {
+  }
+
+  @Singleton
+  public static class Slow {
+    @PreDestroy
+    void preDestroy() {
+      SLOW_DESTROYED.countDown();
+    }
+  }
+
+  @Singleton
+  public static class DependsOnSlow extends AbstractLifeCycleLogger {
+    @Inject Slow slow;
+
+    @PreDestroy
+    void awaitRelease() throws InterruptedException {
+      SLOW_DESTROY.await(10, TimeUnit.SECONDS);
+    }
+  }
 }
@@ -0,0 +1,126 @@
+package org.int4.dirk.core;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.core.StartupProfiler.Entry;
+import org.int4.dirk.core.StartupProfiler.Report;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+public class StartupProfilerTest {
+  private final StartupProfiler profiler = new StartupProfiler();
+  private final Injector injector = InjectorBuilder.builder().listener(profiler).build();
+
+  @Test
+  void shouldFindCriticalPathAndTopSelfTimes() {
+    injector.register(List.of(A.class, B.class, C.class, D.class, R.class));
+    injector.getInstance(R.class);
+
+    Report report = profiler.analyze(injector, 2);
+
+    assertThat(report.getCriticalPath()).extracting(Entry::getType).containsExactly(R.class, C.class);
+    assertThat(report.getCriticalPathNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(110));
+    assertThat(report.getTopSelfTime()).extracting(Entry::getType).containsExactly(C.class, A.class);
+
+    Entry c = report.getTopSelfTime().get(0);
+
+    assertThat(c.getCount()).isEqualTo(1);
+    assertThat(c.getSelfNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(110));  // includes dependent D
+    assertThat(c.getTotalNanos()).isGreaterThanOrEqualTo(c.getSelfNanos());
+
+    Entry r = report.getCriticalPath().get(0);
+
+    assertThat(r.getSelfNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(20));  // excludes A, B and C
+    assertThat(r.getTotalNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(145));
+
+    assertThat(report.toString()).contains("Critical path", R.class.getName(), C.class.getName());
+    assertThat(report.toJson()).startsWith("{\"criticalPathNanos\": ").contains("\"type\": \"" + C.class.getName() + "\"");
+  }
+
+  @Test
+  void shouldNotCountExistingInstancesAgain() {
+    injector.register(List.of(A.class, B.class));
+    injector.getInstance(A.class);
+    injector.getInstance(B.class);
+
+    Report report = profiler.analyze(injector, 5);
+
+    assertThat(report.getTopSelfTime()).extracting(Entry::getType).containsExactly(A.class, B.class);
+    assertThat(report.getTopSelfTime()).extracting(Entry::getCount).containsExactly(1, 1);
+    assertThat(report.getTopSelfTime().get(1).getTotalNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(35));  // A already existed
+    assertThat(report.getCriticalPath()).extracting(Entry::getType).containsExactly(B.class, A.class);  // but B still depends on it
+  }
+
+  @Test
+  void shouldNotRecordAfterResetOrStop() {
+    injector.register(List.of(A.class, B.class));
+    injector.getInstance(A.class);
+    profiler.reset();
+    injector.getInstance(B.class);
+    profiler.stop();
+    injector.register(List.of(C.class, D.class));
+    injector.getInstance(C.class);
+
+    Report report = profiler.analyze(injector, 5);
+
+    assertThat(report.getTopSelfTime()).extracting(Entry::getType).containsExactly(B.class);
+  }
+
+  @Test
+  void analyzeShouldRejectNegativeTopCount() {
+    assertThatThrownBy(() -> profiler.analyze(injector, -1))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("topCount cannot be negative: -1");
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    }
+    catch(InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Singleton
+  public static class A {
+    public A() {
+      sleep(35);
+    }
+  }
+
+  @Singleton
+  public static class B {
+    @Inject
+    B(A a) {
+      sleep(5);
+    }
+  }
+
+  @Singleton
+  public static class C {
+    @Inject
+    C(D d) {
+      sleep(90);  // well above A and B together, so pauses while creating those cannot change the critical path
+    }
+  }
+
+  public static class D {
+    public D() {
+      sleep(20);
+    }
+  }
+
+  @Singleton
+  public static class R {
+    @Inject B b;
+    @Inject C c;
+  }
+}
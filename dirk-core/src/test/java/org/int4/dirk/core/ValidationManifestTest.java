@@ -0,0 +1,207 @@
+package org.int4.dirk.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.core.definition.ClassInjectableFactory;
+import org.int4.dirk.core.definition.Injectable;
+import org.int4.dirk.core.definition.InjectionTarget;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.inject.Inject;
+
+public class ValidationManifestTest {
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void createShouldDescribeOnlyInternalEdges() throws Exception {
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("external");
+
+    String text = toText(ValidationManifest.create(injector, List.of(A.class, B.class)));
+
+    assertThat(text)
+      .contains("type\t" + A.class.getName() + "\n")
+      .contains("class\t" + B.class.getName() + "\t")
+      .contains("edge\tClass [" + A.class.getName() + "]\tField [" + B.class.getName() + " " + A.class.getName() + ".b]\n")
+      .doesNotContain("edge\tClass [" + B.class.getName() + "]")
+      .contains("\nseal\t");
+
+    assertThat(injector.getInstance(A.class).b.s).isEqualTo("external");
+  }
+
+  @Test
+  void readShouldAcceptWrittenManifest() throws Exception {
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("external");
+
+    String text = toText(ValidationManifest.create(injector, List.of(A.class, B.class)));
+
+    assertThat(toText(ValidationManifest.read(toStream(text)))).isEqualTo(text);
+  }
+
+  @Test
+  void readShouldRejectTamperedManifest() throws Exception {
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("external");
+
+    String text = toText(ValidationManifest.create(injector, List.of(A.class, B.class)));
+
+    assertThatThrownBy(() -> ValidationManifest.read(toStream(text.replace("edge\t", "edge\tX"))))
+      .isExactlyInstanceOf(IOException.class)
+      .hasMessage("Manifest seal does not match its contents");
+
+    assertThatThrownBy(() -> ValidationManifest.read(toStream(text.substring(0, text.indexOf("seal\t")))))
+      .isExactlyInstanceOf(IOException.class)
+      .hasMessage("Manifest is not sealed");
+  }
+
+  @Test
+  void validatedTargetsShouldOnlyApplyToDescribedInjectables() throws Exception {
+    ClassInjectableFactory factory = new InjectableFactories().forClass();
+    Injectable<A> a = factory.create(A.class);
+    Injectable<B> b = factory.create(B.class);
+    ValidationManifest manifest = ValidationManifest.of(List.of(A.class, B.class), Set.of(a, b), key -> key.getType().equals(B.class) ? Set.of(b) : Set.of());
+
+    Injectable<A> otherA = factory.create(A.class);
+    Injectable<B> otherB = factory.create(B.class);
+    BiPredicate<Injectable<?>, InjectionTarget> validatedTargets = manifest.validatedTargets(Set.of(otherA, otherB));
+
+    assertThat(validatedTargets).isNotNull();
+    assertThat(validatedTargets.test(otherA, otherA.getInjectionTargets().get(0))).isTrue();
+    assertThat(validatedTargets.test(otherB, otherB.getInjectionTargets().get(0))).isFalse();
+
+    assertThat(manifest.validatedTargets(Set.of(otherA))).isNull();
+    assertThat(manifest.validatedTargets(Set.of(otherA, factory.create(C.class)))).isNull();
+  }
+
+  @Test
+  void registerShouldFindManifestOfRegisteredTypes() throws Exception {
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("external");
+
+    Path manifestPath = tempDir.resolve(ValidationManifest.RESOURCE);
+
+    Files.createDirectories(manifestPath.getParent());
+    Files.writeString(manifestPath, toText(ValidationManifest.create(injector, List.of(A.class, B.class))));
+
+    try(ChildFirstClassLoader classLoader = new ChildFirstClassLoader(tempDir)) {
+      Class<?> a = classLoader.loadClass(A.class.getName());
+      List<Type> types = List.of(a, classLoader.loadClass(B.class.getName()));
+      Injector otherInjector = Injectors.manual();
+
+      assertThat(a).isNotEqualTo(A.class);
+      assertThat(ValidationManifest.find(types)).isNotNull();
+      assertThat(ValidationManifest.find(List.of(a))).isNull();
+
+      otherInjector.registerInstance("external");
+      otherInjector.register(types);
+
+      assertThat(otherInjector.getInstance(a)).isNotNull();
+    }
+  }
+
+  @Test
+  void registerShouldFindManifestOfTypesLoadedFromJar() throws Exception {
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("external");
+
+    Path jar = tempDir.resolve("module.jar");
+    ByteArrayOutputStream manifest = new ByteArrayOutputStream();
+
+    ValidationManifest.create(injector, List.of(A.class, B.class)).write(manifest);
+
+    try(JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry(ValidationManifest.RESOURCE));
+      manifest.writeTo(out);
+
+      for(Class<?> cls : List.of(A.class, B.class)) {
+        String name = cls.getName().replace('.', '/') + ".class";
+
+        out.putNextEntry(new JarEntry(name));
+
+        try(InputStream in = cls.getClassLoader().getResourceAsStream(name)) {
+          in.transferTo(out);
+        }
+      }
+    }
+
+    try(ChildFirstClassLoader classLoader = new ChildFirstClassLoader(jar)) {
+      Class<?> a = classLoader.loadClass(A.class.getName());
+      List<Type> types = List.of(a, classLoader.loadClass(B.class.getName()));
+
+      assertThat(classLoader.getResource(ValidationManifest.RESOURCE).getProtocol()).isEqualTo("jar");
+      assertThat(ValidationManifest.find(types)).isNotNull();
+    }
+  }
+
+  private static String toText(ValidationManifest manifest) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    manifest.write(out);
+
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  private static InputStream toStream(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static class A {
+    @Inject B b;
+  }
+
+  public static class B {
+    @Inject String s;
+  }
+
+  public static class C {
+  }
+
+  /**
+   * Loads the test types of this class itself, so manifests can be found in the
+   * given directory.
+   */
+  private static class ChildFirstClassLoader extends URLClassLoader {
+    ChildFirstClassLoader(Path path) throws IOException {
+      super(new URL[] {path.toUri().toURL(), ValidationManifestTest.class.getProtectionDomain().getCodeSource().getLocation()}, ValidationManifestTest.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      synchronized(getClassLoadingLock(name)) {
+        if(!name.startsWith(ValidationManifestTest.class.getName() + "$")) {
+          return super.loadClass(name, resolve);
+        }
+
+        Class<?> cls = findLoadedClass(name);
+
+        return cls == null ? findClass(name) : cls;
+      }
+    }
+  }
+}
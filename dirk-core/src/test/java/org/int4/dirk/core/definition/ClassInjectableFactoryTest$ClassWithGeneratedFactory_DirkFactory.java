@@ -0,0 +1,36 @@
+package org.int4.dirk.core.definition;
+
+import java.util.List;
+
+import org.int4.dirk.core.definition.factory.GeneratedFactory;
+
+/**
+ * Stand-in for a factory generated at compile time for {@link ClassInjectableFactoryTest.ClassWithGeneratedFactory}.
+ */
+public final class ClassInjectableFactoryTest$ClassWithGeneratedFactory_DirkFactory implements GeneratedFactory<ClassInjectableFactoryTest.ClassWithGeneratedFactory> {
+  private static final String NAME = ClassInjectableFactoryTest.ClassWithGeneratedFactory.class.getName();
+  private static final List<String> INJECTION_POINTS = List.of(
+    NAME + "#s",
+    NAME + "#<init>(java.lang.Integer)#0",
+    NAME + "#setB(java.lang.Long)#0"
+  );
+
+  @Override
+  public List<String> getInjectionPoints() {
+    return INJECTION_POINTS;
+  }
+
+  @Override
+  public ClassInjectableFactoryTest.ClassWithGeneratedFactory create(Object[] values) {
+    ClassInjectableFactoryTest.ClassWithGeneratedFactory instance = new ClassInjectableFactoryTest.ClassWithGeneratedFactory((Integer)values[1]);
+
+    if(values[0] != null) {
+      instance.s = (String)values[0];
+    }
+
+    instance.setB((Long)values[2]);
+    instance.generated = true;
+
+    return instance;
+  }
+}
@@ -0,0 +1,21 @@
+package org.int4.dirk.core.definition;
+
+import java.util.List;
+
+import org.int4.dirk.core.definition.factory.GeneratedFactory;
+
+/**
+ * Stand-in for an outdated factory generated for {@link ClassInjectableFactoryTest.ClassWithOutdatedGeneratedFactory}.
+ */
+public final class ClassInjectableFactoryTest$ClassWithOutdatedGeneratedFactory_DirkFactory implements GeneratedFactory<ClassInjectableFactoryTest.ClassWithOutdatedGeneratedFactory> {
+
+  @Override
+  public List<String> getInjectionPoints() {
+    return List.of(ClassInjectableFactoryTest.ClassWithOutdatedGeneratedFactory.class.getName() + "#t");
+  }
+
+  @Override
+  public ClassInjectableFactoryTest.ClassWithOutdatedGeneratedFactory create(Object[] values) {
+    throw new UnsupportedOperationException();
+  }
+}
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -53,6 +54,33 @@ public class ClassInjectableFactoryTest {
     assertEquals(new BigDecimal(5), instance.bd);
   }
 
+  @Test
+  public void createShouldUseGeneratedFactoryWhenAvailable() throws Exception {
+    Injectable<ClassWithGeneratedFactory> injectable = factory.create(ClassWithGeneratedFactory.class);
+
+    assertThat(injectable.getInjectionTargets()).hasSize(3);
+
+    ClassWithGeneratedFactory instance = injectable.create(InjectionTargets.resolve(injectable.getInjectionTargets(), 2, "a string", 4L));
+
+    assertTrue(instance.generated);
+    assertEquals(2, instance.a);
+    assertEquals("a string", instance.s);
+    assertEquals(4L, instance.b);
+
+    instance = injectable.create(InjectionTargets.resolve(injectable.getInjectionTargets(), 2, null, 4L));
+
+    assertEquals("default", instance.s);
+  }
+
+  @Test
+  public void createShouldFallBackToReflectionWhenGeneratedFactoryDoesNotMatch() throws Exception {
+    Injectable<ClassWithOutdatedGeneratedFactory> injectable = factory.create(ClassWithOutdatedGeneratedFactory.class);
+
+    ClassWithOutdatedGeneratedFactory instance = injectable.create(InjectionTargets.resolve(injectable.getInjectionTargets(), "a string"));
+
+    assertEquals("a string", instance.s);
+  }
+
   @Test
   public void createShouldRejectNullInjectableClass() {
     assertThatThrownBy(() -> factory.create((Type)null))
@@ -137,6 +165,28 @@ public class ClassInjectableFactoryTest {
     }
   }
 
+  public static class ClassWithGeneratedFactory {
+    @Inject String s = "default";
+
+    final int a;
+    long b;
+    boolean generated;
+
+    @Inject
+    public ClassWithGeneratedFactory(Integer a) {
+      this.a = a;
+    }
+
+    @Inject
+    void setB(Long b) {
+      this.b = b;
+    }
+  }
+
+  public static class ClassWithOutdatedGeneratedFactory {
+    @Inject private String s;
+  }
+
   public static interface SimpleInterface {
   }
 
@@ -15,6 +15,7 @@ import org.int4.dirk.core.InjectableFactories;
 import org.int4.dirk.core.definition.ClassInjectableFactory;
 import org.int4.dirk.core.definition.Injectable;
 import org.int4.dirk.core.test.scope.TestScope;
+import org.int4.dirk.core.util.Key;
 import org.int4.dirk.core.util.Nullable;
 import org.int4.dirk.spi.scope.UnknownScopeException;
 import org.int4.dirk.test.util.ReplaceCamelCaseDisplayNameGenerator;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -80,6 +82,17 @@ public class InjectableStoreConsistencyTest {
     assertThrows(CyclicDependencyException.class, () -> store.putAll(List.of(e, b, c, d)));
   }
 
+  @Test
+  void addAllShouldRejectInjectablesWithCyclicDependencyThroughTargetsWhichWereNotValidated() {
+    assertThrows(CyclicDependencyException.class, () -> store.putAll(List.of(e, b, c, d), (injectable, injectionTarget) -> false));
+  }
+
+  @Test
+  void addAllShouldStillRejectUnsatisfiedOrAmbiguousDependenciesOfValidatedTargets() {
+    assertThrows(UnsatisfiedDependencyException.class, () -> store.putAll(List.of(b), (injectable, injectionTarget) -> true));
+    assertThrows(AmbiguousDependencyException.class, () -> store.putAll(List.of(a, b, h), (injectable, injectionTarget) -> true));
+  }
+
   @Test
   void addBShouldFailAsItHasUnresolvableDependency() {
     assertThrows(UnsatisfiedDependencyException.class, () -> store.putAll(List.of(b)));
@@ -99,6 +112,37 @@ public class InjectableStoreConsistencyTest {
     assertThrows(AmbiguousDependencyException.class, () -> store.putAll(List.of(a, h, b)));
   }
 
+  @Test
+  void replaceAllShouldAllowReplacingRequiredDependency() throws DependencyException {
+    store.putAll(List.of(a, b));
+    store.replaceAll(List.of(a), List.of(h));
+
+    assertThat(store.resolve(new Key(Z.class))).containsExactly(h);
+
+    store.checkInvariants();
+  }
+
+  @Test
+  void replaceAllShouldRejectRemovingRequiredDependencyAndLeaveStoreUnmodified() throws DependencyException {
+    store.putAll(List.of(a, b));
+
+    assertThrows(UnsatisfiedRequiredDependencyException.class, () -> store.replaceAll(List.of(a), List.of(l)));
+    assertThat(store.resolve(new Key(Z.class))).containsExactly(a);
+    assertThat(store.resolve(new Key(L.class))).isEmpty();
+
+    store.checkInvariants();
+  }
+
+  @Test
+  void replaceAllShouldRejectMakingRequiredDependencyAmbiguousAndLeaveStoreUnmodified() throws DependencyException {
+    store.putAll(List.of(a, b));
+
+    assertThrows(AmbiguousRequiredDependencyException.class, () -> store.replaceAll(List.of(), List.of(h)));
+    assertThat(store.resolve(new Key(Z.class))).containsExactly(a);
+
+    store.checkInvariants();
+  }
+
   @Test
   void addIShouldFail() {
     assertThrows(CyclicDependencyException.class, () -> store.putAll(List.of(i)));
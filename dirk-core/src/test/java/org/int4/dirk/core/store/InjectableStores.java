@@ -0,0 +1,15 @@
+package org.int4.dirk.core.store;
+
+public class InjectableStores {
+
+  /**
+   * Checks that all targets tracked by the given store can still be resolved,
+   * for tests outside this package.
+   *
+   * @param store an {@link InjectableStore}, cannot be {@code null}
+   * @throws IllegalStateException when a tracked target is no longer resolvable
+   */
+  public static void checkInvariants(InjectableStore store) {
+    store.checkInvariants();
+  }
+}
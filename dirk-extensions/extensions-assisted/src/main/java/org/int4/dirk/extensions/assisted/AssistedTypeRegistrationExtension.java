@@ -7,6 +7,7 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
@@ -18,7 +19,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.int4.dirk.api.definition.DefinitionException;
@@ -28,29 +31,57 @@ import org.int4.dirk.core.definition.factory.ClassObjectFactory;
 import org.int4.dirk.core.definition.injection.Constructable;
 import org.int4.dirk.core.definition.injection.Injection;
 import org.int4.dirk.spi.config.AnnotationStrategy;
+import org.int4.dirk.spi.config.LifeCycleCallbacks;
 import org.int4.dirk.spi.config.LifeCycleCallbacksFactory;
 import org.int4.dirk.spi.definition.TypeRegistrationExtension;
 import org.int4.dirk.util.Primitives;
 import org.int4.dirk.util.Types;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType.Builder;
 import net.bytebuddy.dynamic.DynamicType.Unloaded;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.bind.annotation.AllArguments;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.matcher.ElementMatchers;
 
 /**
  * Extension which provides implementations of abstract classes or interfaces annotated with
  * the configured assist annotation. The types must have a single abstract method with a
  * concrete, non primitive return type.
+ *
+ * <p>Generated factory classes are shared by all extensions with the same configuration,
+ * so registering a factory type again, or in another injector, does not generate
+ * a new class. The generated classes are kept with the product class, and can
+ * be unloaded together with it.
  */
 public class AssistedTypeRegistrationExtension implements TypeRegistrationExtension {
+  private static final Method POST_CONSTRUCT_METHOD;
+  private static final ClassValue<Map<FactoryKey, Class<?>>> FACTORY_CLASSES = new ClassValue<>() {
+    @Override
+    protected Map<FactoryKey, Class<?>> computeValue(Class<?> productClass) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  static {
+    try {
+      POST_CONSTRUCT_METHOD = Interceptor.class.getMethod("postConstruct", Object.class);
+    }
+    catch(NoSuchMethodException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final AnnotationStrategy annotationStrategy;
   private final LifeCycleCallbacksFactory lifeCycleCallbacksFactory;
   private final GenericBindingProvider<Binding> bindingProvider;
   private final AssistedAnnotationStrategy strategy;
@@ -63,6 +94,7 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
    * @param strategy an {@link AssistedAnnotationStrategy}, cannot be {@code null}
    */
   public AssistedTypeRegistrationExtension(AnnotationStrategy annotationStrategy, LifeCycleCallbacksFactory lifeCycleCallbacksFactory, AssistedAnnotationStrategy strategy) {
+    this.annotationStrategy = annotationStrategy;
     this.lifeCycleCallbacksFactory = lifeCycleCallbacksFactory;
     this.bindingProvider = new GenericBindingProvider<>(annotationStrategy, Binding::new);
     this.strategy = strategy;
@@ -121,14 +153,28 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
     }
 
     public void register(Registry registry) throws DefinitionException {
-      registry.add(generateFactoryClass());
+      Map<FactoryKey, Class<?>> factoryClasses = FACTORY_CLASSES.get(productClass);
+      FactoryKey key = new FactoryKey(factoryType, annotationStrategy, lifeCycleCallbacksFactory, strategy);
+      Class<?> cls = factoryClasses.get(key);
+
+      if(cls == null) {
+        Class<?> generatedClass = generateFactoryClass();
+
+        cls = factoryClasses.putIfAbsent(key, generatedClass);
+
+        if(cls == null) {
+          cls = generatedClass;
+        }
+      }
+
+      registry.add(cls);
     }
 
     private Class<?> generateFactoryClass() throws DefinitionException {
       Constructor<?> constructor = bindingProvider.getConstructor(productClass);
       List<Binding> productBindings = bindingProvider.ofConstructorAndMembers(constructor, productClass);
-      Constructable<?> constructable = new ClassObjectFactory<>(constructor, lifeCycleCallbacksFactory.create(productClass));
-      Interceptor<?> interceptor = new Interceptor<>(constructable);
+      LifeCycleCallbacks lifeCycleCallbacks = lifeCycleCallbacksFactory.create(productClass);
+      Interceptor<?> interceptor = new Interceptor<>(new ClassObjectFactory<>(constructor, lifeCycleCallbacks), lifeCycleCallbacks);
 
       /*
        * Construct ByteBuddy builder:
@@ -136,9 +182,7 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
 
       Builder<?> builder = new ByteBuddy()
         .subclass(factoryType, ConstructorStrategy.Default.IMITATE_SUPER_CLASS.withInheritedAnnotations())
-        .annotateType(Types.raw(factoryType).getDeclaredAnnotations())
-        .method(ElementMatchers.returns(productClass).and(ElementMatchers.isAbstract()))
-        .intercept(MethodDelegation.to(interceptor));
+        .annotateType(Types.raw(factoryType).getDeclaredAnnotations());
 
       /*
        * Add a field per binding to the builder:
@@ -183,6 +227,23 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
         }
       }
 
+      List<String> names = validateProducerAndReturnArgumentNames(parameterBindings);
+
+      /*
+       * Implement the factory method, calling the product constructor directly when
+       * possible, and otherwise delegating to the interceptor. In both cases exceptions
+       * thrown by the product constructor are wrapped in a CreationException:
+       */
+
+      MethodCall constructorCall = canConstructDirectly(constructor, productBindings) ? createConstructorCall(constructor, productBindings, providerFieldNames, parameterBindings, names) : null;
+      Implementation implementation = constructorCall == null
+        ? MethodDelegation.to(interceptor)
+        : Advice.to(ConstructionAdvice.class).wrap(MethodCall.invoke(POST_CONSTRUCT_METHOD).on(interceptor).withMethodCall(constructorCall).withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC));
+
+      builder = builder
+        .method(ElementMatchers.returns(productClass).and(ElementMatchers.isAbstract()))
+        .intercept(implementation);
+
       /*
        * Generate the factory:
        */
@@ -194,13 +255,58 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
        */
 
       List<Field> providerFields = createProviderFields(cls, providerFieldNames);
-      List<String> names = validateProducerAndReturnArgumentNames(parameterBindings);
 
       interceptor.initialize(parameterBindings, productBindings, providerFields, names);
 
       return cls;
     }
 
+    /*
+     * The product can be constructed directly by the generated factory when it is only
+     * injected through a public constructor, and so needs no reflection.
+     */
+    private boolean canConstructDirectly(Constructor<?> constructor, List<Binding> productBindings) {
+      return Modifier.isPublic(productClass.getModifiers())
+        && Modifier.isPublic(constructor.getModifiers())
+        && productBindings.stream().allMatch(b -> constructor.equals(b.getAccessibleObject()));
+    }
+
+    /*
+     * Creates a call of the product constructor with the factory method arguments and
+     * provider fields in the right positions. Returns null when the erased type of an
+     * argument or field requires a cast to be passed to the constructor.
+     */
+    private MethodCall createConstructorCall(Constructor<?> constructor, List<Binding> productBindings, List<String> providerFieldNames, Map<String, Binding> parameterBindings, List<String> names) {
+      List<Parameter> parameters = Arrays.asList(constructor.getParameters());
+      Class<?>[] parameterTypes = constructor.getParameterTypes();
+      Class<?>[] argumentTypes = factoryMethod.getParameterTypes();
+      Map<Binding, String> bindingNames = parameterBindings.entrySet().stream().collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
+      String[] fieldNames = new String[parameters.size()];
+      int[] argumentIndices = new int[parameters.size()];
+
+      for(int i = 0; i < productBindings.size(); i++) {
+        Binding binding = productBindings.get(i);
+        int parameterIndex = parameters.indexOf(binding.getParameter());
+
+        fieldNames[parameterIndex] = providerFieldNames.get(i);
+        argumentIndices[parameterIndex] = fieldNames[parameterIndex] == null ? names.indexOf(bindingNames.get(binding)) : -1;
+
+        Class<?> sourceType = fieldNames[parameterIndex] == null ? argumentTypes[argumentIndices[parameterIndex]] : Types.raw(binding.getType());
+
+        if(!Primitives.toBoxed(sourceType).equals(Primitives.toBoxed(parameterTypes[parameterIndex]))) {
+          return null;
+        }
+      }
+
+      MethodCall methodCall = MethodCall.construct(constructor);
+
+      for(int i = 0; i < fieldNames.length; i++) {
+        methodCall = fieldNames[i] == null ? methodCall.withArgument(argumentIndices[i]) : methodCall.withField(fieldNames[i]);
+      }
+
+      return methodCall;
+    }
+
     private Class<?> load(Unloaded<?> unloaded) {
       try {
         return unloaded.load(getClass().getClassLoader(), ClassLoadingStrategy.UsingLookup.withFallback(() -> {
@@ -299,6 +405,29 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
     }
   }
 
+  /**
+   * Advice for the methods of generated factories which construct the product
+   * themselves. Wraps exceptions thrown by the product constructor in a
+   * {@link CreationException}, like the {@link Interceptor} does when it constructs
+   * the product.
+   */
+  public static class ConstructionAdvice {
+
+    /**
+     * Called when the factory method exits. The {@link CreationException}s of the
+     * post construct callbacks are not wrapped again.
+     *
+     * @param thrown the exception thrown by the factory method, can be {@code null}
+     * @param productTypeName the name of the product type, never {@code null}
+     */
+    @Advice.OnMethodExit(onThrowable = Throwable.class)
+    public static void exit(@Advice.Thrown(readOnly = false) Throwable thrown, @Advice.Origin("#r") String productTypeName) {
+      if(thrown != null && !(thrown instanceof CreationException)) {
+        thrown = new CreationException("[" + productTypeName + "] constructor call failed", thrown);
+      }
+    }
+  }
+
   /**
    * Interceptor for generated subclass of assisted injection factories.
    *
@@ -306,23 +435,22 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
    */
   public static class Interceptor<P> {
     private final Constructable<?> productConstructable;
+    private final LifeCycleCallbacks lifeCycleCallbacks;
     private final List<InjectionTemplate> templates = new ArrayList<>();
 
-    private List<String> factoryParameterNames;
-
-    Interceptor(Constructable<?> productConstructable) {
+    Interceptor(Constructable<?> productConstructable, LifeCycleCallbacks lifeCycleCallbacks) {
       this.productConstructable = productConstructable;
+      this.lifeCycleCallbacks = lifeCycleCallbacks;
     }
 
     void initialize(Map<String, Binding> productArgumentTypes, List<Binding> bindings, List<Field> fields, List<String> factoryParameterNames) {
       Map<Binding, String> bindingNames = productArgumentTypes.entrySet().stream().collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
 
-      this.factoryParameterNames = factoryParameterNames;
-
       for(int i = 0; i < bindings.size(); i++) {
         Binding binding = bindings.get(i);
+        String name = bindingNames.get(binding);
 
-        templates.add(new InjectionTemplate(fields.get(i), binding.getAccessibleObject(), bindingNames.get(binding)));
+        templates.add(new InjectionTemplate(fields.get(i), binding.getAccessibleObject(), name == null ? -1 : factoryParameterNames.indexOf(name)));
       }
     }
 
@@ -336,21 +464,34 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
      */
     @RuntimeType
     public Object intercept(@This Object factoryInstance, @AllArguments Object[] args) throws CreationException {
-      Map<String, Object> parameters = new HashMap<>();
+      return productConstructable.create(createInjections(factoryInstance, args));
+    }
 
-      for(int i = 0; i < args.length; i++) {
-        parameters.put(factoryParameterNames.get(i), args[i]);
+    /**
+     * Called by factories which construct the product themselves, to do the post
+     * construct life cycle callbacks of the product.
+     *
+     * @param product the product, cannot be {@code null}
+     * @return the given product, never {@code null}
+     * @throws CreationException when a post construct callback threw an exception
+     */
+    public Object postConstruct(Object product) throws CreationException {
+      try {
+        lifeCycleCallbacks.postConstruct(product);
+      }
+      catch(InvocationTargetException e) {
+        throw new CreationException("[" + product.getClass() + "] threw exception during post construction", e.getCause());
       }
 
-      return productConstructable.create(createInjections(factoryInstance, parameters));
+      return product;
     }
 
-    private List<Injection> createInjections(Object factoryInstance, Map<String, Object> parameters) {
+    private List<Injection> createInjections(Object factoryInstance, Object[] args) {
       try {
-        List<Injection> injections = new ArrayList<>();
+        List<Injection> injections = new ArrayList<>(templates.size());
 
         for(InjectionTemplate template : templates) {
-          Object value = template.field == null ? parameters.get(template.parameterName) : template.field.get(factoryInstance);
+          Object value = template.field == null ? args[template.argumentIndex] : template.field.get(factoryInstance);
 
           injections.add(new Injection(template.accessibleObject, value));
         }
@@ -365,12 +506,12 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
     static class InjectionTemplate {
       final Field field;  // null when it's a parameter
       final AccessibleObject accessibleObject;
-      final String parameterName;  // null when it's not a parameter
+      final int argumentIndex;  // -1 when it's not a parameter
 
-      InjectionTemplate(Field field, AccessibleObject accessibleObject, String parameterName) {
+      InjectionTemplate(Field field, AccessibleObject accessibleObject, int argumentIndex) {
         this.field = field;
         this.accessibleObject = accessibleObject;
-        this.parameterName = parameterName;
+        this.argumentIndex = argumentIndex;
       }
     }
   }
@@ -433,6 +574,46 @@ public class AssistedTypeRegistrationExtension implements TypeRegistrationExtens
     return factoryMethod;
   }
 
+  /*
+   * Identifies a generated factory class. The configuration is part of the key, as it
+   * determines the bindings and life cycle callbacks used by the generated class.
+   */
+  private static final class FactoryKey {
+    private final Type factoryType;
+    private final AnnotationStrategy annotationStrategy;
+    private final LifeCycleCallbacksFactory lifeCycleCallbacksFactory;
+    private final AssistedAnnotationStrategy strategy;
+
+    FactoryKey(Type factoryType, AnnotationStrategy annotationStrategy, LifeCycleCallbacksFactory lifeCycleCallbacksFactory, AssistedAnnotationStrategy strategy) {
+      this.factoryType = factoryType;
+      this.annotationStrategy = annotationStrategy;
+      this.lifeCycleCallbacksFactory = lifeCycleCallbacksFactory;
+      this.strategy = strategy;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(factoryType, annotationStrategy, lifeCycleCallbacksFactory, strategy);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj) {
+        return true;
+      }
+      if(obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+
+      FactoryKey other = (FactoryKey)obj;
+
+      return factoryType.equals(other.factoryType)
+        && annotationStrategy.equals(other.annotationStrategy)
+        && lifeCycleCallbacksFactory.equals(other.lifeCycleCallbacksFactory)
+        && strategy.equals(other.strategy);
+    }
+  }
+
   private static class Binding {
     final Type type;
     final AnnotatedElement annotatedElement;
@@ -12,6 +12,7 @@ import org.int4.dirk.api.Injector;
 import org.int4.dirk.api.TypeLiteral;
 import org.int4.dirk.api.definition.DefinitionException;
 import org.int4.dirk.api.definition.UnsatisfiedDependencyException;
+import org.int4.dirk.api.instantiation.CreationException;
 import org.int4.dirk.api.instantiation.UnsatisfiedResolutionException;
 import org.int4.dirk.core.InjectorBuilder;
 import org.int4.dirk.core.test.qualifiers.Green;
@@ -84,6 +85,54 @@ public class AssistedInjectionTest {
     }
   }
 
+  @Test
+  public void shouldReuseGeneratedFactoryClassAcrossRegistrationsAndInjectors() throws Exception {
+    injector.register(TestService.class);
+    injector.register(TestAssistedSampleFactory.class);
+
+    Class<?> generatedClass = injector.getInstance(TestAssistedSampleFactory.class).getClass();
+
+    injector.remove(TestAssistedSampleFactory.class);
+    injector.register(TestAssistedSampleFactory.class);
+
+    assertThat(injector.getInstance(TestAssistedSampleFactory.class).getClass()).isEqualTo(generatedClass);
+
+    Injector otherInjector = InjectorBuilder.builder()
+      .annotationStrategy(ANNOTATION_STRATEGY)
+      .lifeCycleCallbacksFactory(LIFE_CYCLE_CALLBACKS_FACTORY)
+      .useDefaultInjectionTargetExtensions()
+      .useDefaultTypeRegistrationExtensions()
+      .add(new AssistedTypeRegistrationExtension(ANNOTATION_STRATEGY, LIFE_CYCLE_CALLBACKS_FACTORY, ASSISTED_ANNOTATION_STRATEGY))
+      .build();
+
+    otherInjector.register(TestService.class);
+    otherInjector.register(TestAssistedSampleFactory.class);
+
+    TestAssistedSampleFactory factory = otherInjector.getInstance(TestAssistedSampleFactory.class);
+
+    assertThat(factory.getClass()).isEqualTo(generatedClass);
+    assertThat(factory.create(5).testService).isInstanceOf(TestService.class);
+  }
+
+  @Test
+  public void shouldNotReuseGeneratedFactoryClassForOtherConfiguration() throws Exception {
+    LifeCycleCallbacksFactory lifeCycleCallbacksFactory = new AnnotationBasedLifeCycleCallbacksFactory(PostConstruct.class, PreDestroy.class);
+    Injector otherInjector = InjectorBuilder.builder()
+      .annotationStrategy(ANNOTATION_STRATEGY)
+      .lifeCycleCallbacksFactory(lifeCycleCallbacksFactory)
+      .useDefaultInjectionTargetExtensions()
+      .useDefaultTypeRegistrationExtensions()
+      .add(new AssistedTypeRegistrationExtension(ANNOTATION_STRATEGY, lifeCycleCallbacksFactory, ASSISTED_ANNOTATION_STRATEGY))
+      .build();
+
+    injector.register(TestService.class);
+    injector.register(TestAssistedSampleFactory.class);
+    otherInjector.register(TestService.class);
+    otherInjector.register(TestAssistedSampleFactory.class);
+
+    assertThat(otherInjector.getInstance(TestAssistedSampleFactory.class).getClass()).isNotEqualTo(injector.getInstance(TestAssistedSampleFactory.class).getClass());
+  }
+
   @Test
   public void shouldAcceptAndCreateProducerAbstractClass() throws Exception {
     injector.register(ValueSupplier.class);
@@ -484,6 +533,88 @@ public class AssistedInjectionTest {
     assertThat(product.calculate()).isEqualTo((3 + 4) * (2 * 7) + 13);
   }
 
+  @Test
+  public void shouldConstructProductWithOnlyConstructorInjectionAndCallPostConstruct() throws Exception {
+    injector.register(TestService.class);
+    injector.register(ConstructorOnlyProductFactory.class);
+
+    ConstructorOnlyProductFactory factory = injector.getInstance(ConstructorOnlyProductFactory.class);
+    ConstructorOnlyProduct product = factory.create(7, "abc");
+
+    assertThat(product.offset).isEqualTo(7);
+    assertThat(product.text).isEqualTo("abc");
+    assertThat(product.testService).isInstanceOf(TestService.class);
+    assertThat(product.postConstructed).isTrue();
+    assertThat(factory.create(8, "def")).isNotSameAs(product);
+
+    assertThatThrownBy(() -> factory.create(-1, "abc"))
+      .isExactlyInstanceOf(CreationException.class)
+      .cause()
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("offset cannot be negative");
+  }
+
+  @Test
+  public void shouldWrapConstructorExceptionWhenProductIsConstructedThroughInterceptor() throws Exception {
+    injector.register(TestService.class);
+    injector.register(FieldInjectedProductFactory.class);
+
+    FieldInjectedProductFactory factory = injector.getInstance(FieldInjectedProductFactory.class);
+
+    assertThat(factory.create(7).testService).isInstanceOf(TestService.class);
+
+    assertThatThrownBy(() -> factory.create(-1))
+      .isExactlyInstanceOf(CreationException.class)
+      .cause()
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("offset cannot be negative");
+  }
+
+  @Assisted
+  public static class FieldInjectedProduct {
+    @Inject TestService testService;
+
+    @Inject
+    public FieldInjectedProduct(@Argument int offset) {
+      if(offset < 0) {
+        throw new IllegalArgumentException("offset cannot be negative");
+      }
+    }
+  }
+
+  public interface FieldInjectedProductFactory {
+    FieldInjectedProduct create(int offset);
+  }
+
+  @Assisted
+  public static class ConstructorOnlyProduct {
+    final TestService testService;
+    final int offset;
+    final String text;
+
+    boolean postConstructed;
+
+    @Inject
+    public ConstructorOnlyProduct(TestService testService, @Argument int offset, @Argument String text) {
+      if(offset < 0) {
+        throw new IllegalArgumentException("offset cannot be negative");
+      }
+
+      this.testService = testService;
+      this.offset = offset;
+      this.text = text;
+    }
+
+    @PostConstruct
+    void postConstruct() {
+      postConstructed = true;
+    }
+  }
+
+  public interface ConstructorOnlyProductFactory {
+    ConstructorOnlyProduct create(int offset, String text);
+  }
+
   @Assisted
   public static class TestTargetWithInterfaceProducerAndNoParameters {
     String text;
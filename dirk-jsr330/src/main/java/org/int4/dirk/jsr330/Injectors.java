@@ -48,6 +48,7 @@ public class Injectors {
   private static final Singleton SINGLETON = Annotations.of(Singleton.class);
   private static final Dependent DEPENDENT = Annotations.of(Dependent.class);
   private static final AnnotationStrategy ANNOTATION_STRATEGY = new ConfigurableAnnotationStrategy(Inject.class, Qualifier.class, Opt.class);
+  private static final LifeCycleCallbacksFactory LIFE_CYCLE_CALLBACKS_FACTORY = new AnnotationBasedLifeCycleCallbacksFactory(PostConstruct.class, PreDestroy.class);
   private static final Method PROVIDER_METHOD;
 
   static {
@@ -82,8 +83,6 @@ public class Injectors {
   }
 
   private static Injector createInjector(boolean autoDiscovering, ScopeResolver... scopeResolvers) {
-    LifeCycleCallbacksFactory lifeCycleCallbacksFactory = new AnnotationBasedLifeCycleCallbacksFactory(PostConstruct.class, PreDestroy.class);
-
     List<ScopeResolver> finalScopeResolvers = Arrays.stream(scopeResolvers).anyMatch(sr -> sr.getAnnotation().equals(SINGLETON)) ? Arrays.asList(scopeResolvers)
       : Stream.concat(Arrays.stream(scopeResolvers), Stream.of(new SingletonScopeResolver(SINGLETON))).collect(Collectors.toList());
 
@@ -97,13 +96,13 @@ public class Injectors {
 
     return new StandardInjector(
       createInjectionTargetExtensions(),
-      createDiscoveryExtensions(lifeCycleCallbacksFactory),
+      createDiscoveryExtensions(),
       finalScopeResolvers,
       new DefaultInjectorStrategy(
         ANNOTATION_STRATEGY,
         new SimpleScopeStrategy(Scope.class, DEPENDENT, SINGLETON, DEPENDENT),
         proxyStrategy,
-        lifeCycleCallbacksFactory
+        LIFE_CYCLE_CALLBACKS_FACTORY
       ),
       autoDiscovering
     );
@@ -117,7 +116,7 @@ public class Injectors {
     );
   }
 
-  private static List<TypeRegistrationExtension> createDiscoveryExtensions(LifeCycleCallbacksFactory lifeCycleCallbacksFactory) {
+  private static List<TypeRegistrationExtension> createDiscoveryExtensions() {
     List<TypeRegistrationExtension> extensions = new ArrayList<>();
 
     extensions.add(new ProviderTypeRegistrationExtension(PROVIDER_METHOD));
@@ -126,7 +125,7 @@ public class Injectors {
     if(Classes.isAvailable("org.int4.dirk.extensions.assisted.AssistedTypeRegistrationExtension")) {
       LOGGER.info("Using AssistedTypeRegistrationExtension found on classpath");
 
-      extensions.add(AssistedTypeRegistrationExtensionSupport.create(ANNOTATION_STRATEGY, lifeCycleCallbacksFactory));
+      extensions.add(AssistedTypeRegistrationExtensionSupport.create(ANNOTATION_STRATEGY, LIFE_CYCLE_CALLBACKS_FACTORY));
     }
 
     return extensions;
@@ -7,10 +7,12 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.int4.dirk.api.definition.DefinitionException;
+import org.int4.dirk.spi.config.AsynchronousLifeCycleCallbacks;
 import org.int4.dirk.spi.config.LifeCycleCallbacks;
 import org.int4.dirk.spi.config.LifeCycleCallbacksFactory;
 import org.int4.dirk.util.Methods;
@@ -18,6 +20,11 @@ import org.int4.dirk.util.Methods;
 /**
  * Implementation of a {@link LifeCycleCallbacksFactory} which determines which life cycle
  * methods to call based on configurable annotations.
+ *
+ * <p>Optionally, the post construct methods of types annotated with a configurable
+ * marker annotation can be run asynchronously on an {@link Executor}. This is mainly
+ * useful for singletons with slow initialization, which can then be initialized
+ * concurrently with unrelated instances.
  */
 public class AnnotationBasedLifeCycleCallbacksFactory implements LifeCycleCallbacksFactory {
   private static final Logger LOGGER = Logger.getLogger(AnnotationBasedLifeCycleCallbacksFactory.class.getName());
@@ -49,6 +56,8 @@ public class AnnotationBasedLifeCycleCallbacksFactory implements LifeCycleCallba
 
   private final Class<? extends Annotation> postConstruct;
   private final Class<? extends Annotation> preDestroy;
+  private final Class<? extends Annotation> asynchronous;
+  private final Executor executor;
 
   /**
    * Constructs a new instance.
@@ -59,6 +68,24 @@ public class AnnotationBasedLifeCycleCallbacksFactory implements LifeCycleCallba
   public AnnotationBasedLifeCycleCallbacksFactory(Class<? extends Annotation> postConstruct, Class<? extends Annotation> preDestroy) {
     this.postConstruct = Objects.requireNonNull(postConstruct, "postConstruct cannot be null");
     this.preDestroy = Objects.requireNonNull(preDestroy, "preDestroy cannot be null");
+    this.asynchronous = null;
+    this.executor = null;
+  }
+
+  /**
+   * Constructs a new instance which runs the post construct methods of types annotated
+   * with the given asynchronous marker annotation on the given {@link Executor}.
+   *
+   * @param postConstruct a marker annotation {@link Class} for post construct methods, cannot be {@code null}
+   * @param preDestroy a marker annotation {@link Class} for pre-destroy methods, cannot be {@code null}
+   * @param asynchronous a marker annotation {@link Class} for types of which the post construct methods should run asynchronously, cannot be {@code null}
+   * @param executor an {@link Executor} to run asynchronous post construct methods on, cannot be {@code null}
+   */
+  public AnnotationBasedLifeCycleCallbacksFactory(Class<? extends Annotation> postConstruct, Class<? extends Annotation> preDestroy, Class<? extends Annotation> asynchronous, Executor executor) {
+    this.postConstruct = Objects.requireNonNull(postConstruct, "postConstruct cannot be null");
+    this.preDestroy = Objects.requireNonNull(preDestroy, "preDestroy cannot be null");
+    this.asynchronous = Objects.requireNonNull(asynchronous, "asynchronous cannot be null");
+    this.executor = Objects.requireNonNull(executor, "executor cannot be null");
   }
 
   @Override
@@ -83,6 +110,10 @@ public class AnnotationBasedLifeCycleCallbacksFactory implements LifeCycleCallba
       method.setAccessible(true);
     }
 
+    if(asynchronous != null && !postConstructMethods.isEmpty() && cls.isAnnotationPresent(asynchronous)) {
+      return new AsynchronousDefaultLifeCycleCallbacks(postConstructMethods, preDestroyMethods, executor);
+    }
+
     return new DefaultLifeCycleCallbacks(postConstructMethods, preDestroyMethods);
   }
 
@@ -133,4 +164,19 @@ public class AnnotationBasedLifeCycleCallbacksFactory implements LifeCycleCallba
       return !preDestroyMethods.isEmpty();
     }
   }
+
+  private static class AsynchronousDefaultLifeCycleCallbacks extends DefaultLifeCycleCallbacks implements AsynchronousLifeCycleCallbacks {
+    private final Executor executor;
+
+    AsynchronousDefaultLifeCycleCallbacks(List<Method> postConstructMethods, List<Method> preDestroyMethods, Executor executor) {
+      super(postConstructMethods, preDestroyMethods);
+
+      this.executor = executor;
+    }
+
+    @Override
+    public Executor getPostConstructExecutor() {
+      return executor;
+    }
+  }
 }
@@ -0,0 +1,48 @@
+package org.int4.dirk.library;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.int4.dirk.spi.instantiation.InjectionTargetExtension;
+import org.int4.dirk.spi.instantiation.Resolution;
+import org.int4.dirk.util.TypeVariables;
+
+/**
+ * Configurable {@link InjectionTargetExtension} for future types, like {@link Future}
+ * or {@link CompletionStage}. The element is created asynchronously on the given
+ * {@link Executor}, and the injection target receives a {@link CompletableFuture}
+ * which completes once the element was created. This allows expensive dependencies
+ * to be created concurrently with the instance depending on them.
+ *
+ * <p>Like providers, future injection targets are resolved lazily; a missing or ambiguous
+ * element is reported by completing the future exceptionally.
+ *
+ * @param <T> the type of the future
+ * @param <E> the type the future provides
+ */
+public class FutureInjectionTargetExtension<T, E> extends InjectionTargetExtension<T, E> {
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param futureClass a {@link Class} representing the future type, must be an interface implemented by {@link CompletableFuture}, cannot be {@code null}
+   * @param executor an {@link Executor} on which elements are created, cannot be {@code null}
+   * @throws IllegalArgumentException when the given future class is not implemented by {@link CompletableFuture}
+   */
+  public FutureInjectionTargetExtension(Class<T> futureClass, Executor executor) {
+    super(TypeVariables.get(requireFutureClass(futureClass), 0), Resolution.LAZY, instance -> futureClass.cast(CompletableFuture.supplyAsync(instance::get, executor)));
+
+    Objects.requireNonNull(executor, "executor cannot be null");
+  }
+
+  private static <T> Class<T> requireFutureClass(Class<T> futureClass) {
+    if(!Objects.requireNonNull(futureClass, "futureClass cannot be null").isAssignableFrom(CompletableFuture.class)) {
+      throw new IllegalArgumentException("futureClass must be implemented by CompletableFuture: " + futureClass);
+    }
+
+    return futureClass;
+  }
+}
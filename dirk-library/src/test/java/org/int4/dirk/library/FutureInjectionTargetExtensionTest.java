@@ -0,0 +1,65 @@
+package org.int4.dirk.library;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.int4.dirk.api.instantiation.UnsatisfiedResolutionException;
+import org.int4.dirk.spi.instantiation.Instance;
+import org.int4.dirk.spi.instantiation.Resolution;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FutureInjectionTargetExtensionTest {
+  private final AtomicInteger executions = new AtomicInteger();
+  private final Executor executor = runnable -> {
+    executions.incrementAndGet();
+    runnable.run();
+  };
+
+  @Test
+  void shouldCreateElementOnExecutor() throws Exception {
+    @SuppressWarnings("unchecked")
+    Instance<String> instance = mock(Instance.class);
+    FutureInjectionTargetExtension<Future<String>, String> extension = new FutureInjectionTargetExtension<>(cast(Future.class), executor);
+
+    when(instance.get()).thenReturn("A");
+
+    assertThat(extension.getTargetClass()).isEqualTo(Future.class);
+    assertThat(extension.getResolution()).isEqualTo(Resolution.LAZY);
+    assertThat(extension.getInstanceProvider().getInstance(instance).get()).isEqualTo("A");
+    assertThat(executions.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenElementCannotBeCreated() {
+    @SuppressWarnings("unchecked")
+    Instance<String> instance = mock(Instance.class);
+    FutureInjectionTargetExtension<CompletionStage<String>, String> extension = new FutureInjectionTargetExtension<>(cast(CompletionStage.class), executor);
+
+    when(instance.get()).thenThrow(new UnsatisfiedResolutionException("No such instance"));
+
+    assertThatThrownBy(() -> extension.getInstanceProvider().getInstance(instance).toCompletableFuture().get())
+      .isExactlyInstanceOf(ExecutionException.class)
+      .hasCauseExactlyInstanceOf(UnsatisfiedResolutionException.class);
+  }
+
+  @Test
+  void constructorShouldRejectClassesNotImplementedByCompletableFuture() {
+    assertThatThrownBy(() -> new FutureInjectionTargetExtension<>(List.class, executor))
+      .isExactlyInstanceOf(IllegalArgumentException.class)
+      .hasMessage("futureClass must be implemented by CompletableFuture: interface java.util.List");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Class<T> cast(Class<?> cls) {
+    return (Class<T>)cls;
+  }
+}
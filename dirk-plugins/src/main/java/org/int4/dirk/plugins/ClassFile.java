@@ -0,0 +1,455 @@
+package org.int4.dirk.plugins;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal reader of the class file format which extracts the modifiers, super
+ * types and annotations of a class without loading it. Only the information
+ * needed to decide whether a class is a component is retained.
+ */
+class ClassFile {
+  private static final int MAGIC = 0xCAFEBABE;
+  private static final int ACC_INTERFACE = 0x0200;
+  private static final int ACC_ABSTRACT = 0x0400;
+  private static final int ACC_ANNOTATION = 0x2000;
+  private static final Pattern DESCRIPTOR_CLASS = Pattern.compile("L([^;<>:()\\[]+)[;<]");
+
+  private final int accessFlags;
+  private final String name;
+  private final String superName;
+  private final List<String> interfaceNames;
+  private final Set<String> typeAnnotations;
+  private final Set<String> fieldAnnotations;
+  private final Set<String> methodAnnotations;
+  private final Set<String> constructorAnnotations;
+  private final Set<String> referencedClassNames;
+
+  private ClassFile(int accessFlags, String name, String superName, List<String> interfaceNames, Set<String> typeAnnotations, Set<String> fieldAnnotations, Set<String> methodAnnotations, Set<String> constructorAnnotations, Set<String> referencedClassNames) {
+    this.accessFlags = accessFlags;
+    this.name = name;
+    this.superName = superName;
+    this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+    this.typeAnnotations = Collections.unmodifiableSet(typeAnnotations);
+    this.fieldAnnotations = Collections.unmodifiableSet(fieldAnnotations);
+    this.methodAnnotations = Collections.unmodifiableSet(methodAnnotations);
+    this.constructorAnnotations = Collections.unmodifiableSet(constructorAnnotations);
+    this.referencedClassNames = Collections.unmodifiableSet(referencedClassNames);
+  }
+
+  /**
+   * Reads a class file from the given bytes.
+   *
+   * @param bytes an array of bytes, cannot be {@code null}
+   * @return a {@link ClassFile}, never {@code null}
+   * @throws IOException when the bytes are not a valid class file
+   */
+  static ClassFile read(byte[] bytes) throws IOException {
+    return read(new ByteArrayInputStream(bytes));
+  }
+
+  /**
+   * Reads a class file from the given {@link InputStream}.
+   *
+   * @param inputStream an {@link InputStream}, cannot be {@code null}
+   * @return a {@link ClassFile}, never {@code null}
+   * @throws IOException when the stream could not be read or is not a valid class file
+   */
+  static ClassFile read(InputStream inputStream) throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+
+    if(in.readInt() != MAGIC) {
+      throw new IOException("Not a class file");
+    }
+
+    in.readUnsignedShort();  // minor version
+    in.readUnsignedShort();  // major version
+
+    Object[] constantPool = readConstantPool(in);
+    int accessFlags = in.readUnsignedShort();
+    String name = className(constantPool, in.readUnsignedShort());
+    String superName = className(constantPool, in.readUnsignedShort());
+    int interfaceCount = in.readUnsignedShort();
+    List<String> interfaceNames = new ArrayList<>(interfaceCount);
+
+    for(int i = 0; i < interfaceCount; i++) {
+      interfaceNames.add(className(constantPool, in.readUnsignedShort()));
+    }
+
+    Set<String> fieldAnnotations = new HashSet<>();
+    Set<String> methodAnnotations = new HashSet<>();
+    Set<String> constructorAnnotations = new HashSet<>();
+    int fieldCount = in.readUnsignedShort();
+
+    for(int i = 0; i < fieldCount; i++) {
+      readMember(in, constantPool, fieldAnnotations);
+    }
+
+    int methodCount = in.readUnsignedShort();
+
+    for(int i = 0; i < methodCount; i++) {
+      String memberName = readMember(in, constantPool, null);
+
+      if(memberName.equals("<init>")) {
+        readAttributes(in, constantPool, constructorAnnotations);
+      }
+      else if(memberName.equals("<clinit>")) {
+        readAttributes(in, constantPool, null);
+      }
+      else {
+        readAttributes(in, constantPool, methodAnnotations);
+      }
+    }
+
+    Set<String> typeAnnotations = new HashSet<>();
+
+    readAttributes(in, constantPool, typeAnnotations);
+
+    return new ClassFile(accessFlags, name, superName, interfaceNames, typeAnnotations, fieldAnnotations, methodAnnotations, constructorAnnotations, referencedClassNames(constantPool));
+  }
+
+  /**
+   * Returns the binary name of the class.
+   *
+   * @return the binary name of the class, never {@code null}
+   */
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the binary name of the super class.
+   *
+   * @return the binary name of the super class, or {@code null} if there is none
+   */
+  String getSuperName() {
+    return superName;
+  }
+
+  /**
+   * Returns the binary names of the interfaces directly implemented by the class.
+   *
+   * @return a list of binary names, never {@code null} but can be empty
+   */
+  List<String> getInterfaceNames() {
+    return interfaceNames;
+  }
+
+  /**
+   * Returns whether the class is abstract. Interfaces and annotations are
+   * considered abstract.
+   *
+   * @return {@code true} if the class is abstract, otherwise {@code false}
+   */
+  boolean isAbstract() {
+    return (accessFlags & (ACC_ABSTRACT | ACC_INTERFACE)) != 0;
+  }
+
+  /**
+   * Returns whether the class is an annotation.
+   *
+   * @return {@code true} if the class is an annotation, otherwise {@code false}
+   */
+  boolean isAnnotation() {
+    return (accessFlags & ACC_ANNOTATION) != 0;
+  }
+
+  /**
+   * Returns the binary names of the annotations present on the class.
+   *
+   * @return a set of binary names, never {@code null} but can be empty
+   */
+  Set<String> getTypeAnnotations() {
+    return typeAnnotations;
+  }
+
+  /**
+   * Returns the binary names of the annotations present on any of the fields
+   * declared by the class.
+   *
+   * @return a set of binary names, never {@code null} but can be empty
+   */
+  Set<String> getFieldAnnotations() {
+    return fieldAnnotations;
+  }
+
+  /**
+   * Returns the binary names of the annotations present on any of the methods
+   * declared by the class.
+   *
+   * @return a set of binary names, never {@code null} but can be empty
+   */
+  Set<String> getMethodAnnotations() {
+    return methodAnnotations;
+  }
+
+  /**
+   * Returns the binary names of the annotations present on any of the constructors
+   * declared by the class.
+   *
+   * @return a set of binary names, never {@code null} but can be empty
+   */
+  Set<String> getConstructorAnnotations() {
+    return constructorAnnotations;
+  }
+
+  /**
+   * Returns the binary names of all classes referred to by the class, either directly
+   * or as part of a type descriptor or signature. This may include names which are
+   * not actually classes.
+   *
+   * @return a set of binary names, never {@code null} but can be empty
+   */
+  Set<String> getReferencedClassNames() {
+    return referencedClassNames;
+  }
+
+  /**
+   * Returns whether this class file could contribute to a scan for components. This
+   * is the case for concrete classes with annotations, and for annotations which
+   * are annotated themselves and so could be meta-annotations.
+   *
+   * @return {@code true} if this class file could contribute to a scan, otherwise {@code false}
+   */
+  boolean isScanRelevant() {
+    if(isAnnotation()) {
+      return !typeAnnotations.isEmpty();
+    }
+
+    return !isAbstract() && !(typeAnnotations.isEmpty() && fieldAnnotations.isEmpty() && methodAnnotations.isEmpty() && constructorAnnotations.isEmpty());
+  }
+
+  /**
+   * Returns a copy of this class file which only retains the modifiers, the name
+   * and the annotations, which is all that is needed for a scan.
+   *
+   * @return a {@link ClassFile}, never {@code null}
+   */
+  ClassFile summarize() {
+    return new ClassFile(accessFlags, name, null, List.of(), typeAnnotations, fieldAnnotations, methodAnnotations, constructorAnnotations, Set.of());
+  }
+
+  /**
+   * Encodes the modifiers, the name and the annotations of this class file as a
+   * single line of text, which can be decoded with {@link #decode(String)}.
+   *
+   * @return a {@link String}, never {@code null}
+   */
+  String encode() {
+    return accessFlags + " " + name + " " + encode(typeAnnotations) + " " + encode(fieldAnnotations) + " " + encode(methodAnnotations) + " " + encode(constructorAnnotations);
+  }
+
+  /**
+   * Decodes a line of text created by {@link #encode()}.
+   *
+   * @param line a {@link String} to decode, cannot be {@code null}
+   * @return a {@link ClassFile}, never {@code null}
+   * @throws IOException when the line was not created by {@link #encode()}
+   */
+  static ClassFile decode(String line) throws IOException {
+    String[] parts = line.split(" ");
+
+    if(parts.length != 6) {
+      throw new IOException("Invalid class file summary: " + line);
+    }
+
+    try {
+      return new ClassFile(Integer.parseInt(parts[0]), parts[1], null, List.of(), decodeSet(parts[2]), decodeSet(parts[3]), decodeSet(parts[4]), decodeSet(parts[5]), Set.of());
+    }
+    catch(NumberFormatException e) {
+      throw new IOException("Invalid class file summary: " + line, e);
+    }
+  }
+
+  private static String encode(Set<String> names) {
+    return names.isEmpty() ? "-" : String.join(",", new TreeSet<>(names));
+  }
+
+  private static Set<String> decodeSet(String text) {
+    return text.equals("-") ? Set.of() : Set.of(text.split(","));
+  }
+
+  private static Set<String> referencedClassNames(Object[] constantPool) throws IOException {
+    Set<String> names = new HashSet<>();
+
+    for(int i = 1; i < constantPool.length; i++) {
+      Object entry = constantPool[i];
+
+      if(entry instanceof Integer) {
+        String name = utf8(constantPool, (Integer)entry);
+
+        if(!name.startsWith("[")) {
+          names.add(name.replace('/', '.'));
+        }
+      }
+      else if(entry instanceof String) {
+        Matcher matcher = DESCRIPTOR_CLASS.matcher((String)entry);
+
+        while(matcher.find()) {
+          names.add(matcher.group(1).replace('/', '.'));
+        }
+      }
+    }
+
+    return names;
+  }
+
+  private static Object[] readConstantPool(DataInputStream in) throws IOException {
+    int count = in.readUnsignedShort();
+    Object[] constantPool = new Object[count];
+
+    for(int i = 1; i < count; i++) {
+      int tag = in.readUnsignedByte();
+
+      switch(tag) {
+      case 1:  // Utf8
+        constantPool[i] = in.readUTF();
+        break;
+      case 7:  // Class
+        constantPool[i] = Integer.valueOf(in.readUnsignedShort());
+        break;
+      case 8:  // String
+      case 16:  // MethodType
+      case 19:  // Module
+      case 20:  // Package
+        in.readUnsignedShort();
+        break;
+      case 15:  // MethodHandle
+        in.readUnsignedByte();
+        in.readUnsignedShort();
+        break;
+      case 3:  // Integer
+      case 4:  // Float
+      case 9:  // Fieldref
+      case 10:  // Methodref
+      case 11:  // InterfaceMethodref
+      case 12:  // NameAndType
+      case 17:  // Dynamic
+      case 18:  // InvokeDynamic
+        in.readInt();
+        break;
+      case 5:  // Long
+      case 6:  // Double
+        in.readLong();
+        i++;  // takes two entries
+        break;
+      default:
+        throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+      }
+    }
+
+    return constantPool;
+  }
+
+  private static String readMember(DataInputStream in, Object[] constantPool, Set<String> annotations) throws IOException {
+    in.readUnsignedShort();  // access flags
+
+    String memberName = utf8(constantPool, in.readUnsignedShort());
+
+    in.readUnsignedShort();  // descriptor
+
+    if(annotations != null) {
+      readAttributes(in, constantPool, annotations);
+    }
+
+    return memberName;
+  }
+
+  private static void readAttributes(DataInputStream in, Object[] constantPool, Set<String> annotations) throws IOException {
+    int count = in.readUnsignedShort();
+
+    for(int i = 0; i < count; i++) {
+      String attributeName = utf8(constantPool, in.readUnsignedShort());
+      int length = in.readInt();
+
+      if(annotations != null && (attributeName.equals("RuntimeVisibleAnnotations") || attributeName.equals("RuntimeInvisibleAnnotations"))) {
+        int annotationCount = in.readUnsignedShort();
+
+        for(int j = 0; j < annotationCount; j++) {
+          annotations.add(readAnnotation(in, constantPool));
+        }
+      }
+      else {
+        skip(in, length);
+      }
+    }
+  }
+
+  private static void skip(DataInputStream in, int length) throws IOException {
+    for(int remaining = length; remaining > 0;) {
+      int skipped = in.skipBytes(remaining);
+
+      if(skipped <= 0) {
+        throw new EOFException();
+      }
+
+      remaining -= skipped;
+    }
+  }
+
+  private static String readAnnotation(DataInputStream in, Object[] constantPool) throws IOException {
+    String descriptor = utf8(constantPool, in.readUnsignedShort());
+    int pairCount = in.readUnsignedShort();
+
+    for(int i = 0; i < pairCount; i++) {
+      in.readUnsignedShort();  // element name
+      skipElementValue(in, constantPool);
+    }
+
+    return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+  }
+
+  private static void skipElementValue(DataInputStream in, Object[] constantPool) throws IOException {
+    int tag = in.readUnsignedByte();
+
+    switch(tag) {
+    case 'e':
+      in.readInt();
+      break;
+    case '@':
+      readAnnotation(in, constantPool);
+      break;
+    case '[':
+      int count = in.readUnsignedShort();
+
+      for(int i = 0; i < count; i++) {
+        skipElementValue(in, constantPool);
+      }
+      break;
+    default:
+      in.readUnsignedShort();
+    }
+  }
+
+  private static String className(Object[] constantPool, int index) throws IOException {
+    if(index == 0) {
+      return null;
+    }
+
+    if(!(constantPool[index] instanceof Integer)) {
+      throw new IOException("Constant pool entry " + index + " is not a class");
+    }
+
+    return utf8(constantPool, (Integer)constantPool[index]).replace('/', '.');
+  }
+
+  private static String utf8(Object[] constantPool, int index) throws IOException {
+    if(index >= constantPool.length || !(constantPool[index] instanceof String)) {
+      throw new IOException("Constant pool entry " + index + " is not a string");
+    }
+
+    return (String)constantPool[index];
+  }
+}
@@ -0,0 +1,196 @@
+package org.int4.dirk.plugins;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Scans jars and directories for component classes by reading their class files,
+ * without loading any classes. A class is a component when it is concrete and it,
+ * or one of its fields, methods or constructors, is annotated with one of the
+ * configured annotations. Annotations which are themselves annotated with one of
+ * these annotations, and which are part of the same scan, also qualify. A scan can
+ * span several jars and directories by reading each of them separately and then
+ * selecting the components from the combined result.
+ */
+class ClassFileScanner {
+  private final Set<String> typeAnnotations;
+  private final Set<String> fieldAnnotations;
+  private final Set<String> methodAnnotations;
+  private final Set<String> constructorAnnotations;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param typeAnnotations a set of annotation names to scan for on types, cannot be {@code null}
+   * @param fieldAnnotations a set of annotation names to scan for on fields, cannot be {@code null}
+   * @param methodAnnotations a set of annotation names to scan for on methods, cannot be {@code null}
+   * @param constructorAnnotations a set of annotation names to scan for on constructors, cannot be {@code null}
+   */
+  ClassFileScanner(Set<String> typeAnnotations, Set<String> fieldAnnotations, Set<String> methodAnnotations, Set<String> constructorAnnotations) {
+    this.typeAnnotations = typeAnnotations;
+    this.fieldAnnotations = fieldAnnotations;
+    this.methodAnnotations = methodAnnotations;
+    this.constructorAnnotations = constructorAnnotations;
+  }
+
+  /**
+   * Scans the given jar or directory for component classes.
+   *
+   * @param path a {@link Path} to a jar or directory, cannot be {@code null}
+   * @return a set of class names, never {@code null} and never contains {@code null}s
+   * @throws IOException when an I/O error occurred or a class file was invalid
+   */
+  Set<String> scan(Path path) throws IOException {
+    return select(read(path));
+  }
+
+  /**
+   * Reads the class files in the given jar or directory which could contribute to
+   * a scan. Only a summary of each class file is retained. Unlike {@link #scan(Path)},
+   * the result does not depend on the configured annotations, and the results of
+   * several jars and directories can be combined with {@link #select(Collection)}.
+   *
+   * @param path a {@link Path} to a jar or directory, cannot be {@code null}
+   * @return a list of {@link ClassFile}s, never {@code null} and never contains {@code null}s
+   * @throws IOException when an I/O error occurred or a class file was invalid
+   */
+  static List<ClassFile> read(Path path) throws IOException {
+    List<ClassFile> classFiles = new ArrayList<>();
+
+    readClassFiles(path, (name, in) -> {
+      ClassFile classFile = ClassFile.read(in);
+
+      if(classFile.isScanRelevant()) {
+        classFiles.add(classFile.summarize());
+      }
+    });
+
+    return classFiles;
+  }
+
+  /**
+   * Selects the component classes amongst the given class files. Annotations
+   * amongst the given class files which are meta-annotated with one of the
+   * configured annotations also qualify, regardless of where the class files
+   * were read from.
+   *
+   * @param classFiles a collection of {@link ClassFile}s, cannot be {@code null}
+   * @return a set of class names, never {@code null} and never contains {@code null}s
+   */
+  Set<String> select(Collection<ClassFile> classFiles) {
+    Set<String> types = expand(typeAnnotations, classFiles);
+    Set<String> fields = expand(fieldAnnotations, classFiles);
+    Set<String> methods = expand(methodAnnotations, classFiles);
+    Set<String> constructors = expand(constructorAnnotations, classFiles);
+    Set<String> names = new TreeSet<>();
+
+    for(ClassFile classFile : classFiles) {
+      if(!classFile.isAbstract() && (
+        intersects(classFile.getTypeAnnotations(), types)
+          || intersects(classFile.getFieldAnnotations(), fields)
+          || intersects(classFile.getMethodAnnotations(), methods)
+          || intersects(classFile.getConstructorAnnotations(), constructors)
+      )) {
+        names.add(classFile.getName());
+      }
+    }
+
+    return names;
+  }
+
+  /**
+   * Consumes a single class file.
+   */
+  interface ClassFileConsumer {
+
+    /**
+     * Consumes the class file with the given path.
+     *
+     * @param name the path of the class file relative to the jar or directory, never {@code null}
+     * @param inputStream an {@link InputStream} with the contents of the class file, only valid during this call, never {@code null}
+     * @throws IOException when an I/O error occurred or the class file was invalid
+     */
+    void accept(String name, InputStream inputStream) throws IOException;
+  }
+
+  /**
+   * Reads the class files in the given jar or directory one at a time, passing
+   * each to the given consumer. Only one class file is held in memory at a time.
+   *
+   * @param path a {@link Path} to a jar or directory, cannot be {@code null}
+   * @param consumer a {@link ClassFileConsumer}, cannot be {@code null}
+   * @throws IOException when an I/O error occurred, or the consumer failed
+   */
+  static void readClassFiles(Path path, ClassFileConsumer consumer) throws IOException {
+    if(Files.isDirectory(path)) {
+      try(Stream<Path> stream = Files.walk(path)) {
+        for(Path file : (Iterable<Path>)stream.filter(p -> p.toString().endsWith(".class") && Files.isRegularFile(p))::iterator) {
+          try(InputStream in = Files.newInputStream(file)) {
+            accept(consumer, path.relativize(file).toString().replace('\\', '/'), in);
+          }
+        }
+      }
+
+      return;
+    }
+
+    try(ZipFile zipFile = new ZipFile(path.toFile())) {
+      for(Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements();) {
+        ZipEntry entry = entries.nextElement();
+
+        if(!entry.isDirectory() && entry.getName().endsWith(".class")) {
+          try(InputStream in = zipFile.getInputStream(entry)) {
+            accept(consumer, entry.getName(), in);
+          }
+        }
+      }
+    }
+  }
+
+  private static void accept(ClassFileConsumer consumer, String name, InputStream in) throws IOException {
+    try {
+      consumer.accept(name, in);
+    }
+    catch(IOException e) {
+      throw new IOException("Unable to read class file: " + name, e);
+    }
+  }
+
+  /*
+   * Adds the annotations amongst the given class files which are (indirectly)
+   * annotated with one of the given annotations.
+   */
+  private static Set<String> expand(Set<String> annotations, Collection<ClassFile> classFiles) {
+    Set<String> expanded = new HashSet<>(annotations);
+    boolean changed = !annotations.isEmpty();
+
+    while(changed) {
+      changed = false;
+
+      for(ClassFile classFile : classFiles) {
+        if(classFile.isAnnotation() && !expanded.contains(classFile.getName()) && intersects(classFile.getTypeAnnotations(), expanded)) {
+          changed |= expanded.add(classFile.getName());
+        }
+      }
+    }
+
+    return expanded;
+  }
+
+  private static boolean intersects(Set<String> a, Set<String> b) {
+    return !Collections.disjoint(a, b);
+  }
+}
@@ -0,0 +1,193 @@
+package org.int4.dirk.plugins;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Finds the names of the component classes in a set of {@link URL}s. The class
+ * files of each {@link URL} are read separately and in parallel on a dedicated set
+ * of threads, after which the components are selected from the combined class files,
+ * so that meta-annotations declared in one jar apply to components in another. When
+ * an index directory is configured, the class files read from each jar are summarized
+ * in this directory under a key derived from the contents of the jar, so that unchanged
+ * jars need not be read again.<p>
+ *
+ * {@link URL}s which cannot be read as a jar or directory are scanned with a fallback
+ * scanner, and only contribute the components it finds.
+ */
+class ComponentIndex {
+  private static final Logger LOGGER = Logger.getLogger(ComponentIndex.class.getName());
+  private static final String HEADER = "dirk-component-index 2";
+
+  private final Path directory;
+  private final ClassFileScanner classFileScanner;
+  private final Function<URL, Set<String>> fallbackScanner;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param directory a {@link Path} to a directory to store indices, can be {@code null} in which case nothing is stored
+   * @param classFileScanner a {@link ClassFileScanner} which selects the components from the class files read, cannot be {@code null}
+   * @param fallbackScanner a {@link Function} which scans a single {@link URL} which cannot be read as a jar or directory for component class names, cannot be {@code null}
+   */
+  ComponentIndex(Path directory, ClassFileScanner classFileScanner, Function<URL, Set<String>> fallbackScanner) {
+    this.directory = directory;
+    this.classFileScanner = classFileScanner;
+    this.fallbackScanner = fallbackScanner;
+  }
+
+  /**
+   * Finds the names of the component classes in the given {@link URL}s.
+   *
+   * @param urls an array of {@link URL}s, cannot be {@code null}
+   * @return a set of class names, never {@code null} and never contains {@code null}s
+   */
+  Set<String> find(URL... urls) {
+    List<ClassFile> classFiles = new ArrayList<>();
+    Set<String> names = new TreeSet<>();
+
+    for(Contents contents : ParallelTasks.map("dirk-component-index", Arrays.asList(urls), this::read)) {
+      classFiles.addAll(contents.classFiles);
+      names.addAll(contents.names);
+    }
+
+    names.addAll(classFileScanner.select(classFiles));
+
+    return names;
+  }
+
+  /*
+   * Returns either the class files of the given URL, or the component names found by
+   * the fallback scanner if the URL could not be read as a jar or directory.
+   */
+  private Contents read(URL url) {
+    Path path = toPath(url);
+
+    if(path != null) {
+      try {
+        return new Contents(directory != null && Files.isRegularFile(path) ? readIndexed(url, path) : ClassFileScanner.read(path), Set.of());
+      }
+      catch(IOException e) {
+        LOGGER.warning("Unable to read class files of " + url + ", scanning with reflection instead: " + e);
+      }
+    }
+
+    return new Contents(List.of(), fallbackScanner.apply(url));
+  }
+
+  private List<ClassFile> readIndexed(URL url, Path jar) throws IOException {
+    Path indexFile = directory.resolve(digest(jar) + ".idx");
+
+    try {
+      if(Files.isRegularFile(indexFile)) {
+        List<String> lines = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+
+        if(!lines.isEmpty() && lines.get(0).equals(HEADER)) {
+          LOGGER.fine("Using index " + indexFile + " for: " + url);
+
+          List<ClassFile> classFiles = new ArrayList<>();
+
+          for(String line : lines.subList(1, lines.size())) {
+            classFiles.add(ClassFile.decode(line));
+          }
+
+          return classFiles;
+        }
+      }
+    }
+    catch(IOException e) {
+      LOGGER.warning("Unable to use index " + indexFile + " for " + url + ", reading jar instead: " + e);
+    }
+
+    List<ClassFile> classFiles = ClassFileScanner.read(jar);
+
+    try {
+      write(indexFile, classFiles);
+    }
+    catch(IOException e) {
+      LOGGER.warning("Unable to write index " + indexFile + " for " + url + ": " + e);
+    }
+
+    return classFiles;
+  }
+
+  private void write(Path indexFile, List<ClassFile> classFiles) throws IOException {
+    List<String> lines = new ArrayList<>();
+
+    lines.add(HEADER);
+
+    for(ClassFile classFile : classFiles) {
+      lines.add(classFile.encode());
+    }
+
+    Files.createDirectories(directory);
+
+    Path temporaryFile = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+
+    Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+    Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private String digest(Path jar) throws IOException {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+      try(InputStream in = new DigestInputStream(Files.newInputStream(jar), messageDigest)) {
+        in.transferTo(OutputStream.nullOutputStream());
+      }
+
+      StringBuilder builder = new StringBuilder();
+
+      for(byte b : messageDigest.digest()) {
+        builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+
+      return builder.toString();
+    }
+    catch(NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Path toPath(URL url) {
+    if(!url.getProtocol().equals("file")) {
+      return null;
+    }
+
+    try {
+      Path path = Path.of(url.toURI());
+
+      return Files.exists(path) ? path : null;
+    }
+    catch(URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static class Contents {
+    final List<ClassFile> classFiles;
+    final Set<String> names;
+
+    Contents(List<ClassFile> classFiles, Set<String> names) {
+      this.classFiles = classFiles;
+      this.names = names;
+    }
+  }
+}
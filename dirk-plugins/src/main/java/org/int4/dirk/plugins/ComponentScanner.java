@@ -1,9 +1,13 @@
 package org.int4.dirk.plugins;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -12,10 +16,6 @@ import org.int4.dirk.api.CandidateRegistry;
 import org.int4.dirk.api.definition.AutoDiscoveryException;
 import org.int4.dirk.api.definition.DefinitionException;
 import org.int4.dirk.api.definition.DependencyException;
-import org.reflections.Reflections;
-import org.reflections.Store;
-import org.reflections.util.QueryFunction;
-import org.reflections.util.ReflectionUtilsPredicates;
 
 /**
  * Provides methods to scan packages for injectables.
@@ -23,13 +23,11 @@ import org.reflections.util.ReflectionUtilsPredicates;
 public class ComponentScanner {
   private static final Logger LOGGER = Logger.getLogger(ComponentScanner.class.getName());
 
-  private final Reflections reflections;
-  private final QueryFunction<Store, String> scanDefinition;
+  private final Set<String> componentNames;
   private final Predicate<Class<?>> filter;
 
-  ComponentScanner(Reflections reflections, QueryFunction<Store, String> scanDefinition, Predicate<Class<?>> filter) {
-    this.reflections = reflections;
-    this.scanDefinition = scanDefinition;
+  ComponentScanner(Set<String> componentNames, Predicate<Class<?>> filter) {
+    this.componentNames = componentNames;
     this.filter = filter;
   }
 
@@ -50,15 +48,36 @@ public class ComponentScanner {
   }
 
   List<Type> findComponentTypes(ClassLoader classLoader) {
-    return
-      reflections.get(
-        scanDefinition
-          .asClass(classLoader)
-          .filter(ReflectionUtilsPredicates.withClassModifier(Modifier.ABSTRACT).negate())
-      )
-      .stream()
+    return componentNames.stream()
+      .filter(name -> !isAbstract(name, classLoader))
+      .map(name -> load(name, classLoader))
+      .filter(Objects::nonNull)
+      .filter(cls -> !Modifier.isAbstract(cls.getModifiers()))
       .filter(filter)
       .sorted(Comparator.comparing(Type::getTypeName))
       .collect(Collectors.toList());
   }
+
+  /*
+   * Checks the class file, if available, so abstract types need not be loaded.
+   */
+  private static boolean isAbstract(String name, ClassLoader classLoader) {
+    try(InputStream in = classLoader.getResourceAsStream(name.replace('.', '/') + ".class")) {
+      return in != null && ClassFile.read(in).isAbstract();
+    }
+    catch(IOException e) {
+      return false;  // let class loading decide
+    }
+  }
+
+  private static Class<?> load(String name, ClassLoader classLoader) {
+    try {
+      return Class.forName(name, false, classLoader);
+    }
+    catch(ClassNotFoundException | LinkageError e) {
+      LOGGER.warning("Unable to load component type " + name + ": " + e);
+
+      return null;
+    }
+  }
 }
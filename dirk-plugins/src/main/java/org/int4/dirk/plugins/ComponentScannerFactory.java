@@ -2,10 +2,13 @@ package org.int4.dirk.plugins;
 
 import java.lang.reflect.AnnotatedElement;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.reflections.Configuration;
 import org.reflections.Reflections;
@@ -80,7 +83,7 @@ public class ComponentScannerFactory {
       .filterInputsBy(s -> filterPattern.matcher(s).matches())
       .setScanners(SCANNERS);
 
-    return new ComponentScanner(new Reflections(configuration), getScanDefinition(), filter);
+    return new ComponentScanner(new Reflections(configuration).get(getScanDefinition()), filter);
   }
 
   /**
@@ -90,14 +93,48 @@ public class ComponentScannerFactory {
    * @return a {@link ComponentScanner}, never {@code null}
    */
   public ComponentScanner create(URL... urls) {
-    Configuration configuration = new ConfigurationBuilder()
-      .addUrls(urls)
-      .setScanners(SCANNERS);
+    return create(null, urls);
+  }
+
+  /**
+   * Creates a new {@link ComponentScanner} to scan for the given {@link URL}s. The
+   * {@link URL}s are read in parallel. If an index directory is given, the class files
+   * read from each jar are summarized there, keyed by the contents of the jar, and the
+   * summary is reused when the same jar is scanned again.
+   *
+   * @param indexDirectory a {@link Path} to a directory for storing scan results, can be {@code null} in which case scan results are not stored
+   * @param urls an array of {@link URL}s, cannot be {@code null}
+   * @return a {@link ComponentScanner}, never {@code null}
+   */
+  public ComponentScanner create(Path indexDirectory, URL... urls) {
+    if(!annotationsAreClasses()) {
+      return new ComponentScanner(new Reflections(new ConfigurationBuilder().addUrls(urls).setScanners(SCANNERS)).get(getScanDefinition()), filter);
+    }
+
+    ClassFileScanner classFileScanner = new ClassFileScanner(toNames(typeAnnotations), toNames(fieldAnnotations), toNames(methodAnnotations), toNames(constructorAnnotations));
+    ComponentIndex index = new ComponentIndex(indexDirectory, classFileScanner, this::scanWithReflections);
+
+    return new ComponentScanner(index.find(urls), filter);
+  }
+
+  /*
+   * Jars and directories are scanned by reading their class files directly, which
+   * avoids loading classes which are not components. Other URLs are scanned with
+   * Reflections.
+   */
+  private Set<String> scanWithReflections(URL url) {
+    return new Reflections(new ConfigurationBuilder().addUrls(url).setScanners(SCANNERS)).get(getScanDefinition());
+  }
+
+  private boolean annotationsAreClasses() {
+    return Stream.of(typeAnnotations, fieldAnnotations, methodAnnotations, constructorAnnotations).flatMap(Arrays::stream).allMatch(Class.class::isInstance);
+  }
 
-    return new ComponentScanner(new Reflections(configuration), getScanDefinition(), filter);
+  private static Set<String> toNames(AnnotatedElement[] annotations) {
+    return Arrays.stream(annotations).map(a -> ((Class<?>)a).getName()).collect(Collectors.toSet());
   }
 
-  private QueryFunction<Store, String> getScanDefinition() {
+  QueryFunction<Store, String> getScanDefinition() {
     return Scanners.TypesAnnotated.with(typeAnnotations)
       .add(
         Scanners.FieldsAnnotated.with(fieldAnnotations)
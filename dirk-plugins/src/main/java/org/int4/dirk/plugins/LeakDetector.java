@@ -0,0 +1,240 @@
+package org.int4.dirk.plugins;
+
+import java.lang.ref.Reference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Finds the strong reference paths from a set of root objects to a {@link ClassLoader},
+ * the classes it defined or instances of these classes. Any such path prevents the
+ * {@link ClassLoader} from being garbage collected.
+ *
+ * <p>The object graph is walked breadth first, so each reported path is a shortest
+ * path. Instance fields are followed reflectively where accessible, while maps,
+ * collections, arrays and reflection types are followed through their public API.
+ * Static fields of each class encountered are treated as additional roots. Weak
+ * and soft references are not followed.
+ */
+class LeakDetector {
+  private static final ClassLoader PLATFORM_CLASS_LOADER = ClassLoader.getPlatformClassLoader();
+
+  private final ClassLoader classLoader;
+  private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Deque<Node> queue = new ArrayDeque<>();
+  private final List<String> paths = new ArrayList<>();
+
+  private LeakDetector(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  /**
+   * Finds all strong reference paths from the given roots to the given {@link ClassLoader},
+   * the classes it defined or instances of these classes.
+   *
+   * @param classLoader a {@link ClassLoader}, cannot be {@code null}
+   * @param roots a collection of root objects, cannot be {@code null}
+   * @return a list of descriptions of reference paths, never {@code null} but can be empty
+   */
+  static List<String> findPaths(ClassLoader classLoader, Collection<?> roots) {
+    LeakDetector detector = new LeakDetector(classLoader);
+
+    for(Object root : roots) {
+      detector.enqueue(root, null, root == null ? "null" : root.getClass().getSimpleName());
+    }
+
+    detector.walk();
+
+    return detector.paths;
+  }
+
+  private void walk() {
+    while(!queue.isEmpty()) {
+      Node node = queue.removeFirst();
+      Object object = node.object;
+
+      if(isLeak(object)) {
+        paths.add(node.path() + " -> " + describeLeak(object));
+      }
+      else if(object instanceof Class) {
+        visitStaticFields((Class<?>)object);
+      }
+      else if(!(object instanceof ClassLoader) && !(object instanceof Thread)) {
+        Class<?> cls = object.getClass();
+
+        enqueue(cls, null, cls.getName());
+        visitInstance(node, object);
+      }
+    }
+  }
+
+  private void visitInstance(Node node, Object object) {
+    try {
+      if(object instanceof WeakHashMap) {
+        for(Map.Entry<?, ?> entry : ((Map<?, ?>)object).entrySet()) {
+          enqueue(entry.getValue(), node, "[" + describe(entry.getKey()) + "]");
+        }
+      }
+      else if(object instanceof Map) {
+        for(Map.Entry<?, ?> entry : ((Map<?, ?>)object).entrySet()) {
+          String key = describe(entry.getKey());
+
+          enqueue(entry.getKey(), node, "[" + key + "].key");
+          enqueue(entry.getValue(), node, "[" + key + "]");
+        }
+      }
+      else if(object instanceof Collection) {
+        int index = 0;
+
+        for(Object element : (Collection<?>)object) {
+          enqueue(element, node, "[" + index++ + "]");
+        }
+      }
+      else if(object.getClass().isArray()) {
+        if(!object.getClass().getComponentType().isPrimitive()) {
+          for(int i = 0; i < Array.getLength(object); i++) {
+            enqueue(Array.get(object, i), node, "[" + i + "]");
+          }
+        }
+      }
+      else if(object instanceof Member) {
+        enqueue(((Member)object).getDeclaringClass(), node, ".getDeclaringClass()");
+      }
+      else if(object instanceof ParameterizedType) {
+        ParameterizedType parameterizedType = (ParameterizedType)object;
+
+        enqueue(parameterizedType.getRawType(), node, ".getRawType()");
+        enqueue(parameterizedType.getOwnerType(), node, ".getOwnerType()");
+        enqueue(parameterizedType.getActualTypeArguments(), node, ".getActualTypeArguments()");
+      }
+      else if(object instanceof GenericArrayType) {
+        enqueue(((GenericArrayType)object).getGenericComponentType(), node, ".getGenericComponentType()");
+      }
+      else if(object instanceof WildcardType) {
+        enqueue(((WildcardType)object).getUpperBounds(), node, ".getUpperBounds()");
+        enqueue(((WildcardType)object).getLowerBounds(), node, ".getLowerBounds()");
+      }
+      else if(object instanceof TypeVariable) {
+        enqueue(((TypeVariable<?>)object).getGenericDeclaration(), node, ".getGenericDeclaration()");
+      }
+      else {
+        visitFields(node, object);
+      }
+    }
+    catch(RuntimeException e) {
+      // collections which are modified concurrently or which cannot be iterated are skipped
+    }
+  }
+
+  private void visitFields(Node node, Object object) {
+    for(Class<?> cls = object.getClass(); cls != null && cls != Reference.class; cls = cls.getSuperclass()) {
+      for(Field field : cls.getDeclaredFields()) {
+        if(!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+          enqueue(read(field, object), node, "." + field.getName());
+        }
+      }
+    }
+  }
+
+  private void visitStaticFields(Class<?> cls) {
+    if(isPlatformClass(cls)) {
+      return;
+    }
+
+    for(Field field : cls.getDeclaredFields()) {
+      if(Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+        enqueue(read(field, null), null, cls.getName() + "." + field.getName());
+      }
+    }
+  }
+
+  private void enqueue(Object object, Node parent, String step) {
+    if(object == null || object instanceof String || object instanceof Number || object instanceof Boolean || object instanceof Character || object instanceof Enum) {
+      return;
+    }
+
+    if(visited.add(object)) {
+      queue.addLast(new Node(object, parent, step));
+    }
+  }
+
+  private boolean isLeak(Object object) {
+    if(object instanceof Class) {
+      return ((Class<?>)object).getClassLoader() == classLoader;
+    }
+
+    return object == classLoader || object.getClass().getClassLoader() == classLoader;
+  }
+
+  private static boolean isPlatformClass(Class<?> cls) {
+    ClassLoader loader = cls.getClassLoader();
+
+    return loader == null || loader == PLATFORM_CLASS_LOADER;
+  }
+
+  private static Object read(Field field, Object object) {
+    try {
+      return field.trySetAccessible() ? field.get(object) : null;
+    }
+    catch(IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static String describeLeak(Object object) {
+    if(object instanceof Class) {
+      return "class " + ((Class<?>)object).getName();
+    }
+    if(object instanceof ClassLoader) {
+      return "class loader " + object.getClass().getName();
+    }
+
+    return "instance of " + object.getClass().getName();
+  }
+
+  private static String describe(Object key) {
+    if(key instanceof Class) {
+      return ((Class<?>)key).getName();
+    }
+    if(key instanceof Type) {
+      return ((Type)key).getTypeName();
+    }
+    if(key == null || key instanceof String || key instanceof Number || key instanceof Enum) {
+      return String.valueOf(key);
+    }
+
+    return key.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(key));
+  }
+
+  private static class Node {
+    final Object object;
+    final Node parent;
+    final String step;
+
+    Node(Object object, Node parent, String step) {
+      this.object = object;
+      this.parent = parent;
+      this.step = step;
+    }
+
+    String path() {
+      return parent == null ? step : parent.path() + step;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package org.int4.dirk.plugins;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs tasks which mostly block on I/O, like reading jars and loading classes, in
+ * parallel on a dedicated set of daemon threads. The common {@link java.util.concurrent.ForkJoinPool}
+ * is not used, as blocking its threads would starve unrelated parallel streams and
+ * asynchronous tasks of the application.
+ */
+class ParallelTasks {
+  private static final int MAX_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  /**
+   * Applies the given function to each of the given inputs in parallel. A single
+   * input is handled on the calling thread. Any threads created are stopped before
+   * this method returns.
+   *
+   * @param <T> the type of the inputs
+   * @param <R> the type of the results
+   * @param name a name for the threads, cannot be {@code null}
+   * @param inputs a list of inputs, cannot be {@code null}
+   * @param function a {@link Function} to apply, cannot be {@code null}
+   * @return a list of results in the same order as the inputs, never {@code null}
+   */
+  static <T, R> List<R> map(String name, List<T> inputs, Function<T, R> function) {
+    List<R> results = new ArrayList<>(inputs.size());
+
+    if(inputs.size() <= 1) {
+      for(T input : inputs) {
+        results.add(function.apply(input));
+      }
+
+      return results;
+    }
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(inputs.size(), MAX_THREADS), runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+
+      thread.setDaemon(true);
+
+      return thread;
+    });
+
+    try {
+      List<Future<R>> futures = new ArrayList<>(inputs.size());
+
+      for(T input : inputs) {
+        futures.add(executor.submit(() -> function.apply(input)));
+      }
+
+      for(Future<R> future : futures) {
+        results.add(future.get());
+      }
+
+      return results;
+    }
+    catch(ExecutionException e) {
+      Throwable cause = e.getCause();
+
+      if(cause instanceof RuntimeException) {
+        throw (RuntimeException)cause;
+      }
+      if(cause instanceof Error) {
+        throw (Error)cause;
+      }
+
+      throw new IllegalStateException(cause);
+    }
+    catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new IllegalStateException("Interrupted while waiting for: " + name, e);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+}
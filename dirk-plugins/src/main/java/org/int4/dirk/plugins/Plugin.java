@@ -1,6 +1,7 @@
 package org.int4.dirk.plugins;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
@@ -17,6 +18,7 @@ import org.int4.dirk.plugins.PluginManager.UnloadTrackingClassLoader;
 public class Plugin {
   private final AtomicBoolean unloaded;
   private final String name;
+  private final WeakReference<ClassLoader> classLoaderReference;
 
   private List<Type> types;
   private ClassLoader classLoader;
@@ -38,6 +40,7 @@ public class Plugin {
 
     this.name = name;
     this.classLoader = classLoader;
+    this.classLoaderReference = new WeakReference<>(classLoader);
     this.types = Collections.unmodifiableList(new ArrayList<>(types));
 
     if(this.types.contains(null)) {
@@ -70,6 +73,18 @@ public class Plugin {
     return types;
   }
 
+  String getName() {
+    return name;
+  }
+
+  /*
+   * Returns the class loader of this plugin, even after it was unloaded, as long as
+   * it was not garbage collected yet.
+   */
+  ClassLoader getReachableClassLoader() {
+    return classLoaderReference.get();
+  }
+
   @Override
   public String toString() {
     return "Plugin[" + name + " -> " + types + "]";
@@ -0,0 +1,30 @@
+package org.int4.dirk.plugins;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted when one or more plugins were loaded or reloaded
+ * by a {@link PluginManager}. The duration of the event includes scanning the plugins
+ * and registering their types.
+ */
+@Name("org.int4.dirk.PluginLoad")
+@Label("Plugin Load")
+@Category({"Dirk", "Plugins"})
+@Description("Loading of plugins and the registration of their types")
+class PluginLoadEvent extends Event {
+
+  @Label("Plugin")
+  String plugin;
+
+  @Label("Type Count")
+  @Description("Number of types registered by the plugin")
+  int typeCount;
+
+  @Label("Reload")
+  @Description("Whether an existing plugin was replaced")
+  boolean reload;
+}
@@ -1,15 +1,33 @@
 package org.int4.dirk.plugins;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.int4.dirk.api.CandidateRegistry;
 import org.int4.dirk.api.definition.AutoDiscoveryException;
@@ -25,6 +43,7 @@ public class PluginManager {
 
   private final ComponentScannerFactory componentScannerFactory;
   private final CandidateRegistry baseRegistry;  // the registry to add the plugin classes to, but also may contain required dependencies
+  private final Path indexDirectory;
 
   /**
    * Constructs a new instance. A {@link CandidateRegistry} must be provided where
@@ -34,8 +53,23 @@ public class PluginManager {
    * @param registry a {@link CandidateRegistry}, cannot be {@code null}
    */
   public PluginManager(ComponentScannerFactory componentScannerFactory, CandidateRegistry registry) {
+    this(componentScannerFactory, registry, null);
+  }
+
+  /**
+   * Constructs a new instance. A {@link CandidateRegistry} must be provided where
+   * types part of a {@link Plugin} can be registered and unregistered. The scan
+   * results of plugin jars are stored in the given index directory, so that jars
+   * which did not change are not scanned again.
+   *
+   * @param componentScannerFactory a {@link ComponentScannerFactory}, cannot be {@code null}
+   * @param registry a {@link CandidateRegistry}, cannot be {@code null}
+   * @param indexDirectory a {@link Path} to a directory to store scan results, can be {@code null} in which case scan results are not stored
+   */
+  public PluginManager(ComponentScannerFactory componentScannerFactory, CandidateRegistry registry, Path indexDirectory) {
     this.componentScannerFactory = Objects.requireNonNull(componentScannerFactory, "componentScannerFactory cannot be null");
     this.baseRegistry = Objects.requireNonNull(registry, "registry cannot be null");
+    this.indexDirectory = indexDirectory;
   }
 
   /**
@@ -49,16 +83,20 @@ public class PluginManager {
    * @throws DependencyException when dependencies between registered types cannot be resolved
    */
   public Plugin loadPluginAndScan(String... packageNamePrefixes) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    PluginLoadEvent event = new PluginLoadEvent();
     ClassLoader classLoader = this.getClass().getClassLoader();
 
     LOGGER.fine("Scanning packages: " + Arrays.toString(packageNamePrefixes));
 
-    return new PluginLoader(componentScannerFactory.create(packageNamePrefixes), classLoader)
-      .loadPlugin(Arrays.toString(packageNamePrefixes));
+    event.begin();
+
+    return loaded(event, new PluginLoader(componentScannerFactory.create(packageNamePrefixes), classLoader).loadPlugin(Arrays.toString(packageNamePrefixes)));
   }
 
   /**
    * Loads jars at the given {@link URL}s, scans for annotated types and creates a {@link Plugin}.
+   * The {@link URL}s are scanned in parallel, and jars for which a scan result is available
+   * in the index directory are not scanned again.
    *
    * @param urls a list of {@link URL}s to load and scan
    * @return a {@link Plugin}, never {@code null}
@@ -68,11 +106,73 @@ public class PluginManager {
    */
   @SuppressWarnings("resource")
   public Plugin loadPluginAndScan(URL... urls) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    PluginLoadEvent event = new PluginLoadEvent();
     URLClassLoader classLoader = new UnloadTrackingClassLoader(urls);
 
     LOGGER.fine("Scanning Plugin at: " + Arrays.toString(urls));
 
-    return new PluginLoader(componentScannerFactory.create(urls), classLoader).loadPlugin(Arrays.toString(urls));
+    event.begin();
+
+    return loaded(event, new PluginLoader(componentScannerFactory.create(indexDirectory, urls), classLoader).loadPlugin(Arrays.toString(urls)));
+  }
+
+  /**
+   * Loads multiple plugins, each consisting of the jars at one of the given arrays of
+   * {@link URL}s. The plugins are scanned, and their component classes are loaded, in
+   * parallel on a dedicated set of threads. The types of all plugins are then registered
+   * with the underlying {@link CandidateRegistry} as a single operation, so dependencies
+   * between the registered types are validated once instead of once per plugin. If
+   * registration fails, none of the plugins are loaded.
+   *
+   * @param urls a collection of arrays of {@link URL}s, each array forming one plugin, cannot be {@code null}
+   * @return a list of {@link Plugin}s in the same order as the given collection, never {@code null}
+   * @throws AutoDiscoveryException when auto discovery fails to find all required types
+   * @throws DefinitionException when a definition problem was encountered
+   * @throws DependencyException when dependencies between registered types cannot be resolved
+   */
+  public List<Plugin> loadPlugins(Collection<URL[]> urls) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    PluginLoadEvent event = new PluginLoadEvent();
+    List<UnloadTrackingClassLoader> classLoaders = urls.stream().map(UnloadTrackingClassLoader::new).collect(Collectors.toList());
+
+    LOGGER.fine("Scanning Plugins at: " + urls.stream().map(Arrays::toString).collect(Collectors.toList()));
+
+    event.begin();
+
+    try {
+      List<Plugin> plugins = ParallelTasks.map(
+        "dirk-plugin-loader",
+        classLoaders,
+        cl -> new Plugin(Arrays.toString(cl.getURLs()), componentScannerFactory.create(indexDirectory, cl.getURLs()).findComponentTypes(cl), cl)
+      );
+
+      List<Type> types = plugins.stream().map(Plugin::getTypes).flatMap(List::stream).collect(Collectors.toList());
+
+      LOGGER.fine("Registering types: " + types);
+
+      baseRegistry.register(types);
+
+      event.end();
+
+      if(event.shouldCommit()) {
+        event.plugin = plugins.stream().map(Plugin::getName).collect(Collectors.toList()).toString();
+        event.typeCount = types.size();
+        event.commit();
+      }
+
+      return plugins;
+    }
+    catch(Exception e) {
+      for(UnloadTrackingClassLoader classLoader : classLoaders) {
+        try {
+          classLoader.close();
+        }
+        catch(IOException e2) {
+          e.addSuppressed(e2);
+        }
+      }
+
+      throw e;
+    }
   }
 
   /**
@@ -85,8 +185,244 @@ public class PluginManager {
    * @throws DependencyException when dependencies between registered types cannot be resolved
    */
   public void unload(Plugin plugin) throws AutoDiscoveryException, DefinitionException, DependencyException {
-    baseRegistry.remove(plugin.getTypes());  // may fail
+    PluginUnloadEvent event = new PluginUnloadEvent();
+    List<Type> types = plugin.getTypes();
+
+    event.begin();
+
+    baseRegistry.remove(types);  // may fail
     plugin.destroy();  // can't fail
+
+    event.end();
+
+    if(event.shouldCommit()) {
+      event.plugin = plugin.getName();
+      event.typeCount = types.size();
+      event.commit();
+    }
+  }
+
+  /**
+   * Finds the references which prevent the class loader of the given plugin from
+   * being garbage collected after it was unloaded. The object graph reachable from
+   * the {@link CandidateRegistry} of this manager and the given additional roots,
+   * like the {@link org.int4.dirk.api.Injector} using it, is searched for references
+   * to the class loader, its classes or their instances. This includes structures
+   * like scope maps, discovery caches, proxy caches and the dependents of created
+   * instances, as well as the static fields of any class encountered.
+   *
+   * <p>Each reference is described as a path of field names, map keys and indices
+   * leading to it, for example {@code StandardInjector.registry.store[...]}.
+   * This is a diagnostic operation which walks a potentially large object graph; it
+   * should not be called as part of normal operation.
+   *
+   * @param plugin a {@link Plugin}, cannot be {@code null}
+   * @param roots additional objects to search, cannot be {@code null}
+   * @return a list of reference paths, never {@code null} but can be empty if there are none or the plugin's class loader was already garbage collected
+   */
+  public List<String> findLeaks(Plugin plugin, Object... roots) {
+    ClassLoader classLoader = Objects.requireNonNull(plugin, "plugin cannot be null").getReachableClassLoader();
+
+    if(classLoader == null) {
+      return List.of();
+    }
+
+    List<Object> allRoots = new ArrayList<>();
+
+    allRoots.add(baseRegistry);
+    allRoots.addAll(Arrays.asList(roots));
+
+    return LeakDetector.findPaths(classLoader, allRoots);
+  }
+
+  /**
+   * Replaces the given plugin with the jars at the given {@link URL}s, scanning them for
+   * annotated types. Only the difference between the types of the given plugin and the
+   * types found is removed from and registered with the underlying {@link CandidateRegistry},
+   * as a single operation. Classes which were loaded by the given plugin, and of which the
+   * class file and the class files of all plugin classes it refers to are unchanged since the
+   * given plugin was loaded, are not loaded again but are shared with the given plugin, which
+   * keeps their registrations, and any instances, intact. The class files are compared by
+   * their bytes. As only the sizes and modification times of the jars are recorded when a plugin
+   * is loaded, no classes are reused from jars which changed since then, like jars replaced at
+   * the same {@link URL}s. Instances of types which depend on removed types, other than through
+   * a provider, are removed from their scopes, so they are created again when needed. The class
+   * loader of the given plugin is closed once no classes it defined are shared with a loaded
+   * plugin anymore.
+   *
+   * <p>If this method throws an exception the given plugin remains loaded. Otherwise the given
+   * plugin should no longer be used; only the returned plugin can be unloaded.
+   *
+   * @param plugin a {@link Plugin} loaded with {@link #loadPluginAndScan(URL...)}, cannot be {@code null}
+   * @param urls a list of {@link URL}s to load and scan
+   * @return a {@link Plugin}, never {@code null}
+   * @throws AutoDiscoveryException when auto discovery fails to find all required types
+   * @throws DefinitionException when a definition problem was encountered
+   * @throws DependencyException when dependencies between registered types cannot be resolved
+   */
+  @SuppressWarnings("resource")
+  public Plugin reload(Plugin plugin, URL... urls) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    ClassLoader previousClassLoader = Objects.requireNonNull(plugin, "plugin cannot be null").getClassLoader();
+
+    if(!(previousClassLoader instanceof UnloadTrackingClassLoader)) {
+      throw new IllegalArgumentException("plugin must be loaded from URLs by a PluginManager: " + plugin);
+    }
+
+    Map<String, ClassEntry> entries = readClassEntries(urls);
+    Map<String, Class<?>> reusableClasses = findReusableClasses((UnloadTrackingClassLoader)previousClassLoader, entries);
+    PluginLoadEvent event = new PluginLoadEvent();
+    URLClassLoader classLoader = new UnloadTrackingClassLoader(urls, reusableClasses);
+
+    LOGGER.fine("Reloading Plugin at: " + Arrays.toString(urls) + ", reusing: " + reusableClasses.keySet());
+
+    event.begin();
+    event.reload = true;
+
+    try {
+      List<Type> types = componentScannerFactory.create(indexDirectory, urls).findComponentTypes(classLoader);
+      List<Type> removedTypes = plugin.getTypes().stream().filter(t -> !types.contains(t)).collect(Collectors.toList());
+      List<Type> addedTypes = types.stream().filter(t -> !plugin.getTypes().contains(t)).collect(Collectors.toList());
+
+      LOGGER.fine("Replacing types: " + removedTypes + " with: " + addedTypes);
+
+      baseRegistry.replace(removedTypes, addedTypes);
+
+      Plugin newPlugin = new Plugin(Arrays.toString(urls), types, classLoader);
+
+      plugin.destroy();  // its class loader stays open while classes it defined are reused by the new plugin
+
+      return loaded(event, newPlugin);
+    }
+    catch(Exception e) {
+      try {
+        classLoader.close();
+      }
+      catch(IOException e2) {
+        e.addSuppressed(e2);
+      }
+
+      throw e;
+    }
+  }
+
+  /*
+   * A class can be reused when it was loaded by the previous class loader, its class
+   * file is unchanged since the previous class loader was created, and all classes of
+   * the plugin it refers to can be reused as well. The latter ensures the previous class
+   * loader is no longer needed to resolve the classes it refers to.
+   *
+   * The class files of the previous class loader are only read here, and only for the
+   * URLs which did not change since it was created; classes of URLs which did change
+   * cannot be compared with what was loaded, and are not reused.
+   */
+  private static Map<String, Class<?>> findReusableClasses(UnloadTrackingClassLoader previousClassLoader, Map<String, ClassEntry> entries) {
+    Map<String, byte[]> previousDigests = toDigests(readClassEntries(previousClassLoader.getUnchangedURLs()));
+    Map<String, Class<?>> reusableClasses = new HashMap<>();
+
+    for(Map.Entry<String, ClassEntry> entry : entries.entrySet()) {
+      byte[] previousDigest = previousDigests.get(entry.getKey());
+
+      if(previousDigest != null && Arrays.equals(previousDigest, entry.getValue().digest)) {
+        Class<?> cls = previousClassLoader.getLoadedClass(entry.getKey());
+
+        if(cls != null) {
+          reusableClasses.put(entry.getKey(), cls);
+        }
+      }
+    }
+
+    for(boolean changed = true; changed;) {
+      changed = false;
+
+      for(Iterator<String> iterator = reusableClasses.keySet().iterator(); iterator.hasNext();) {
+        String name = iterator.next();
+
+        for(String referencedName : entries.get(name).referencedClassNames) {
+          if(!reusableClasses.containsKey(referencedName) && (entries.containsKey(referencedName) || previousDigests.containsKey(referencedName))) {
+            iterator.remove();
+            changed = true;
+            break;
+          }
+        }
+      }
+    }
+
+    return reusableClasses;
+  }
+
+  private static Map<String, ClassEntry> readClassEntries(URL[] urls) {
+    Map<String, ClassEntry> entries = new HashMap<>();
+
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+      for(URL url : urls) {
+        ClassFileScanner.readClassFiles(Path.of(url.toURI()), (name, in) -> {
+          byte[] bytes = in.readAllBytes();
+          ClassFile classFile = ClassFile.read(bytes);
+
+          entries.putIfAbsent(classFile.getName(), new ClassEntry(classFile.getReferencedClassNames(), messageDigest.digest(bytes)));
+        });
+      }
+    }
+    catch(IOException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+      LOGGER.warning("Unable to read class files of " + Arrays.toString(urls) + ", no classes will be reused: " + e);
+
+      return Map.of();
+    }
+    catch(NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return entries;
+  }
+
+  /*
+   * Returns a cheap fingerprint of the contents of the given URL, based on file sizes and
+   * modification times, or null if the URL is not a readable file or directory.
+   */
+  private static String fingerprint(URL url) {
+    try {
+      Path path = Path.of(url.toURI());
+
+      if(!Files.isDirectory(path)) {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+
+        return attributes.size() + ":" + attributes.lastModifiedTime().toMillis() + ":" + attributes.fileKey();
+      }
+
+      long[] totals = new long[3];  // files, total size, latest modification time
+
+      try(Stream<Path> stream = Files.walk(path)) {
+        stream.filter(Files::isRegularFile).forEach(file -> {
+          try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+            totals[0]++;
+            totals[1] += attributes.size();
+            totals[2] = Math.max(totals[2], attributes.lastModifiedTime().toMillis());
+          }
+          catch(IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+
+      return totals[0] + ":" + totals[1] + ":" + totals[2];
+    }
+    catch(IOException | UncheckedIOException | URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+      return null;
+    }
+  }
+
+  private static Map<String, byte[]> toDigests(Map<String, ClassEntry> entries) {
+    Map<String, byte[]> digests = new HashMap<>();
+
+    for(Map.Entry<String, ClassEntry> entry : entries.entrySet()) {
+      digests.put(entry.getKey(), entry.getValue().digest);
+    }
+
+    return digests;
   }
 
   /**
@@ -100,15 +436,18 @@ public class PluginManager {
    */
   @SuppressWarnings("resource")
   public Plugin loadPlugin(URL... urls) throws AutoDiscoveryException, DefinitionException, DependencyException {
+    PluginLoadEvent event = new PluginLoadEvent();
     URLClassLoader classLoader = new UnloadTrackingClassLoader(urls);
 
+    event.begin();
+
     try {
       @SuppressWarnings("unchecked")
       Class<Module> moduleClass = (Class<Module>)classLoader.loadClass("PluginModule");
       Constructor<Module> constructor = moduleClass.getConstructor();
       Module module = constructor.newInstance();
 
-      return createPlugin(Arrays.toString(urls), module.getTypes(), classLoader);
+      return loaded(event, createPlugin(Arrays.toString(urls), module.getTypes(), classLoader));
     }
     catch(ReflectiveOperationException e) {
       try {
@@ -132,6 +471,18 @@ public class PluginManager {
     }
   }
 
+  private static Plugin loaded(PluginLoadEvent event, Plugin plugin) {
+    event.end();
+
+    if(event.shouldCommit()) {
+      event.plugin = plugin.getName();
+      event.typeCount = plugin.getTypes().size();
+      event.commit();
+    }
+
+    return plugin;
+  }
+
   private Plugin createPlugin(String name, List<Type> types, ClassLoader classLoader) throws AutoDiscoveryException, DefinitionException, DependencyException {
     Plugin plugin = new Plugin(name, types, classLoader);
 
@@ -140,23 +491,148 @@ public class PluginManager {
     return plugin;
   }
 
+  private static class ClassEntry {
+    final Set<String> referencedClassNames;
+    final byte[] digest;
+
+    ClassEntry(Set<String> referencedClassNames, byte[] digest) {
+      this.referencedClassNames = referencedClassNames;
+      this.digest = digest;
+    }
+  }
+
   static class UnloadTrackingClassLoader extends URLClassLoader {
+    private static final Cleaner CLEANER = Cleaner.create();
+
     private final AtomicBoolean unloaded = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicInteger references = new AtomicInteger(1);  // this loader and each loader reusing classes it defined
+    private final Map<URL, String> fingerprints = new HashMap<>();  // only file metadata, the class files are only read when reloading
+    private final Map<String, Class<?>> reusedClasses;
+    private final Set<UnloadTrackingClassLoader> retainedClassLoaders;
 
     public UnloadTrackingClassLoader(URL[] urls) {
-      super(urls);
+      this(urls, Map.of());
     }
 
     public UnloadTrackingClassLoader(URL[] urls, ClassLoader parent) {
       super(urls, parent);
+
+      this.reusedClasses = Map.of();
+      this.retainedClassLoaders = Set.of();
+
+      recordFingerprints(urls);
+      CLEANER.register(this, markUnloaded(unloaded));
     }
 
-    @SuppressWarnings("deprecation")
+    /**
+     * Constructs a new instance which returns the given classes instead of
+     * loading them again. The class loaders which defined the given classes
+     * are kept open until this class loader is closed, so the given classes
+     * can still load the classes and resources they need.
+     *
+     * @param urls an array of {@link URL}s, cannot be {@code null}
+     * @param reusedClasses a map of class name to {@link Class} of classes to reuse, cannot be {@code null}
+     */
+    UnloadTrackingClassLoader(URL[] urls, Map<String, Class<?>> reusedClasses) {
+      super(urls);
+
+      this.reusedClasses = Map.copyOf(reusedClasses);
+      this.retainedClassLoaders = reusedClasses.values().stream()
+        .map(Class::getClassLoader)
+        .map(UnloadTrackingClassLoader.class::cast)
+        .collect(Collectors.toSet());
+
+      for(UnloadTrackingClassLoader classLoader : retainedClassLoaders) {
+        classLoader.references.incrementAndGet();
+      }
+
+      recordFingerprints(urls);
+      CLEANER.register(this, markUnloaded(unloaded));
+    }
+
+    /**
+     * Closes this class loader. If classes it defined are still reused by another
+     * class loader, it is only closed when the last of those is closed.
+     *
+     * @throws IOException when an I/O error occurs
+     */
     @Override
-    protected void finalize() throws Throwable {
-      super.finalize();
+    public void close() throws IOException {
+      if(closed.compareAndSet(false, true)) {
+        release();
+      }
+    }
+
+    private void release() throws IOException {
+      if(references.decrementAndGet() > 0) {
+        return;
+      }
+
+      try {
+        super.close();
+      }
+      finally {
+        for(UnloadTrackingClassLoader classLoader : retainedClassLoaders) {
+          classLoader.release();
+        }
+      }
+    }
+
+    private void recordFingerprints(URL[] urls) {
+      for(URL url : urls) {
+        fingerprints.put(url, fingerprint(url));
+      }
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      Class<?> cls = reusedClasses.get(name);
+
+      if(cls != null) {
+        return cls;
+      }
+
+      return super.loadClass(name, resolve);
+    }
+
+    /**
+     * Returns the {@link URL}s of this class loader of which the contents appear
+     * unchanged since this class loader was created.
+     *
+     * @return an array of {@link URL}s, never {@code null}
+     */
+    URL[] getUnchangedURLs() {
+      return Arrays.stream(getURLs())
+        .filter(url -> fingerprints.get(url) != null && fingerprints.get(url).equals(fingerprint(url)))
+        .toArray(URL[]::new);
+    }
+
+    /**
+     * Returns the class with the given name if it was loaded from the {@link URL}s
+     * of this class loader, or reused by it.
+     *
+     * @param name a class name, cannot be {@code null}
+     * @return a {@link Class}, or {@code null} if the class was not loaded
+     */
+    Class<?> getLoadedClass(String name) {
+      Class<?> cls = reusedClasses.get(name);
+
+      if(cls != null) {
+        return cls;
+      }
+
+      cls = findLoadedClass(name);
+
+      return cls != null && cls.getClassLoader() == this ? cls : null;
+    }
 
-      unloaded.set(true);
+    /*
+     * The cleaning action must not refer to the class loader itself, or it would
+     * never become phantom reachable.
+     */
+    private static Runnable markUnloaded(AtomicBoolean unloaded) {
+      return () -> unloaded.set(true);
     }
 
     public AtomicBoolean getUnloadedAtomicBoolean() {
@@ -0,0 +1,24 @@
+package org.int4.dirk.plugins;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted when a plugin was unloaded by a {@link PluginManager}.
+ */
+@Name("org.int4.dirk.PluginUnload")
+@Label("Plugin Unload")
+@Category({"Dirk", "Plugins"})
+@Description("Unloading of a plugin and the removal of its types")
+class PluginUnloadEvent extends Event {
+
+  @Label("Plugin")
+  String plugin;
+
+  @Label("Type Count")
+  @Description("Number of types removed")
+  int typeCount;
+}
@@ -0,0 +1,114 @@
+package org.int4.dirk.plugins;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.int4.dirk.annotations.Produces;
+import org.int4.dirk.plugins.test.project.TestDatabase;
+import org.int4.dirk.plugins.test.project.TestStatementProducer;
+import org.junit.jupiter.api.Test;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassFileScannerTest {
+  private final ClassFileScanner scanner = new ClassFileScanner(
+    names(Named.class, Singleton.class),
+    names(Inject.class, Produces.class),
+    names(Inject.class, Produces.class),
+    names(Inject.class)
+  );
+
+  @Test
+  void readShouldExtractModifiersSuperTypesAndAnnotations() throws Exception {
+    ClassFile classFile = read(Example.class);
+
+    assertThat(classFile.getName()).isEqualTo(Example.class.getName());
+    assertThat(classFile.getSuperName()).isEqualTo(Object.class.getName());
+    assertThat(classFile.getInterfaceNames()).containsExactly(Supplier.class.getName(), Serializable.class.getName());
+    assertThat(classFile.isAbstract()).isFalse();
+    assertThat(classFile.getTypeAnnotations()).containsExactly(Named.class.getName());
+    assertThat(classFile.getFieldAnnotations()).containsExactly(Inject.class.getName());
+    assertThat(classFile.getMethodAnnotations()).containsExactly(Produces.class.getName());
+    assertThat(classFile.getConstructorAnnotations()).isEmpty();
+
+    assertThat(read(TestDatabase.class).getTypeAnnotations()).containsExactly(Singleton.class.getName());
+    assertThat(read(TestStatementProducer.class).getMethodAnnotations()).containsExactly(Produces.class.getName());
+    assertThat(read(Supplier.class).isAbstract()).isTrue();
+    assertThat(read(Named.class).isAnnotation()).isTrue();
+  }
+
+  @Test
+  void scanShouldFindSameComponentsAsReflections() throws Exception {
+    Path jar = Path.of(getClass().getResource("/plugins/dirk-test-plugin-1.0.0-SNAPSHOT.jar").toURI());
+    Path directory = Path.of(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+
+    assertThat(scanner.scan(jar)).isNotEmpty().isEqualTo(scanWithReflections(jar));
+    assertThat(scanner.scan(directory)).isNotEmpty().isEqualTo(scanWithReflections(directory));
+  }
+
+  private static Set<String> scanWithReflections(Path path) throws Exception {
+    ComponentScannerFactory factory = new ComponentScannerFactory(
+      new AnnotatedElement[] {Named.class, Singleton.class},
+      new AnnotatedElement[] {Inject.class, Produces.class},
+      new AnnotatedElement[] {Inject.class, Produces.class},
+      new AnnotatedElement[] {Inject.class}
+    );
+
+    Reflections reflections = new Reflections(new ConfigurationBuilder().addUrls(path.toUri().toURL()).setScanners(Scanners.TypesAnnotated, Scanners.FieldsAnnotated, Scanners.MethodsAnnotated, Scanners.ConstructorsAnnotated));
+
+    try(URLClassLoader classLoader = new URLClassLoader(new URL[] {path.toUri().toURL()}, ClassFileScannerTest.class.getClassLoader())) {
+      Set<String> names = new HashSet<>();
+
+      for(String name : reflections.get(factory.getScanDefinition())) {
+        if(!Modifier.isAbstract(Class.forName(name, false, classLoader).getModifiers())) {
+          names.add(name);
+        }
+      }
+
+      return names;
+    }
+  }
+
+  private static ClassFile read(Class<?> cls) throws Exception {
+    try(InputStream in = ClassLoader.getSystemResourceAsStream(cls.getName().replace('.', '/') + ".class")) {
+      return ClassFile.read(in);
+    }
+  }
+
+  private static Set<String> names(Class<?>... classes) {
+    return Arrays.stream(classes).map(Class::getName).collect(Collectors.toSet());
+  }
+
+  @Named
+  @SuppressWarnings("serial")
+  public static class Example implements Supplier<String>, Serializable {
+    @Inject String value;
+
+    @Produces
+    Integer produce() {
+      return 1;
+    }
+
+    @Override
+    public String get() {
+      return value;
+    }
+  }
+}
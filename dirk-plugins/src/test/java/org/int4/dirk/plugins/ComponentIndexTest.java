@@ -0,0 +1,70 @@
+package org.int4.dirk.plugins;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComponentIndexTest {
+  @TempDir Path temporaryDirectory;
+
+  @Test
+  void findShouldApplyMetaAnnotationsDeclaredInOtherJars() throws IOException {
+    URL annotationJar = createJar("annotations.jar", Service.class);
+    URL componentJar = createJar("components.jar", ServiceComponent.class, PlainClass.class);
+    ClassFileScanner scanner = new ClassFileScanner(Set.of(Singleton.class.getName()), Set.of(), Set.of(), Set.of());
+
+    assertThat(new ComponentIndex(null, scanner, url -> Set.of()).find(annotationJar, componentJar)).containsExactly(ServiceComponent.class.getName());
+
+    ComponentIndex index = new ComponentIndex(temporaryDirectory.resolve("index"), scanner, url -> Set.of());
+
+    assertThat(index.find(annotationJar, componentJar)).containsExactly(ServiceComponent.class.getName());
+    assertThat(temporaryDirectory.resolve("index")).isDirectoryContaining("glob:**.idx");
+    assertThat(index.find(componentJar, annotationJar)).containsExactly(ServiceComponent.class.getName());  // from index
+  }
+
+  private URL createJar(String name, Class<?>... classes) throws IOException {
+    Path jar = temporaryDirectory.resolve(name);
+
+    try(JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      for(Class<?> cls : classes) {
+        String resourceName = cls.getName().replace('.', '/') + ".class";
+
+        out.putNextEntry(new JarEntry(resourceName));
+
+        try(InputStream in = ClassLoader.getSystemResourceAsStream(resourceName)) {
+          in.transferTo(out);
+        }
+
+        out.closeEntry();
+      }
+    }
+
+    return jar.toUri().toURL();
+  }
+
+  @Singleton
+  @Retention(RetentionPolicy.RUNTIME)
+  public @interface Service {
+  }
+
+  @Service
+  public static class ServiceComponent {
+  }
+
+  public static class PlainClass {
+  }
+}
@@ -1,14 +1,24 @@
 package org.int4.dirk.plugins;
 
+import java.lang.reflect.Type;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.int4.dirk.api.Injector;
 import org.int4.dirk.api.definition.AmbiguousDependencyException;
 import org.int4.dirk.api.definition.AmbiguousRequiredDependencyException;
+import org.int4.dirk.api.definition.UnsatisfiedRequiredDependencyException;
 import org.int4.dirk.api.instantiation.UnsatisfiedResolutionException;
 import org.int4.dirk.jsr330.Injectors;
 import org.int4.dirk.test.plugin.Database;
@@ -17,6 +27,7 @@ import org.int4.dirk.test.plugin.TextStyler;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -96,6 +107,31 @@ public class PluginManagerTest {
     assertTrue(injector.contains(TextStyler.class));  // assert that this didn't get unregistered
   }
 
+  @Test
+  public void shouldFindReferencesToUnloadedPlugin() throws Exception {
+    injector.register(TextStyler.class);
+
+    Plugin plugin = pluginManager.loadPluginAndScan(PLUGIN_URL);
+
+    assertThat(pluginManager.findLeaks(plugin, injector)).isNotEmpty();  // not unloaded yet, so injector refers to plugin
+
+    BeanWithTextProviders bean = injector.getInstance(BeanWithTextProviders.class);
+
+    pluginManager.unload(plugin);
+
+    assertThat(pluginManager.findLeaks(plugin, injector)).isEmpty();
+    assertThat(pluginManager.findLeaks(plugin, injector, List.of(bean)))
+      .isNotEmpty()
+      .allMatch(path -> path.contains("[0].textProviders["));
+
+    bean = null;
+
+    waitForPluginUnload(plugin);
+
+    assertTrue(plugin.isUnloaded());
+    assertThat(pluginManager.findLeaks(plugin, injector)).isEmpty();
+  }
+
   @Test
   public void shouldLoadPluginAgainAfterUnload() throws Exception {
     assertThrows(UnsatisfiedResolutionException.class, () -> injector.getInstance(Database.class));
@@ -126,6 +162,198 @@ public class PluginManagerTest {
     assertTrue(injector.contains(TextStyler.class));  // assert that this didn't get unregistered
   }
 
+  @Test
+  public void shouldLoadMultiplePluginsAtOnce(@TempDir Path emptyDirectory) throws Exception {
+    injector.register(TextStyler.class);
+
+    List<Plugin> plugins = pluginManager.loadPlugins(List.of(new URL[] {PLUGIN_URL}, new URL[] {emptyDirectory.toUri().toURL()}));
+
+    assertThat(plugins).hasSize(2);
+    assertThat(plugins.get(0).getTypes()).extracting(Type::getTypeName).contains("org.int4.dirk.test.textprovider.FancyTextProvider");
+    assertThat(plugins.get(1).getTypes()).isEmpty();
+    assertThat(injector.getInstance(BeanWithTextProviders.class).getTextProviders()).hasSize(3);
+
+    pluginManager.unload(plugins.get(1));
+    pluginManager.unload(plugins.get(0));
+
+    assertThat(injector.getInstance(BeanWithTextProviders.class).getTextProviders()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotLoadAnyPluginWhenRegistrationFails(@TempDir Path emptyDirectory) throws Exception {
+    injector.register(TextStyler.class);
+    injector.register(DatabaseBean.class);  // Provides Database
+    injector.register(BeanWithDatabase.class);  // Requires an unambiguous Database dependency
+
+    assertThatThrownBy(() -> pluginManager.loadPlugins(List.of(new URL[] {emptyDirectory.toUri().toURL()}, new URL[] {PLUGIN_URL})))
+      .isExactlyInstanceOf(AmbiguousRequiredDependencyException.class);
+
+    assertThat(injector.getInstance(BeanWithTextProviders.class).getTextProviders()).isEmpty();
+  }
+
+  @Test
+  public void shouldReuseIndexOfUnchangedJar(@TempDir Path indexDirectory) throws Exception {
+    pluginManager = new PluginManager(new DefaultComponentScannerFactory(), injector.getCandidateRegistry(), indexDirectory);
+
+    injector.register(TextStyler.class);
+
+    Plugin plugin = pluginManager.loadPluginAndScan(PLUGIN_URL);
+
+    assertThat(plugin.getTypes()).extracting(Type::getTypeName).contains("org.int4.dirk.test.textprovider.FancyTextProvider", "org.int4.dirk.test.textprovider.StyledTextProvider");
+
+    pluginManager.unload(plugin);
+
+    List<Path> indexFiles;
+
+    try(Stream<Path> stream = Files.list(indexDirectory)) {
+      indexFiles = stream.collect(Collectors.toList());
+    }
+
+    assertThat(indexFiles).hasSize(1);
+
+    List<String> lines = Files.readAllLines(indexFiles.get(0));
+
+    // Drop all class files from the index except the header and FancyTextProvider, to prove the index is used:
+    Files.write(indexFiles.get(0), lines.stream().filter(line -> line.startsWith("dirk-component-index ") || line.contains(" org.int4.dirk.test.textprovider.FancyTextProvider ")).collect(Collectors.toList()));
+
+    plugin = pluginManager.loadPluginAndScan(PLUGIN_URL);
+
+    assertThat(plugin.getTypes()).extracting(Type::getTypeName).containsExactly("org.int4.dirk.test.textprovider.FancyTextProvider");
+
+    pluginManager.unload(plugin);
+  }
+
+  @Test
+  public void shouldReloadOnlyChangedTypes(@TempDir Path tempDir) throws Exception {
+    Path jar = tempDir.resolve("plugin.jar");
+    Path changedJar = tempDir.resolve("plugin-changed.jar");
+
+    Files.copy(Path.of(PLUGIN_URL.toURI()), jar);
+    Files.copy(jar, changedJar);
+
+    try(FileSystem fileSystem = FileSystems.newFileSystem(changedJar, (ClassLoader)null)) {
+      Path path = fileSystem.getPath("org/int4/dirk/test/textprovider/FancyTextProvider.class");
+      byte[] bytes = Files.readAllBytes(path);
+
+      Files.write(path, new String(bytes, StandardCharsets.ISO_8859_1).replace("Fancy Text", "Fancy Tex!").getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    injector.register(TextStyler.class);
+
+    Plugin plugin = pluginManager.loadPluginAndScan(jar.toUri().toURL());
+    Database db1 = injector.getInstance(Database.class);
+
+    assertThat(extractTextsFromBeanWithTextProviders(injector.getInstance(BeanWithTextProviders.class))).contains("Fancy Text");
+
+    Plugin reloadedPlugin = pluginManager.reload(plugin, changedJar.toUri().toURL());
+
+    assertThat(extractTextsFromBeanWithTextProviders(injector.getInstance(BeanWithTextProviders.class))).containsExactlyInAnyOrder("Fancy Tex!", "NORMAL TEXT", ">>Styled Text<<");
+    assertThat(injector.getInstance(Database.class).getClass()).isSameAs(db1.getClass());  // unchanged, so reused
+    assertThat(plugin.getTypes()).isNull();
+
+    pluginManager.unload(reloadedPlugin);
+
+    assertThrows(UnsatisfiedResolutionException.class, () -> injector.getInstance(Database.class));
+  }
+
+  @Test
+  public void shouldReloadChangedTypesOfJarReplacedAtSameUrl(@TempDir Path tempDir) throws Exception {
+    Path jar = tempDir.resolve("plugin.jar");
+    Path changedJar = tempDir.resolve("plugin-changed.jar");
+
+    Files.copy(Path.of(PLUGIN_URL.toURI()), jar);
+    Files.copy(jar, changedJar);
+
+    try(FileSystem fileSystem = FileSystems.newFileSystem(changedJar, (ClassLoader)null)) {
+      Path path = fileSystem.getPath("org/int4/dirk/test/textprovider/FancyTextProvider.class");
+      byte[] bytes = Files.readAllBytes(path);
+
+      Files.write(path, new String(bytes, StandardCharsets.ISO_8859_1).replace("Fancy Text", "Fancy Tex!").getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    injector.register(TextStyler.class);
+
+    Plugin plugin = pluginManager.loadPluginAndScan(jar.toUri().toURL());
+    Database db1 = injector.getInstance(Database.class);
+
+    assertThat(extractTextsFromBeanWithTextProviders(injector.getInstance(BeanWithTextProviders.class))).contains("Fancy Text");
+
+    Files.copy(changedJar, jar, StandardCopyOption.REPLACE_EXISTING);
+
+    Plugin reloadedPlugin = pluginManager.reload(plugin, jar.toUri().toURL());
+
+    assertThat(extractTextsFromBeanWithTextProviders(injector.getInstance(BeanWithTextProviders.class))).containsExactlyInAnyOrder("Fancy Tex!", "NORMAL TEXT", ">>Styled Text<<");
+    assertThat(injector.getInstance(Database.class).getClass()).isNotSameAs(db1.getClass());  // jar changed since it was loaded, so nothing is reused
+    assertThat(injector.getInstance(Database.class).getClass().getClassLoader()).isSameAs(reloadedPlugin.getClassLoader());
+
+    pluginManager.unload(reloadedPlugin);
+  }
+
+  @Test
+  public void shouldKeepResourcesOfReusedClassesAvailableAfterReload(@TempDir Path tempDir) throws Exception {
+    Path jar = tempDir.resolve("plugin.jar");
+    Path changedJar = tempDir.resolve("plugin-changed.jar");
+
+    createJarWithChangedTextProvider(jar, changedJar);
+
+    injector.register(TextStyler.class);
+
+    Plugin plugin = pluginManager.loadPluginAndScan(jar.toUri().toURL());
+    Class<?> databaseClass = injector.getInstance(Database.class).getClass();
+
+    Plugin reloadedPlugin = pluginManager.reload(plugin, changedJar.toUri().toURL());
+
+    assertThat(injector.getInstance(Database.class).getClass()).isSameAs(databaseClass);  // unchanged, so reused
+    assertThat(databaseClass.getResource(databaseClass.getSimpleName() + ".class")).isNotNull();  // its class loader is still open
+
+    pluginManager.unload(reloadedPlugin);
+
+    assertThat(databaseClass.getResource(databaseClass.getSimpleName() + ".class")).isNull();  // closed with the reloaded plugin
+  }
+
+  @Test
+  public void shouldRecreateSingletonDependingOnReplacedTypeAfterReload(@TempDir Path tempDir) throws Exception {
+    Path jar = tempDir.resolve("plugin.jar");
+    Path changedJar = tempDir.resolve("plugin-changed.jar");
+
+    createJarWithChangedTextProvider(jar, changedJar);
+
+    injector.register(TextStyler.class);
+
+    Plugin plugin = pluginManager.loadPluginAndScan(jar.toUri().toURL());
+
+    injector.register(SingletonBeanWithTextProviders.class);
+
+    SingletonBeanWithTextProviders bean = injector.getInstance(SingletonBeanWithTextProviders.class);
+
+    assertThat(bean.getTextProviders()).extracting(TextProvider::provideText).contains("Fancy Text");
+
+    Plugin reloadedPlugin = pluginManager.reload(plugin, changedJar.toUri().toURL());
+    SingletonBeanWithTextProviders reloadedBean = injector.getInstance(SingletonBeanWithTextProviders.class);
+
+    assertThat(reloadedBean).isNotSameAs(bean);
+    assertThat(reloadedBean.getTextProviders()).extracting(TextProvider::provideText).contains("Fancy Tex!").doesNotContain("Fancy Text");
+    assertThat(injector.getInstance(SingletonBeanWithTextProviders.class)).isSameAs(reloadedBean);
+
+    injector.remove(SingletonBeanWithTextProviders.class);
+    pluginManager.unload(reloadedPlugin);
+  }
+
+  @Test
+  public void shouldKeepPluginWhenReloadFails(@TempDir Path tempDir) throws Exception {
+    injector.register(TextStyler.class);
+
+    Plugin plugin = pluginManager.loadPluginAndScan(PLUGIN_URL);
+
+    injector.register(BeanWithDatabase.class);  // requires the Database provided by the plugin
+
+    assertThatThrownBy(() -> pluginManager.reload(plugin, tempDir.toUri().toURL()))  // reloads as empty plugin
+      .isExactlyInstanceOf(UnsatisfiedRequiredDependencyException.class);
+
+    assertThat(plugin.getTypes()).isNotEmpty();
+    assertNotNull(injector.getInstance(BeanWithDatabase.class));
+  }
+
   @Test
   public void shouldNotLoadPluginWhenLoadingWouldViolateSingularDependencies() throws Exception {
     injector.register(DatabaseBean.class);  // Provides Database
@@ -155,6 +383,18 @@ public class PluginManagerTest {
     assertNotNull(injector.getInstance(BeanWithDatabase.class));
   }
 
+  private static void createJarWithChangedTextProvider(Path jar, Path changedJar) throws Exception {
+    Files.copy(Path.of(PLUGIN_URL.toURI()), jar);
+    Files.copy(jar, changedJar);
+
+    try(FileSystem fileSystem = FileSystems.newFileSystem(changedJar, (ClassLoader)null)) {
+      Path path = fileSystem.getPath("org/int4/dirk/test/textprovider/FancyTextProvider.class");
+      byte[] bytes = Files.readAllBytes(path);
+
+      Files.write(path, new String(bytes, StandardCharsets.ISO_8859_1).replace("Fancy Text", "Fancy Tex!").getBytes(StandardCharsets.ISO_8859_1));
+    }
+  }
+
   private static List<String> extractTextsFromBeanWithTextProviders(BeanWithTextProviders bean) {
     List<String> texts = new ArrayList<>();
 
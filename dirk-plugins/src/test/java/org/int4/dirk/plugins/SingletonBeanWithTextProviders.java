@@ -0,0 +1,19 @@
+package org.int4.dirk.plugins;
+
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.int4.dirk.test.plugin.TextProvider;
+
+@Singleton
+public class SingletonBeanWithTextProviders {
+
+  @Inject
+  private Set<TextProvider> textProviders;
+
+  public Set<TextProvider> getTextProviders() {
+    return textProviders;
+  }
+}
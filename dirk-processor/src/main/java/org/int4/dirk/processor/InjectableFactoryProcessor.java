@@ -0,0 +1,323 @@
+package org.int4.dirk.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Annotation processor which generates a factory for each concrete class with
+ * inject annotated constructors, fields or methods. The generated factories
+ * construct and inject their class without the use of reflection.
+ *
+ * <p>A factory is only generated when all injection points of the class are
+ * accessible from the package of the class. Classes for which no factory could
+ * be generated are constructed using reflection as usual.
+ */
+@SupportedAnnotationTypes({"javax.inject.Inject", "jakarta.inject.Inject"})
+public class InjectableFactoryProcessor extends AbstractProcessor {
+  private static final String GENERATED_FACTORY = "org.int4.dirk.core.definition.factory.GeneratedFactory";
+  private static final String SUFFIX = "_DirkFactory";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    Set<TypeElement> typeElements = new LinkedHashSet<>();
+
+    for(TypeElement annotation : annotations) {
+      for(Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        Element enclosingElement = element.getEnclosingElement();
+
+        if(enclosingElement.getKind() == ElementKind.CLASS) {
+          typeElements.add((TypeElement)enclosingElement);
+        }
+      }
+    }
+
+    for(TypeElement typeElement : typeElements) {
+      Factory factory = createFactory(typeElement);
+
+      if(factory == null) {
+        processingEnv.getMessager().printMessage(Kind.NOTE, "No factory generated as not all injection points are accessible", typeElement);
+      }
+      else {
+        write(factory);
+      }
+    }
+
+    return false;
+  }
+
+  private Factory createFactory(TypeElement typeElement) {
+    if(!isInstantiable(typeElement)) {
+      return null;
+    }
+
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(typeElement);
+    Factory factory = new Factory(typeElement, packageElement);
+    ExecutableElement constructor = findConstructor(typeElement);
+
+    if(constructor == null || !isAccessible(constructor, packageElement)) {
+      return null;
+    }
+
+    factory.construction = "new " + erasure(typeElement.asType()) + "(" + arguments(factory, constructor) + ")";
+
+    List<TypeElement> hierarchy = new ArrayList<>();
+
+    for(TypeElement current = typeElement; current != null; current = superclassOf(current)) {
+      hierarchy.add(0, current);
+    }
+
+    for(TypeElement current : hierarchy) {  // superclasses first, like when injecting with reflection
+      for(VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        if(isInjectAnnotated(field)) {
+          if(!isAccessible(field, packageElement) || field.getModifiers().contains(Modifier.FINAL)) {
+            return null;
+          }
+
+          int slot = factory.addInjectionPoint(binaryName(current) + "#" + field.getSimpleName());
+
+          String target = current.equals(typeElement) ? "instance" : "((" + erasure(current.asType()) + ")instance)";  // cast to access hidden fields
+
+          factory.injections.add("if(values[" + slot + "] != null) {\n      " + target + "." + field.getSimpleName() + " = " + cast(field.asType()) + "values[" + slot + "];\n    }");
+        }
+      }
+
+      for(ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+        if(isInjectAnnotated(method) && !isOverridden(method, typeElement)) {
+          if(!isAccessible(method, packageElement) || method.getParameters().isEmpty()) {
+            return null;
+          }
+
+          factory.injections.add("instance." + method.getSimpleName() + "(" + arguments(factory, method) + ");");
+        }
+      }
+    }
+
+    return factory;
+  }
+
+  private String arguments(Factory factory, ExecutableElement executable) {
+    String name = executable.getKind() == ElementKind.CONSTRUCTOR ? "<init>" : executable.getSimpleName().toString();
+    String prefix = binaryName((TypeElement)executable.getEnclosingElement()) + "#" + name + executable.getParameters().stream()
+      .map(p -> binaryName(p.asType()))
+      .collect(Collectors.joining(",", "(", ")")) + "#";
+
+    List<String> arguments = new ArrayList<>();
+
+    for(int i = 0; i < executable.getParameters().size(); i++) {
+      int slot = factory.addInjectionPoint(prefix + i);
+
+      arguments.add(cast(executable.getParameters().get(i).asType()) + "values[" + slot + "]");
+    }
+
+    return String.join(", ", arguments);
+  }
+
+  private void write(Factory factory) {
+    String simpleName = binaryName(factory.typeElement).substring(factory.packageName.isEmpty() ? 0 : factory.packageName.length() + 1) + SUFFIX;
+    String typeName = erasure(factory.typeElement.asType());
+    StringBuilder builder = new StringBuilder();
+
+    if(!factory.packageName.isEmpty()) {
+      builder.append("package ").append(factory.packageName).append(";\n\n");
+    }
+
+    builder.append("/**\n * Generated factory for {@link ").append(typeName).append("}.\n */\n");
+    builder.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+    builder.append("public final class ").append(simpleName).append(" implements ").append(GENERATED_FACTORY).append("<").append(typeName).append("> {\n");
+    builder.append("  private static final java.util.List<String> INJECTION_POINTS = java.util.List.of(");
+    builder.append(factory.injectionPoints.stream().map(p -> "\n    \"" + p + "\"").collect(Collectors.joining(",")));
+    builder.append(factory.injectionPoints.isEmpty() ? "" : "\n  ").append(");\n\n");
+    builder.append("  @Override\n");
+    builder.append("  public java.util.List<String> getInjectionPoints() {\n");
+    builder.append("    return INJECTION_POINTS;\n");
+    builder.append("  }\n\n");
+    builder.append("  @Override\n");
+    builder.append("  public ").append(typeName).append(" create(Object[] values) throws Exception {\n");
+    builder.append("    ").append(typeName).append(" instance = ").append(factory.construction).append(";\n\n");
+
+    for(String injection : factory.injections) {
+      builder.append("    ").append(injection).append("\n");
+    }
+
+    builder.append("\n    return instance;\n");
+    builder.append("  }\n");
+    builder.append("}\n");
+
+    String qualifiedName = factory.packageName.isEmpty() ? simpleName : factory.packageName + "." + simpleName;
+
+    try(Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, factory.typeElement).openWriter()) {
+      writer.write(builder.toString());
+    }
+    catch(IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR, "Unable to write generated factory " + qualifiedName + ": " + e, factory.typeElement);
+    }
+  }
+
+  private static boolean isInstantiable(TypeElement typeElement) {
+    for(Element element = typeElement; element instanceof TypeElement; element = element.getEnclosingElement()) {
+      TypeElement type = (TypeElement)element;
+
+      if(type.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      if(type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+        return false;
+      }
+      if(type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+        return false;
+      }
+    }
+
+    return !typeElement.getModifiers().contains(Modifier.ABSTRACT);
+  }
+
+  private ExecutableElement findConstructor(TypeElement typeElement) {
+    ExecutableElement annotatedConstructor = null;
+    ExecutableElement defaultConstructor = null;
+
+    for(ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+      if(isInjectAnnotated(constructor)) {
+        if(annotatedConstructor != null) {
+          return null;
+        }
+
+        annotatedConstructor = constructor;
+      }
+      else if(constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+        defaultConstructor = constructor;
+      }
+    }
+
+    return annotatedConstructor == null ? defaultConstructor : annotatedConstructor;
+  }
+
+  /*
+   * Returns whether the given method is overridden by a method of the given type or
+   * one of its superclasses. Only the overriding method is injected, and only if it
+   * is inject annotated itself.
+   */
+  private boolean isOverridden(ExecutableElement method, TypeElement typeElement) {
+    for(TypeElement current = typeElement; !current.equals(method.getEnclosingElement()); current = superclassOf(current)) {
+      for(ExecutableElement candidate : ElementFilter.methodsIn(current.getEnclosedElements())) {
+        if(processingEnv.getElementUtils().overrides(candidate, method, typeElement)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private TypeElement superclassOf(TypeElement typeElement) {
+    TypeMirror superclass = typeElement.getSuperclass();
+
+    return superclass.getKind() == TypeKind.DECLARED ? (TypeElement)((DeclaredType)superclass).asElement() : null;
+  }
+
+  private boolean isAccessible(Element element, PackageElement packageElement) {
+    Set<Modifier> modifiers = element.getModifiers();
+
+    if(modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+      return false;
+    }
+
+    return modifiers.contains(Modifier.PUBLIC) || processingEnv.getElementUtils().getPackageOf(element).equals(packageElement);
+  }
+
+  private static boolean isInjectAnnotated(Element element) {
+    for(AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+      String name = ((TypeElement)annotationMirror.getAnnotationType().asElement()).getQualifiedName().toString();
+
+      if(name.equals("javax.inject.Inject") || name.equals("jakarta.inject.Inject")) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private String cast(TypeMirror typeMirror) {
+    TypeMirror type = processingEnv.getTypeUtils().erasure(typeMirror);
+
+    if(type.getKind().isPrimitive()) {
+      return "(" + processingEnv.getTypeUtils().boxedClass((PrimitiveType)type).getQualifiedName() + ")";
+    }
+
+    return "(" + type + ")";
+  }
+
+  private String erasure(TypeMirror typeMirror) {
+    return processingEnv.getTypeUtils().erasure(typeMirror).toString();
+  }
+
+  /*
+   * Returns the name of a type as returned by Class#getTypeName for its erasure.
+   */
+  private String binaryName(TypeMirror typeMirror) {
+    TypeMirror type = processingEnv.getTypeUtils().erasure(typeMirror);
+
+    if(type.getKind() == TypeKind.ARRAY) {
+      return binaryName(((ArrayType)type).getComponentType()) + "[]";
+    }
+    if(type.getKind() == TypeKind.DECLARED) {
+      return binaryName((TypeElement)((DeclaredType)type).asElement());
+    }
+
+    return type.toString();
+  }
+
+  private String binaryName(TypeElement typeElement) {
+    return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+  }
+
+  private static class Factory {
+    final TypeElement typeElement;
+    final String packageName;
+    final List<String> injectionPoints = new ArrayList<>();
+    final List<String> injections = new ArrayList<>();
+
+    String construction;
+
+    Factory(TypeElement typeElement, PackageElement packageElement) {
+      this.typeElement = typeElement;
+      this.packageName = packageElement.getQualifiedName().toString();
+    }
+
+    int addInjectionPoint(String injectionPoint) {
+      injectionPoints.add(injectionPoint);
+
+      return injectionPoints.size() - 1;
+    }
+  }
+}
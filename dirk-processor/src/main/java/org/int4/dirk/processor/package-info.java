@@ -0,0 +1,4 @@
+/**
+ * Provides an annotation processor which generates reflection free factories for injectable classes.
+ */
+package org.int4.dirk.processor;
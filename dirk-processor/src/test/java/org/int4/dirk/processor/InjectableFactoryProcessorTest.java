@@ -0,0 +1,223 @@
+package org.int4.dirk.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.int4.dirk.api.Injector;
+import org.int4.dirk.core.definition.factory.GeneratedFactory;
+import org.int4.dirk.di.Injectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+public class InjectableFactoryProcessorTest {
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void shouldGenerateFactoryWhichIsUsedForConstruction() throws Exception {
+    compile(Map.of(
+      "a/Greeter.java",
+      "package a;\n"
+      + "import jakarta.inject.Inject;\n"
+      + "public class Greeter implements java.util.function.Supplier<String> {\n"
+      + "  @Inject String greeting;\n"
+      + "  @Inject int count = 5;\n"
+      + "  private final Name name;\n"
+      + "  private String suffix;\n"
+      + "  @Inject Greeter(Name name) { this.name = name; }\n"
+      + "  @Inject void setSuffix(String suffix, Long id) { this.suffix = suffix; }\n"
+      + "  public String get() { return greeting + \" \" + name.value + suffix + count; }\n"
+      + "  public static class Name {\n"
+      + "    @Inject Long id;\n"
+      + "    String value = \"World\";\n"
+      + "  }\n"
+      + "}\n"
+    ));
+
+    assertThat(tempDir.resolve("a/Greeter_DirkFactory.class")).exists();
+    assertThat(tempDir.resolve("a/Greeter$Name_DirkFactory.class")).exists();
+
+    RecordingClassLoader classLoader = new RecordingClassLoader(tempDir);
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("Hello");
+    injector.registerInstance(42L);
+    injector.registerInstance(7);
+    injector.register(List.of(classLoader.loadClass("a.Greeter"), classLoader.loadClass("a.Greeter$Name")));
+
+    Supplier<?> greeter = (Supplier<?>)injector.getInstance(classLoader.loadClass("a.Greeter"));
+
+    assertThat(greeter.get()).isEqualTo("Hello WorldHello7");
+    assertThat(classLoader.loadedClasses).contains("a.Greeter_DirkFactory", "a.Greeter$Name_DirkFactory");
+  }
+
+  @Test
+  void shouldNotMixUpFactoriesOfNestedAndTopLevelClassesWithSimilarNames() throws Exception {
+    compile(Map.of(
+      "c/Outer.java",
+      "package c;\n"
+      + "public class Outer {\n"
+      + "  public static class Inner implements java.util.function.Supplier<String> {\n"
+      + "    @jakarta.inject.Inject String prefix;\n"
+      + "    public String get() { return prefix + \" nested\"; }\n"
+      + "  }\n"
+      + "}\n",
+      "c/Outer_Inner.java",
+      "package c;\n"
+      + "public class Outer_Inner implements java.util.function.Supplier<String> {\n"
+      + "  @jakarta.inject.Inject String prefix;\n"
+      + "  public String get() { return prefix + \" top level\"; }\n"
+      + "}\n"
+    ));
+
+    assertThat(tempDir.resolve("c/Outer$Inner_DirkFactory.class")).exists();
+    assertThat(tempDir.resolve("c/Outer_Inner_DirkFactory.class")).exists();
+
+    RecordingClassLoader classLoader = new RecordingClassLoader(tempDir);
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("a");
+    injector.register(List.of(classLoader.loadClass("c.Outer$Inner"), classLoader.loadClass("c.Outer_Inner")));
+
+    assertThat(((Supplier<?>)injector.getInstance(classLoader.loadClass("c.Outer$Inner"))).get()).isEqualTo("a nested");
+    assertThat(((Supplier<?>)injector.getInstance(classLoader.loadClass("c.Outer_Inner"))).get()).isEqualTo("a top level");
+    assertThat(classLoader.loadedClasses).contains("c.Outer$Inner_DirkFactory", "c.Outer_Inner_DirkFactory");
+  }
+
+  @Test
+  void shouldInjectSuperclassFirstAndOverriddenMethodsOnlyOnce() throws Exception {
+    compile(Map.of(
+      "d/Base.java",
+      "package d;\n"
+      + "import jakarta.inject.Inject;\n"
+      + "public abstract class Base {\n"
+      + "  public final java.util.List<String> log = new java.util.ArrayList<>();\n"
+      + "  @Inject String baseField;\n"
+      + "  @Inject void init(String value) { log.add(\"Base.init \" + baseField + \" \" + subField()); }\n"
+      + "  @Inject void overridden(String value) { log.add(\"Base.overridden\"); }\n"
+      + "  @Inject void overriddenWithoutInject(String value) { log.add(\"Base.overriddenWithoutInject\"); }\n"
+      + "  abstract String subField();\n"
+      + "}\n",
+      "d/Sub.java",
+      "package d;\n"
+      + "import jakarta.inject.Inject;\n"
+      + "public class Sub extends Base implements java.util.function.Supplier<java.util.List<String>> {\n"
+      + "  @Inject String subField;\n"
+      + "  @Inject void sub(String value) { log.add(\"Sub.sub \" + subField); }\n"
+      + "  @Override @Inject void overridden(String value) { log.add(\"Sub.overridden\"); }\n"
+      + "  @Override void overriddenWithoutInject(String value) { log.add(\"Sub.overriddenWithoutInject\"); }\n"
+      + "  String subField() { return subField; }\n"
+      + "  public java.util.List<String> get() { return log; }\n"
+      + "}\n"
+    ));
+
+    assertThat(tempDir.resolve("d/Sub_DirkFactory.class")).exists();
+
+    RecordingClassLoader classLoader = new RecordingClassLoader(tempDir);
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("a");
+    injector.register(classLoader.loadClass("d.Sub"));
+
+    List<Object> log = new ArrayList<>((List<?>)((Supplier<?>)injector.getInstance(classLoader.loadClass("d.Sub"))).get());
+
+    assertThat(log).hasSize(3);
+    assertThat(log.get(0)).isEqualTo("Base.init a null");  // superclass members are injected before subclass fields
+    assertThat(log.subList(1, 3)).containsExactlyInAnyOrder("Sub.sub a", "Sub.overridden");
+    assertThat(classLoader.loadedClasses).contains("d.Sub_DirkFactory");
+  }
+
+  @Test
+  void shouldNotGenerateFactoryWhenInjectionPointsAreInaccessible() throws Exception {
+    compile(Map.of(
+      "b/Hidden.java",
+      "package b;\n"
+      + "import jakarta.inject.Inject;\n"
+      + "public class Hidden implements java.util.function.Supplier<String> {\n"
+      + "  @Inject private String value;\n"
+      + "  public String get() { return value; }\n"
+      + "}\n"
+    ));
+
+    assertThat(tempDir.resolve("b/Hidden_DirkFactory.class")).doesNotExist();
+
+    RecordingClassLoader classLoader = new RecordingClassLoader(tempDir);
+    Injector injector = Injectors.manual();
+
+    injector.registerInstance("Hello");
+    injector.register(classLoader.loadClass("b.Hidden"));
+
+    assertThat(((Supplier<?>)injector.getInstance(classLoader.loadClass("b.Hidden"))).get()).isEqualTo("Hello");
+  }
+
+  private void compile(Map<String, String> sources) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    List<File> files = new ArrayList<>();
+
+    for(Map.Entry<String, String> entry : sources.entrySet()) {
+      Path path = tempDir.resolve(entry.getKey());
+
+      Files.createDirectories(path.getParent());
+      Files.writeString(path, entry.getValue());
+      files.add(path.toFile());
+    }
+
+    String classPath = Stream.of(GeneratedFactory.class, Inject.class)
+      .map(InjectableFactoryProcessorTest::locationOf)
+      .collect(Collectors.joining(File.pathSeparator));
+
+    try(StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+      CompilationTask task = compiler.getTask(null, fileManager, null, List.of("-classpath", classPath, "-d", tempDir.toString()), null, fileManager.getJavaFileObjectsFromFiles(files));
+
+      task.setProcessors(List.of(new InjectableFactoryProcessor()));
+
+      assertThat(task.call()).isTrue();
+    }
+  }
+
+  private static String locationOf(Class<?> cls) {
+    try {
+      return Path.of(cls.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+    catch(URISyntaxException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class RecordingClassLoader extends URLClassLoader {
+    final Set<String> loadedClasses = ConcurrentHashMap.newKeySet();
+
+    RecordingClassLoader(Path path) throws IOException {
+      super(new URL[] {path.toUri().toURL()}, InjectableFactoryProcessorTest.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      loadedClasses.add(name);
+
+      return super.findClass(name);
+    }
+  }
+}
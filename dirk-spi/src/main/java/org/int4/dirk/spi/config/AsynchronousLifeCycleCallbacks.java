@@ -0,0 +1,24 @@
+package org.int4.dirk.spi.config;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link LifeCycleCallbacks} of which the post construct life cycle phase
+ * is run asynchronously on an {@link Executor}.
+ *
+ * <p>Creation of an instance completes as soon as it is constructed and injected.
+ * The instance is only handed out after its post construct phase completed, either
+ * when injecting it into another instance, or when returning it from an instance
+ * resolver. Instances which do not depend on each other can therefore be
+ * initialized concurrently.
+ */
+public interface AsynchronousLifeCycleCallbacks extends LifeCycleCallbacks {
+
+  /**
+   * Returns the {@link Executor} on which the post construct life cycle phase
+   * is run.
+   *
+   * @return an {@link Executor}, never {@code null}
+   */
+  Executor getPostConstructExecutor();
+}
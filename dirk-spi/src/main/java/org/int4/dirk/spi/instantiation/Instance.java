@@ -3,6 +3,7 @@ package org.int4.dirk.spi.instantiation;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.int4.dirk.api.TypeLiteral;
 import org.int4.dirk.api.instantiation.AmbiguousResolutionException;
@@ -37,6 +38,31 @@ public interface Instance<T> {
    */
   T get() throws CreationException, UnsatisfiedResolutionException, AmbiguousResolutionException, ScopeNotActiveException;
 
+  /**
+   * Finds an instance of type {@code T}. If there are multiple matching instances
+   * an {@link AmbiguousResolutionException} exception is thrown. Regardless of whether the
+   * target for which this {@link Instance} was created is optional, an empty {@link Optional}
+   * is returned when there are no matches or when the scope of the match is not active.
+   *
+   * <p>For types provided by an injection target extension, like providers, this
+   * method behaves the same as {@link #get()}.
+   *
+   * <p>The default implementation calls {@link #get()}, and returns an empty {@link Optional}
+   * when it reports there are no matches or the scope of the match is not active.
+   *
+   * @return an {@link Optional} containing the instance, never {@code null}
+   * @throws CreationException when the creation of the instance failed
+   * @throws AmbiguousResolutionException when their are multiple potential instances
+   */
+  default Optional<T> find() throws CreationException, AmbiguousResolutionException {
+    try {
+      return Optional.ofNullable(get());
+    }
+    catch(UnsatisfiedResolutionException | ScopeNotActiveException e) {
+      return Optional.empty();
+    }
+  }
+
   /**
    * Creates all instances of type {@code T}. If the target for which this {@link Instance} was
    * created is optional, then {@code null} is returned when there are no matches, otherwise an
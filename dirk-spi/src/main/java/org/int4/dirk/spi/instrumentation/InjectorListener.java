@@ -0,0 +1,81 @@
+package org.int4.dirk.spi.instrumentation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Listener which is informed about the resolution, creation and registration work
+ * done by an injector, for example to find out which types dominate the time spent
+ * creating instances.
+ *
+ * <p>Callbacks are called synchronously on the thread doing the work. Implementations
+ * must be thread safe, should return quickly and must not call back into the injector.
+ * When no listener is installed, an injector does not collect any of this information.
+ */
+public interface InjectorListener {
+
+  /**
+   * Called when the injector starts resolving the candidates matching a type
+   * and qualifiers.
+   *
+   * @param type the {@link Type} being resolved, never {@code null}
+   * @param qualifiers a set of qualifier {@link Annotation}s, never {@code null} but can be empty
+   */
+  void resolveStarted(Type type, Set<Annotation> qualifiers);
+
+  /**
+   * Called when the injector finished resolving the candidates matching a type
+   * and qualifiers.
+   *
+   * @param type the {@link Type} being resolved, never {@code null}
+   * @param qualifiers a set of qualifier {@link Annotation}s, never {@code null} but can be empty
+   * @param count the number of candidates found
+   */
+  void resolveEnded(Type type, Set<Annotation> qualifiers, int count);
+
+  /**
+   * Called when the injector looked up an existing instance in a scope before
+   * creating one. Not called for dependent scoped types.
+   *
+   * @param type the {@link Type} of the candidate, never {@code null}
+   * @param qualifiers a set of qualifier {@link Annotation}s of the candidate, never {@code null} but can be empty
+   * @param scope the scope {@link Annotation}, never {@code null}
+   * @param hit {@code true} if an existing instance was found, otherwise {@code false}
+   */
+  void scopeLookup(Type type, Set<Annotation> qualifiers, Annotation scope, boolean hit);
+
+  /**
+   * Called when the injector created a new instance. The time includes
+   * the creation of any dependencies which did not exist yet.
+   *
+   * @param type the {@link Type} of the candidate, never {@code null}
+   * @param qualifiers a set of qualifier {@link Annotation}s of the candidate, never {@code null} but can be empty
+   * @param scope the scope {@link Annotation}, never {@code null}
+   * @param nanos the time in nanoseconds it took to create the instance
+   */
+  void instanceCreated(Type type, Set<Annotation> qualifiers, Annotation scope, long nanos);
+
+  /**
+   * Called when the injector created a proxy for a scoped type.
+   *
+   * @param type the {@link Type} of the candidate, never {@code null}
+   * @param qualifiers a set of qualifier {@link Annotation}s of the candidate, never {@code null} but can be empty
+   * @param scope the scope {@link Annotation}, never {@code null}
+   */
+  void proxyCreated(Type type, Set<Annotation> qualifiers, Annotation scope);
+
+  /**
+   * Called when the injector registered a batch of types. The time spent is split
+   * into discovering the candidates, validating them and committing them to the
+   * injector.
+   *
+   * @param types a collection of {@link Type}s which were registered, never {@code null}
+   * @param candidateCount the number of candidates registered
+   * @param discoverNanos the time in nanoseconds spent discovering candidates
+   * @param validateNanos the time in nanoseconds spent validating candidates
+   * @param commitNanos the time in nanoseconds spent committing candidates
+   */
+  void typesRegistered(Collection<Type> types, int candidateCount, long discoverNanos, long validateNanos, long commitNanos);
+}
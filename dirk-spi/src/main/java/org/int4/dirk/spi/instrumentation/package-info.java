@@ -0,0 +1,4 @@
+/**
+ * Provides the interface for listeners which instrument an injector.
+ */
+package org.int4.dirk.spi.instrumentation;
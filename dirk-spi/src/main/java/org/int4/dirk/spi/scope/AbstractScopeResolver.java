@@ -1,5 +1,6 @@
 package org.int4.dirk.spi.scope;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -26,9 +27,14 @@ public abstract class AbstractScopeResolver<S> implements ScopeResolver {
       throw new ScopeNotActiveException("Scope not active: " + getAnnotation() + " for: " + key);
     }
 
-    Map<Object, CreationalContext<?>> map = instancesByScope.get(currentScope);
+    return find(currentScope, key);
+  }
 
-    return map == null ? null : map.get(key);
+  @Override
+  public final CreationalContext<?> tryFind(Object key) {
+    S currentScope = getCurrentScope();
+
+    return currentScope == null ? null : find(currentScope, key);
   }
 
   @Override
@@ -61,6 +67,23 @@ public abstract class AbstractScopeResolver<S> implements ScopeResolver {
     }
   }
 
+  @Override
+  public final Map<Object, Integer> getInstanceCounts() {
+    Map<Object, Integer> counts = new HashMap<>();
+
+    for(Map.Entry<S, Map<Object, CreationalContext<?>>> entry : instancesByScope.entrySet()) {
+      counts.put(entry.getKey(), entry.getValue().size());
+    }
+
+    return counts;
+  }
+
+  private CreationalContext<?> find(S scope, Object key) {
+    Map<Object, CreationalContext<?>> map = instancesByScope.get(scope);
+
+    return map == null ? null : map.get(key);
+  }
+
   /**
    * Returns the current scope, or {@code null} if there is no current scope.
    *
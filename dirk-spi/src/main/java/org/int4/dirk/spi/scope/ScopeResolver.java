@@ -1,6 +1,7 @@
 package org.int4.dirk.spi.scope;
 
 import java.lang.annotation.Annotation;
+import java.util.Map;
 
 import org.int4.dirk.api.scope.ScopeNotActiveException;
 
@@ -35,6 +36,26 @@ public interface ScopeResolver {
    */
   CreationalContext<?> find(Object key) throws ScopeNotActiveException;
 
+  /**
+   * Find an existing {@link CreationalContext} by key in the current active scope,
+   * or return {@code null} if no context was found with the given key or no scope
+   * is active. Unlike {@link #find(Object)}, this method does not report an inactive
+   * scope with an exception.
+   *
+   * <p>The default implementation calls {@link #find(Object)} when the scope is active.
+   *
+   * @param key an object suitable as a key for use in a map, cannot be {@code null}
+   * @return a {@link CreationalContext} if found, otherwise {@code null}
+   */
+  default CreationalContext<?> tryFind(Object key) {
+    try {
+      return isActive() ? find(key) : null;
+    }
+    catch(ScopeNotActiveException e) {
+      return null;  // scope became inactive after it was checked
+    }
+  }
+
   /**
    * Adds a {@link CreationalContext} to this scope resolver under the given key.
    *
@@ -51,4 +72,17 @@ public interface ScopeResolver {
    */
   void remove(Object key);
 
+  /**
+   * Returns the number of instances this resolver currently holds for each of its
+   * scopes. The keys of the returned map identify the scopes, for example the scope
+   * discriminator of an {@link AbstractScopeResolver}.
+   *
+   * <p>The default implementation returns an empty map.
+   *
+   * @return a map of scopes to the number of instances held, never {@code null} but can be empty
+   */
+  default Map<Object, Integer> getInstanceCounts() {
+    return Map.of();
+  }
+
 }
@@ -59,6 +59,11 @@ public class AbstractScopeResolverTest {
         .isExactlyInstanceOf(ScopeNotActiveException.class);
     }
 
+    @Test
+    void tryFindShouldReturnNoResultWhenInactive() {
+      assertThat(scopeResolver.tryFind("key")).isNull();
+    }
+
     @Test
     void putShouldThrowScopeNotActiveExceptionWhenInactive() {
       assertThatThrownBy(() -> scopeResolver.put("key", creationalContext))
@@ -128,6 +133,11 @@ public class AbstractScopeResolverTest {
           assertThat(cachedContext).isEqualTo(creationalContext);
         }
 
+        @Test
+        void tryFindShouldGetCachedInstance() {
+          assertThat(scopeResolver.tryFind("key")).isEqualTo(creationalContext);
+        }
+
         @Test
         void removeShouldIngoreNonExistingKeys() {
           assertThatCode(() -> scopeResolver.remove("missing-key")).doesNotThrowAnyException();
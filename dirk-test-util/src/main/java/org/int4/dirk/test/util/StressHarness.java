@@ -0,0 +1,352 @@
+package org.int4.dirk.test.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a set of operations concurrently from a number of threads for a fixed duration,
+ * and checks a set of invariants once all threads have stopped.<p>
+ *
+ * Each thread cycles through the operations in the order they were added, starting
+ * at a different operation for each thread. Failing operations are recorded and do not
+ * stop the run. Running with increasing thread counts using {@link #scale(int...)} shows
+ * how throughput scales.
+ */
+public class StressHarness {
+  private static final int MAX_RECORDED_FAILURES = 100;
+  private static final Duration GRACE_PERIOD = Duration.ofSeconds(10);
+
+  private final Duration duration;
+  private final Map<String, Operation> operations = new LinkedHashMap<>();
+  private final Map<String, Runnable> invariants = new LinkedHashMap<>();
+
+  /**
+   * An operation to run concurrently.
+   */
+  public interface Operation {
+
+    /**
+     * Runs the operation.
+     *
+     * @param threadIndex the index of the thread running the operation, starting at zero
+     * @throws Exception when the operation fails
+     */
+    void run(int threadIndex) throws Exception;
+  }
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param duration the duration of each run, cannot be {@code null} or negative
+   */
+  public StressHarness(Duration duration) {
+    if(Objects.requireNonNull(duration, "duration cannot be null").isNegative()) {
+      throw new IllegalArgumentException("duration cannot be negative: " + duration);
+    }
+
+    this.duration = duration;
+  }
+
+  /**
+   * Adds an operation to run concurrently.
+   *
+   * @param name a unique name for the operation, cannot be {@code null}
+   * @param operation an {@link Operation}, cannot be {@code null}
+   * @return this harness, never {@code null}
+   */
+  public StressHarness operation(String name, Operation operation) {
+    if(operations.putIfAbsent(Objects.requireNonNull(name, "name cannot be null"), Objects.requireNonNull(operation, "operation cannot be null")) != null) {
+      throw new IllegalArgumentException("name already used: " + name);
+    }
+
+    return this;
+  }
+
+  /**
+   * Adds an invariant which is checked after each run, once all threads have stopped.
+   * The invariant is violated when the check throws an exception or error.
+   *
+   * @param name a unique name for the invariant, cannot be {@code null}
+   * @param check a check which throws an exception or error when the invariant is violated, cannot be {@code null}
+   * @return this harness, never {@code null}
+   */
+  public StressHarness invariant(String name, Runnable check) {
+    if(invariants.putIfAbsent(Objects.requireNonNull(name, "name cannot be null"), Objects.requireNonNull(check, "check cannot be null")) != null) {
+      throw new IllegalArgumentException("name already used: " + name);
+    }
+
+    return this;
+  }
+
+  /**
+   * Runs the operations with each of the given thread counts in turn.
+   *
+   * @param threadCounts an array of thread counts, cannot be {@code null}
+   * @return a {@link Report}, never {@code null}
+   * @throws InterruptedException when interrupted while waiting for a run to finish
+   */
+  public Report scale(int... threadCounts) throws InterruptedException {
+    List<Result> results = new ArrayList<>();
+
+    for(int threadCount : threadCounts) {
+      results.add(run(threadCount));
+    }
+
+    return new Report(results);
+  }
+
+  /**
+   * Runs the operations with the given number of threads, then checks the invariants.
+   *
+   * @param threadCount the number of threads to use, must be positive
+   * @return a {@link Result}, never {@code null}
+   * @throws InterruptedException when interrupted while waiting for the run to finish
+   */
+  public Result run(int threadCount) throws InterruptedException {
+    if(threadCount < 1) {
+      throw new IllegalArgumentException("threadCount must be positive: " + threadCount);
+    }
+    if(operations.isEmpty()) {
+      throw new IllegalStateException("at least one operation must be added");
+    }
+
+    List<String> names = new ArrayList<>(operations.keySet());
+    List<Operation> list = new ArrayList<>(operations.values());
+    LongAdder[] counts = new LongAdder[list.size()];
+    Failures failures = new Failures();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+
+    for(int i = 0; i < counts.length; i++) {
+      counts[i] = new LongAdder();
+    }
+
+    for(int i = 0; i < threadCount; i++) {
+      int threadIndex = i;
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        }
+        catch(InterruptedException e) {
+          return;
+        }
+
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        for(int n = threadIndex; System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted(); n++) {
+          int index = n % list.size();
+
+          try {
+            list.get(index).run(threadIndex);
+            counts[index].increment();
+          }
+          catch(Exception | AssertionError e) {
+            failures.add(new IllegalStateException("Operation '" + names.get(index) + "' failed on thread " + threadIndex, e));
+          }
+        }
+      }, "stress-" + i);
+
+      thread.setDaemon(true);
+      thread.start();
+      threads.add(thread);
+    }
+
+    long startNanos = System.nanoTime();
+
+    start.countDown();
+
+    long deadline = startNanos + duration.plus(GRACE_PERIOD).toNanos();
+
+    for(Thread thread : threads) {
+      thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+
+      if(thread.isAlive()) {
+        IllegalStateException exception = new IllegalStateException("Thread " + thread.getName() + " did not finish in time");
+
+        exception.setStackTrace(thread.getStackTrace());
+        failures.add(exception);
+        thread.interrupt();
+      }
+    }
+
+    long elapsedNanos = System.nanoTime() - startNanos;
+
+    for(Map.Entry<String, Runnable> entry : invariants.entrySet()) {
+      try {
+        entry.getValue().run();
+      }
+      catch(Exception | AssertionError e) {
+        failures.add(new IllegalStateException("Invariant '" + entry.getKey() + "' violated after run with " + threadCount + " thread(s)", e));
+      }
+    }
+
+    Map<String, Long> operationCounts = new LinkedHashMap<>();
+
+    for(int i = 0; i < counts.length; i++) {
+      operationCounts.put(names.get(i), counts[i].sum());
+    }
+
+    return new Result(threadCount, elapsedNanos, operationCounts, failures.count.get(), new ArrayList<>(failures.recorded));
+  }
+
+  private static class Failures {
+    final AtomicInteger count = new AtomicInteger();
+    final ConcurrentLinkedQueue<Throwable> recorded = new ConcurrentLinkedQueue<>();
+
+    void add(Throwable failure) {
+      if(count.incrementAndGet() <= MAX_RECORDED_FAILURES) {
+        recorded.add(failure);
+      }
+    }
+  }
+
+  /**
+   * The result of a single run.
+   */
+  public static class Result {
+    private final int threadCount;
+    private final long elapsedNanos;
+    private final Map<String, Long> operationCounts;
+    private final int failureCount;
+    private final List<Throwable> failures;
+
+    Result(int threadCount, long elapsedNanos, Map<String, Long> operationCounts, int failureCount, List<Throwable> failures) {
+      this.threadCount = threadCount;
+      this.elapsedNanos = elapsedNanos;
+      this.operationCounts = Collections.unmodifiableMap(operationCounts);
+      this.failureCount = failureCount;
+      this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Returns the number of threads used.
+     *
+     * @return the number of threads used, always positive
+     */
+    public int getThreadCount() {
+      return threadCount;
+    }
+
+    /**
+     * Returns the number of successfully completed operations by operation name.
+     *
+     * @return a map of operation name to count, never {@code null}
+     */
+    public Map<String, Long> getOperationCounts() {
+      return operationCounts;
+    }
+
+    /**
+     * Returns the total number of successfully completed operations.
+     *
+     * @return the total number of successfully completed operations, never negative
+     */
+    public long getTotalOperationCount() {
+      return operationCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the number of successfully completed operations per second.
+     *
+     * @return the number of successfully completed operations per second, never negative
+     */
+    public double getThroughput() {
+      return getTotalOperationCount() * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    /**
+     * Returns the total number of failures, including failures which were
+     * not recorded.
+     *
+     * @return the total number of failures, never negative
+     */
+    public int getFailureCount() {
+      return failureCount;
+    }
+
+    /**
+     * Returns the recorded failures of operations, threads which did not finish
+     * in time and violated invariants. At most the first 100 failures are recorded.
+     *
+     * @return a list of failures, never {@code null}
+     */
+    public List<Throwable> getFailures() {
+      return failures;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d thread(s): %.0f ops/s, %d failure(s), %s", threadCount, getThroughput(), failureCount, operationCounts);
+    }
+  }
+
+  /**
+   * The results of runs with increasing thread counts.
+   */
+  public static class Report {
+    private final List<Result> results;
+
+    Report(List<Result> results) {
+      this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Returns the results in the order the runs were made.
+     *
+     * @return a list of {@link Result}s, never {@code null}
+     */
+    public List<Result> getResults() {
+      return results;
+    }
+
+    /**
+     * Returns the total number of failures of all runs.
+     *
+     * @return the total number of failures of all runs, never negative
+     */
+    public int getFailureCount() {
+      return results.stream().mapToInt(Result::getFailureCount).sum();
+    }
+
+    /**
+     * Returns the recorded failures of all runs.
+     *
+     * @return a list of failures, never {@code null}
+     */
+    public List<Throwable> getFailures() {
+      List<Throwable> failures = new ArrayList<>();
+
+      for(Result result : results) {
+        failures.addAll(result.getFailures());
+      }
+
+      return failures;
+    }
+
+    /**
+     * Returns a table with the throughput of each run, and the speed up relative
+     * to the first run.
+     */
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder(String.format("%8s %14s %8s %9s%n", "threads", "ops/s", "speedup", "failures"));
+      double baseline = results.isEmpty() ? 0 : results.get(0).getThroughput();
+
+      for(Result result : results) {
+        builder.append(String.format("%8d %14.0f %7.2fx %9d%n", result.getThreadCount(), result.getThroughput(), baseline == 0 ? 0 : result.getThroughput() / baseline, result.getFailureCount()));
+      }
+
+      return builder.toString();
+    }
+  }
+}